@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.organization.management.service.cache.MinimalOrganizationCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.MinimalOrganizationCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationDetailsCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationDetailsCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationIdCacheByTenantDomain;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationIdCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationIdCacheKey;
+import org.wso2.carbon.identity.organization.management.service.cache.TenantDomainCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.TenantDomainCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.TenantDomainCacheKey;
+import org.wso2.carbon.identity.organization.management.service.dao.OrganizationManagementDAO;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.organization.management.service.model.MinimalOrganization;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationHierarchyDO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Loads the organizations associated with a tenant into the organization caches, so that a node does not start with
+ * cold caches. The organizations are read in pages ordered by the organization ID until the configured number of
+ * organizations is loaded, and the tenant domain, organization ID, organization details and minimal organization
+ * caches are populated for each page.
+ */
+public class OrganizationCacheWarmer {
+
+    private static final Log LOG = LogFactory.getLog(OrganizationCacheWarmer.class);
+
+    private final OrganizationManagementDAO organizationManagementDAO;
+    private final int organizationLimit;
+    private final int pageSize;
+
+    public OrganizationCacheWarmer(OrganizationManagementDAO organizationManagementDAO, int organizationLimit,
+                                   int pageSize) {
+
+        this.organizationManagementDAO = organizationManagementDAO;
+        this.organizationLimit = organizationLimit;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Load the organizations into the caches.
+     *
+     * @return The number of organizations loaded into the caches.
+     * @throws OrganizationManagementServerException The server exception thrown when reading the organizations.
+     */
+    public int warmUp() throws OrganizationManagementServerException {
+
+        long startTime = System.currentTimeMillis();
+        int loadedOrganizationCount = 0;
+        String lastOrganizationId = null;
+        List<MinimalOrganization> organizations;
+        int limit;
+        do {
+            limit = Math.min(pageSize, organizationLimit - loadedOrganizationCount);
+            if (limit <= 0) {
+                break;
+            }
+            organizations = loadPage(lastOrganizationId, limit);
+            if (organizations.isEmpty()) {
+                break;
+            }
+            loadedOrganizationCount += organizations.size();
+            lastOrganizationId = organizations.get(organizations.size() - 1).getId();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Loaded " + loadedOrganizationCount + " organizations into the organization caches.");
+            }
+        } while (organizations.size() == limit);
+
+        LOG.info("Organization cache warm-up completed for " + loadedOrganizationCount + " organizations in " +
+                (System.currentTimeMillis() - startTime) + " ms.");
+        return loadedOrganizationCount;
+    }
+
+    /**
+     * Read a page of organizations and load them into the caches. The invalidation stamps of the caches are taken
+     * before the page is read, such that an organization changed while the page is loaded is not put into the caches
+     * with its details read before the change.
+     *
+     * @param lastOrganizationId The ID of the last organization of the previous page, or null for the first page.
+     * @param limit              The maximum number of organizations in the page.
+     * @return The organizations of the page.
+     * @throws OrganizationManagementServerException The server exception thrown when reading the organizations.
+     */
+    private List<MinimalOrganization> loadPage(String lastOrganizationId, int limit)
+            throws OrganizationManagementServerException {
+
+        TenantDomainCacheByOrgId tenantDomainCache = TenantDomainCacheByOrgId.getInstance();
+        OrganizationIdCacheByTenantDomain organizationIdCache = OrganizationIdCacheByTenantDomain.getInstance();
+        OrganizationDetailsCacheByOrgId organizationDetailsCache = OrganizationDetailsCacheByOrgId.getInstance();
+        MinimalOrganizationCacheByOrgId minimalOrganizationCache = MinimalOrganizationCacheByOrgId.getInstance();
+        long tenantDomainStamp = tenantDomainCache.getInvalidationStamp();
+        long organizationIdStamp = organizationIdCache.getInvalidationStamp();
+        long organizationDetailsStamp = organizationDetailsCache.getInvalidationStamp();
+        long minimalOrganizationStamp = minimalOrganizationCache.getInvalidationStamp();
+
+        List<MinimalOrganization> organizations =
+                organizationManagementDAO.getMinimalOrganizations(lastOrganizationId, limit);
+        if (organizations.isEmpty()) {
+            return organizations;
+        }
+        List<String> organizationIds = organizations.stream().map(MinimalOrganization::getId)
+                .collect(Collectors.toList());
+        Map<String, List<OrganizationHierarchyDO>> hierarchyEntries = new HashMap<>();
+        for (OrganizationHierarchyDO entry :
+                organizationManagementDAO.getOrganizationHierarchyEntries(organizationIds)) {
+            hierarchyEntries.computeIfAbsent(entry.getId(), k -> new ArrayList<>()).add(entry);
+        }
+
+        for (MinimalOrganization organization : organizations) {
+            String organizationId = organization.getId();
+            String tenantDomain = organization.getOrganizationHandle();
+            if (StringUtils.isBlank(tenantDomain)) {
+                continue;
+            }
+            OrganizationIdCacheKey organizationIdCacheKey = new OrganizationIdCacheKey(organizationId);
+            tenantDomainCache.addToCacheOnRead(organizationIdCacheKey, new TenantDomainCacheEntry(tenantDomain),
+                    SUPER_TENANT_DOMAIN_NAME, tenantDomainStamp);
+            organizationIdCache.addToCacheOnRead(new TenantDomainCacheKey(tenantDomain),
+                    new OrganizationIdCacheEntry(organizationId), SUPER_TENANT_DOMAIN_NAME, organizationIdStamp);
+            organizationDetailsCache.addToCacheOnRead(organizationIdCacheKey,
+                    buildOrganizationDetails(organization, hierarchyEntries.get(organizationId)), tenantDomain,
+                    organizationDetailsStamp);
+            minimalOrganizationCache.addToCacheOnRead(organizationIdCacheKey,
+                    new MinimalOrganizationCacheEntry(organization), tenantDomain, minimalOrganizationStamp);
+        }
+        return organizations;
+    }
+
+    private OrganizationDetailsCacheEntry buildOrganizationDetails(MinimalOrganization organization,
+                                                                   List<OrganizationHierarchyDO> hierarchyEntries) {
+
+        OrganizationDetailsCacheEntry.Builder builder = new OrganizationDetailsCacheEntry.Builder()
+                .setOrgName(organization.getName())
+                .setStatus(organization.getStatus());
+        if (hierarchyEntries != null) {
+            // Ancestors are ordered from the organization itself up to the root, as in the ancestor lookups.
+            hierarchyEntries.sort(Comparator.comparingInt(OrganizationHierarchyDO::getDepth));
+            builder.setAncestorOrganizationIds(hierarchyEntries.stream().map(OrganizationHierarchyDO::getParentId)
+                    .collect(Collectors.toList()))
+                    .setOrganizationDepthInHierarchy(hierarchyEntries.get(hierarchyEntries.size() - 1).getDepth());
+        }
+        return builder.build();
+    }
+}
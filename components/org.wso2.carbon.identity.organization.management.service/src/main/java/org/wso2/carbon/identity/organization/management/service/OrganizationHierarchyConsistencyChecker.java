@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.organization.management.service.dao.OrganizationManagementDAO;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationHierarchyConsistencyReport;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationHierarchyDO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.HIERARCHY_CONSISTENCY_CHECK_CHUNK_SIZE;
+
+/**
+ * Checks the organization hierarchy entries against the parent organization of each organization. The organizations
+ * are read in chunks ordered by the organization ID, and only the entries and the ancestors of the organizations in
+ * the current chunk are held in memory. Missing, extra and wrong depth entries can optionally be repaired chunk by
+ * chunk.
+ */
+public class OrganizationHierarchyConsistencyChecker {
+
+    private static final Log LOG = LogFactory.getLog(OrganizationHierarchyConsistencyChecker.class);
+
+    private final OrganizationManagementDAO organizationManagementDAO;
+    private final int chunkSize;
+
+    public OrganizationHierarchyConsistencyChecker(OrganizationManagementDAO organizationManagementDAO) {
+
+        this(organizationManagementDAO, HIERARCHY_CONSISTENCY_CHECK_CHUNK_SIZE);
+    }
+
+    public OrganizationHierarchyConsistencyChecker(OrganizationManagementDAO organizationManagementDAO,
+                                                   int chunkSize) {
+
+        this.organizationManagementDAO = organizationManagementDAO;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Check the consistency of the whole organization hierarchy.
+     *
+     * @param repair Whether the inconsistent hierarchy entries should be repaired.
+     * @return The consistency report.
+     * @throws OrganizationManagementServerException The server exception thrown when reading or repairing the
+     *                                               organization hierarchy.
+     */
+    public OrganizationHierarchyConsistencyReport check(boolean repair) throws OrganizationManagementServerException {
+
+        OrganizationHierarchyConsistencyReport report = new OrganizationHierarchyConsistencyReport();
+        String lastOrganizationId = null;
+        Map<String, String> organizationParentIds;
+        do {
+            organizationParentIds = organizationManagementDAO.getOrganizationParentIds(lastOrganizationId, chunkSize);
+            if (organizationParentIds.isEmpty()) {
+                break;
+            }
+            checkChunk(organizationParentIds, repair, report);
+            for (String organizationId : organizationParentIds.keySet()) {
+                lastOrganizationId = organizationId;
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Checked the hierarchy of " + report.getCheckedOrganizationCount() + " organizations.");
+            }
+        } while (organizationParentIds.size() == chunkSize);
+
+        LOG.info("Organization hierarchy consistency check completed for " + report.getCheckedOrganizationCount() +
+                " organizations. Missing entries: " + report.getMissingEntryCount() + ", extra entries: " +
+                report.getExtraEntryCount() + ", wrong depth entries: " + report.getWrongDepthEntryCount() +
+                ", repaired entries: " + report.getRepairedEntryCount() + ".");
+        return report;
+    }
+
+    private void checkChunk(Map<String, String> organizationParentIds, boolean repair,
+                            OrganizationHierarchyConsistencyReport report)
+            throws OrganizationManagementServerException {
+
+        Map<String, String> knownParentIds = new HashMap<>(organizationParentIds);
+        resolveAncestorParentIds(knownParentIds);
+        Map<String, Map<String, Integer>> actualAncestorDepths = new HashMap<>();
+        for (OrganizationHierarchyDO entry :
+                organizationManagementDAO.getOrganizationHierarchyEntries(organizationParentIds.keySet())) {
+            actualAncestorDepths.computeIfAbsent(entry.getId(), k -> new HashMap<>())
+                    .put(entry.getParentId(), entry.getDepth());
+        }
+
+        List<OrganizationHierarchyDO> entriesToDelete = new ArrayList<>();
+        List<OrganizationHierarchyDO> entriesToAdd = new ArrayList<>();
+        long inconsistentEntryCount = 0;
+        for (String organizationId : organizationParentIds.keySet()) {
+            Map<String, Integer> expectedDepths = getExpectedAncestorDepths(organizationId, knownParentIds);
+            Map<String, Integer> actualDepths =
+                    actualAncestorDepths.getOrDefault(organizationId, Collections.emptyMap());
+            long organizationInconsistentEntryCount = 0;
+            for (Map.Entry<String, Integer> expectedDepth : expectedDepths.entrySet()) {
+                Integer actualDepth = actualDepths.get(expectedDepth.getKey());
+                if (actualDepth == null) {
+                    report.addMissingEntries(1);
+                } else if (actualDepth.intValue() != expectedDepth.getValue()) {
+                    report.addWrongDepthEntries(1);
+                    entriesToDelete.add(new OrganizationHierarchyDO(expectedDepth.getKey(), organizationId,
+                            actualDepth));
+                } else {
+                    continue;
+                }
+                entriesToAdd.add(new OrganizationHierarchyDO(expectedDepth.getKey(), organizationId,
+                        expectedDepth.getValue()));
+                organizationInconsistentEntryCount++;
+            }
+            for (Map.Entry<String, Integer> actualDepth : actualDepths.entrySet()) {
+                if (!expectedDepths.containsKey(actualDepth.getKey())) {
+                    report.addExtraEntries(1);
+                    entriesToDelete.add(new OrganizationHierarchyDO(actualDepth.getKey(), organizationId,
+                            actualDepth.getValue()));
+                    organizationInconsistentEntryCount++;
+                }
+            }
+            if (organizationInconsistentEntryCount > 0) {
+                report.addInconsistentOrganizationId(organizationId);
+                inconsistentEntryCount += organizationInconsistentEntryCount;
+            }
+        }
+        report.addCheckedOrganizations(organizationParentIds.size());
+
+        if (repair && inconsistentEntryCount > 0) {
+            organizationManagementDAO.repairOrganizationHierarchy(entriesToDelete, entriesToAdd);
+            report.addRepairedEntries(inconsistentEntryCount);
+        }
+    }
+
+    /**
+     * Fetch the parent organization IDs of the ancestors of the given organizations level by level, until the
+     * parent of every known organization is known.
+     */
+    private void resolveAncestorParentIds(Map<String, String> knownParentIds)
+            throws OrganizationManagementServerException {
+
+        Set<String> unresolvedOrganizationIds = getUnresolvedParentIds(knownParentIds.values(), knownParentIds);
+        while (!unresolvedOrganizationIds.isEmpty()) {
+            Map<String, String> fetchedParentIds =
+                    organizationManagementDAO.getOrganizationParentIds(unresolvedOrganizationIds);
+            knownParentIds.putAll(fetchedParentIds);
+            // Organizations which do not exist end the ancestor chain.
+            unresolvedOrganizationIds.forEach(organizationId -> knownParentIds.putIfAbsent(organizationId, null));
+            unresolvedOrganizationIds = getUnresolvedParentIds(fetchedParentIds.values(), knownParentIds);
+        }
+    }
+
+    private Set<String> getUnresolvedParentIds(Iterable<String> parentIds, Map<String, String> knownParentIds) {
+
+        Set<String> unresolvedParentIds = new HashSet<>();
+        for (String parentId : parentIds) {
+            if (parentId != null && !knownParentIds.containsKey(parentId)) {
+                unresolvedParentIds.add(parentId);
+            }
+        }
+        return unresolvedParentIds;
+    }
+
+    private Map<String, Integer> getExpectedAncestorDepths(String organizationId, Map<String, String> knownParentIds) {
+
+        Map<String, Integer> expectedDepths = new LinkedHashMap<>();
+        String ancestorId = organizationId;
+        int depth = 0;
+        // A cycle in the parent organizations ends the ancestor chain at the first repeated organization.
+        while (ancestorId != null && !expectedDepths.containsKey(ancestorId)) {
+            expectedDepths.put(ancestorId, depth++);
+            ancestorId = knownParentIds.get(ancestorId);
+        }
+        return expectedDepths;
+    }
+}
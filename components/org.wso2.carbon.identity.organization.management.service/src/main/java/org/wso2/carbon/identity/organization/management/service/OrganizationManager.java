@@ -24,9 +24,11 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.MinimalOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationHierarchyConsistencyReport;
 import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
 import org.wso2.carbon.identity.organization.management.service.model.PatchOperation;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +46,20 @@ public interface OrganizationManager {
      */
     Organization addOrganization(Organization organization) throws OrganizationManagementException;
 
+    /**
+     * Create a batch of new {@link Organization}s in the database. The organizations should be ordered so that a
+     * parent organization is listed before its child organizations.
+     *
+     * @param organizations The organizations to be created.
+     * @return The newly created organizations.
+     * @throws OrganizationManagementException The exception thrown when creating the organizations.
+     */
+    default List<Organization> addOrganizations(List<Organization> organizations)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("addOrganizations is not implemented in " + this.getClass().getName());
+    }
+
     /**
      * Check if the {@link Organization} exists by name.
      *
@@ -134,6 +150,22 @@ public interface OrganizationManager {
                 "implemented in " + this.getClass().getName());
     }
 
+    /**
+     * Returns the list of child organizations for a given organization in a tree structure, up to the given number
+     * of levels below the organization.
+     *
+     * @param organizationId The organization ID.
+     * @param maxDepth       The maximum depth of the child organizations relative to the given organization.
+     * @return the list of Child organizations in a tree structure ({@link OrganizationNode}).
+     * @throws OrganizationManagementException exception is thrown when listing organizations.
+     */
+    default List<OrganizationNode> getChildOrganizationGraph(String organizationId, int maxDepth)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("getChildOrganizationGraph(organizationId, maxDepth) is not " +
+                "implemented in " + this.getClass().getName());
+    }
+
     /**
      * Returns the unique identifiers of the child organizations for a given organization.
      *
@@ -149,6 +181,52 @@ public interface OrganizationManager {
                 "implemented in " + this.getClass().getName());
     }
 
+    /**
+     * Returns the unique identifiers of the child organizations for a given organization, up to the given number of
+     * levels below the organization.
+     *
+     * @param organizationId The organization ID.
+     * @param maxDepth       The maximum depth of the child organizations relative to the given organization.
+     * @return the list of Child organization IDs.
+     * @throws OrganizationManagementException exception is thrown when listing organizations.
+     */
+    default List<String> getChildOrganizationsIds(String organizationId, int maxDepth)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("getChildOrganizationsIds(organizationId, maxDepth) is not " +
+                "implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * Count the descendant organizations of a given organization, up to the given number of levels below the
+     * organization.
+     *
+     * @param organizationId The organization ID.
+     * @param maxDepth       The maximum depth of the descendants relative to the given organization.
+     * @return the number of descendant organizations.
+     * @throws OrganizationManagementException exception is thrown when counting the organizations.
+     */
+    default int countDescendants(String organizationId, int maxDepth) throws OrganizationManagementException {
+
+        throw new NotImplementedException("countDescendants is not implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * Count the descendant organizations of each immediate child organization of a given organization, up to the
+     * given number of levels below each child organization.
+     *
+     * @param organizationId The organization ID.
+     * @param maxDepth       The maximum depth of the descendants relative to each child organization.
+     * @return the child organization IDs against their number of descendant organizations.
+     * @throws OrganizationManagementException exception is thrown when counting the organizations.
+     */
+    default Map<String, Integer> countDescendantsOfChildOrganizations(String organizationId, int maxDepth)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("countDescendantsOfChildOrganizations is not implemented in " +
+                this.getClass().getName());
+    }
+
     /**
      * Returns the unique identifiers of the child organizations for a given organization.
      *
@@ -247,6 +325,31 @@ public interface OrganizationManager {
      */
     void deleteOrganization(String organizationId) throws OrganizationManagementException;
 
+    /**
+     * Delete the organization identified by the provided ID along with all of its descendants.
+     *
+     * @param organizationId The organization ID.
+     * @throws OrganizationManagementException The exception thrown when deleting the organizations.
+     */
+    default void deleteOrganizationSubtree(String organizationId) throws OrganizationManagementException {
+
+        throw new NotImplementedException("deleteOrganizationSubtree is not implemented in " +
+                this.getClass().getName());
+    }
+
+    /**
+     * Move the organization identified by the provided ID, along with its descendants, under a new parent
+     * organization. Only sub organizations can be moved, and only within their primary organization.
+     *
+     * @param organizationId The ID of the organization to be moved.
+     * @param newParentId    The ID of the new parent organization.
+     * @throws OrganizationManagementException The exception thrown when moving an organization.
+     */
+    default void moveOrganization(String organizationId, String newParentId) throws OrganizationManagementException {
+
+        throw new NotImplementedException("moveOrganization is not implemented in " + this.getClass().getName());
+    }
+
     /**
      * Patch organization and its attributes.
      *
@@ -476,4 +579,99 @@ public interface OrganizationManager {
 
         throw new NotImplementedException("getMinimalOrganization is not implemented in " + this.getClass().getName());
     }
+
+    /**
+     * Get ancestor organization ids (including themselves) of a given set of organizations.
+     *
+     * @param organizationIds Organization ids.
+     * @return Map of organization ids against the list of their ancestor organization ids including themselves,
+     * ordered from the organization itself to the furthest ancestor. Organizations which do not exist are omitted.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the ancestor
+     *                                               organization ids.
+     */
+    default Map<String, List<String>> getAncestorOrganizationIds(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getAncestorOrganizationIds(organizationIds) is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Get the lowest common ancestor of two organizations. An organization is considered an ancestor of itself.
+     *
+     * @param firstOrgId  The first organization id.
+     * @param secondOrgId The second organization id.
+     * @return The id of the deepest organization which is an ancestor of both organizations, or null if either
+     * organization does not exist.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the ancestor.
+     */
+    default String getLowestCommonAncestor(String firstOrgId, String secondOrgId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getLowestCommonAncestor(firstOrgId, secondOrgId) is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Get the lowest common ancestor of a given set of organizations. An organization is considered an ancestor of
+     * itself.
+     *
+     * @param organizationIds Organization ids.
+     * @return The id of the deepest organization which is an ancestor of all the organizations, or null if the set
+     * is empty or any of the organizations does not exist.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the ancestor.
+     */
+    default String getLowestCommonAncestor(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getLowestCommonAncestor(organizationIds) is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Check whether the organization hierarchy entries are consistent with the parent organization of each
+     * organization, and optionally repair the inconsistent entries.
+     *
+     * @param repair Whether the inconsistent hierarchy entries should be repaired.
+     * @return The report of the consistency check.
+     * @throws OrganizationManagementServerException The server exception thrown when checking or repairing the
+     *                                               organization hierarchy.
+     */
+    default OrganizationHierarchyConsistencyReport checkOrganizationHierarchyConsistency(boolean repair)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("checkOrganizationHierarchyConsistency is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Clear the cached organization permissions of a user. Components modifying the roles of the user, or the role
+     * assignments of the user in the organization, should call this to reflect the change before the cached
+     * permissions expire.
+     *
+     * @param organizationId The organization ID.
+     * @param userId         Unique identifier of the user.
+     * @throws OrganizationManagementServerException The server exception thrown when clearing the permissions.
+     */
+    default void clearOrganizationPermissionCache(String organizationId, String userId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("clearOrganizationPermissionCache is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Clear the cached organization permissions of all the users of an organization. Components modifying the
+     * permissions of a role of the organization should call this to reflect the change before the cached
+     * permissions expire.
+     *
+     * @param organizationId The organization ID.
+     * @throws OrganizationManagementServerException The server exception thrown when clearing the permissions.
+     */
+    default void clearOrganizationPermissionCache(String organizationId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("clearOrganizationPermissionCache(organizationId) is not implemented in "
+                + this.getClass().getName());
+    }
 }
@@ -43,6 +43,7 @@ import org.wso2.carbon.identity.organization.management.service.model.ChildOrgan
 import org.wso2.carbon.identity.organization.management.service.model.MinimalOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
 import org.wso2.carbon.identity.organization.management.service.model.OrganizationAttribute;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationHierarchyConsistencyReport;
 import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
 import org.wso2.carbon.identity.organization.management.service.model.ParentOrganizationDO;
 import org.wso2.carbon.identity.organization.management.service.model.PatchOperation;
@@ -64,7 +65,13 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -85,6 +92,7 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ATTRIBUTE_VALUE_MISSING;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_CREATE_REQUEST_PARENT_ORGANIZATION_IS_DISABLED;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_DUPLICATE_ATTRIBUTE_KEYS;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_DUPLICATE_ORGANIZATION_IDS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_ACTIVATING_ORGANIZATION_TENANT;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_ADDING_TENANT_TYPE_ORGANIZATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_ORGANIZATION_EXIST_BY_HANDLE;
@@ -96,9 +104,11 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_CURSOR_FOR_PAGINATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_FILTER_FORMAT;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_FILTER_TIMESTAMP_FORMAT;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_MAX_DEPTH;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_NEW_ORGANIZATION_VERSION_CONFIGURED;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_ORGANIZATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_ORGANIZATION_ID;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_ORGANIZATION_MOVE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_ORGANIZATION_TYPE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_PATCH_OPERATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_TENANT_TYPE_ORGANIZATION;
@@ -114,6 +124,7 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ORGANIZATION_TYPE_UNDEFINED;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ORGANIZATION_VERSION_UPDATE_NOT_ALLOWED;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_PARENT_ORGANIZATION_IS_DISABLED;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_PARENT_ORGANIZATION_NOT_ADDED_BEFORE_CHILD;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_PATCH_OPERATION_UNDEFINED;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_PATCH_REQUEST_ATTRIBUTE_KEY_UNDEFINED;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_PATCH_REQUEST_INVALID_PATH;
@@ -204,15 +215,7 @@ public class OrganizationManagerImpl implements OrganizationManager {
 
         // Create a tenant for tenant type organization.
         if (organization instanceof TenantTypeOrganization) {
-            String organizationHandle = organization.getOrganizationHandle();
-            if (StringUtils.isBlank(organizationHandle)) {
-                organizationHandle = ((TenantTypeOrganization) organization).getDomainName();
-                if (StringUtils.isBlank(organizationHandle)) {
-                    organizationHandle = organization.getId();
-                }
-                organization.setOrganizationHandle(organizationHandle);
-            }
-            createTenant(organizationHandle, organization);
+            createTenant(resolveOrganizationHandle((TenantTypeOrganization) organization), organization);
         }
         try {
             getListener().postAddOrganization(organization);
@@ -231,6 +234,51 @@ public class OrganizationManagerImpl implements OrganizationManager {
         return organization;
     }
 
+    @Override
+    public List<Organization> addOrganizations(List<Organization> organizations)
+            throws OrganizationManagementException {
+
+        if (CollectionUtils.isEmpty(organizations)) {
+            return new ArrayList<>();
+        }
+        Map<String, Integer> organizationDepths = validateAddOrganizationsRequest(organizations);
+        for (Organization organization : organizations) {
+            setCreatedAndLastModifiedTime(organization);
+            getListener().preAddOrganization(organization);
+            setOrganizationOwnerInformation(organization);
+            setOrganizationVersion(organization, isSubOrganization(organizationDepths.get(organization.getId())));
+        }
+        organizationManagementDAO.addOrganizations(organizations);
+
+        // Create a tenant for each tenant type organization. A failure rolls back the whole batch.
+        List<String> organizationIds = organizations.stream().map(Organization::getId).collect(Collectors.toList());
+        for (Organization organization : organizations) {
+            if (organization instanceof TenantTypeOrganization) {
+                createTenant(resolveOrganizationHandle((TenantTypeOrganization) organization), organization,
+                        organizationIds);
+            }
+        }
+        for (Organization organization : organizations) {
+            try {
+                getListener().postAddOrganization(organization);
+            } catch (OrganizationManagementException e) {
+                // Rollback created organizations.
+                try {
+                    deleteOrganizations(organizationIds);
+                } catch (OrganizationManagementException exception) {
+                    LOG.error("The server encountered an error while deleting the organizations due to a rollback " +
+                            "after a failed organization creation.", exception);
+                }
+                throw e;
+            }
+        }
+
+        for (Organization organization : organizations) {
+            resolveInheritedOrganizationVersion(organization);
+        }
+        return organizations;
+    }
+
     @Override
     public boolean isOrganizationExistByName(String organizationName) throws OrganizationManagementException {
 
@@ -354,6 +402,14 @@ public class OrganizationManagerImpl implements OrganizationManager {
         return organizationManagementDAO.getChildOrganizationGraph(organizationId, recursive);
     }
 
+    @Override
+    public List<OrganizationNode> getChildOrganizationGraph(String organizationId, int maxDepth)
+            throws OrganizationManagementException {
+
+        validateMaxDepth(maxDepth);
+        return organizationManagementDAO.getChildOrganizationGraph(organizationId, maxDepth);
+    }
+
     @Override
     public List<String> getChildOrganizationsIds(String organizationId, boolean recursive)
             throws OrganizationManagementException {
@@ -361,6 +417,29 @@ public class OrganizationManagerImpl implements OrganizationManager {
         return organizationManagementDAO.getChildOrganizationIds(organizationId, recursive);
     }
 
+    @Override
+    public List<String> getChildOrganizationsIds(String organizationId, int maxDepth)
+            throws OrganizationManagementException {
+
+        validateMaxDepth(maxDepth);
+        return organizationManagementDAO.getChildOrganizationIds(organizationId, maxDepth);
+    }
+
+    @Override
+    public int countDescendants(String organizationId, int maxDepth) throws OrganizationManagementException {
+
+        validateMaxDepth(maxDepth);
+        return organizationManagementDAO.countDescendants(organizationId, maxDepth);
+    }
+
+    @Override
+    public Map<String, Integer> countDescendantsOfChildOrganizations(String organizationId, int maxDepth)
+            throws OrganizationManagementException {
+
+        validateMaxDepth(maxDepth);
+        return organizationManagementDAO.countDescendantsOfChildOrganizations(organizationId, maxDepth);
+    }
+
     @Override
     public List<String> getChildOrganizationsIds(String organizationId)
             throws OrganizationManagementException {
@@ -563,6 +642,71 @@ public class OrganizationManagerImpl implements OrganizationManager {
         getListener().postDeleteOrganization(organizationId, organizationDepthInHierarchy);
     }
 
+    @Override
+    public void deleteOrganizationSubtree(String organizationId) throws OrganizationManagementException {
+
+        if (StringUtils.isBlank(organizationId)) {
+            throw handleClientException(ERROR_CODE_ORGANIZATION_ID_UNDEFINED);
+        }
+        String requestInvokingOrganizationId = getOrganizationId();
+        validateOrganizationAccess(requestInvokingOrganizationId, organizationId, false);
+        if (StringUtils.equals(SUPER_ORG_ID, organizationId)) {
+            throw handleClientException(ERROR_CODE_SUPER_ORG_DELETE_OR_DISABLE, organizationId);
+        }
+        // The organizations are ordered from the deepest organization to the given organization.
+        Map<String, Integer> subtreeOrganizationDepths =
+                organizationManagementDAO.getSubtreeOrganizationDepths(organizationId);
+        if (subtreeOrganizationDepths.isEmpty()) {
+            return;
+        }
+        for (String subtreeOrganizationId : subtreeOrganizationDepths.keySet()) {
+            getListener().preDeleteOrganization(subtreeOrganizationId);
+        }
+        Map<String, String> subtreeTenantUUIDs =
+                organizationManagementDAO.getTenantUUIDsOfSubtreeOrganizations(organizationId);
+        for (Map.Entry<String, String> subtreeTenantUUID : subtreeTenantUUIDs.entrySet()) {
+            try {
+                getTenantMgtService().deactivateTenant(subtreeTenantUUID.getValue());
+            } catch (TenantMgtException e) {
+                throw handleServerException(ERROR_CODE_ERROR_DEACTIVATING_ORGANIZATION_TENANT, e,
+                        subtreeTenantUUID.getKey());
+            }
+        }
+        int organizationDepthInHierarchy = organizationManagementDAO.getOrganizationDepthInHierarchy(organizationId);
+        organizationManagementDAO.deleteOrganizationSubtree(organizationId, subtreeOrganizationDepths);
+        for (Map.Entry<String, Integer> subtreeOrganizationDepth : subtreeOrganizationDepths.entrySet()) {
+            getListener().postDeleteOrganization(subtreeOrganizationDepth.getKey(),
+                    organizationDepthInHierarchy + subtreeOrganizationDepth.getValue());
+        }
+    }
+
+    @Override
+    public void moveOrganization(String organizationId, String newParentId) throws OrganizationManagementException {
+
+        if (StringUtils.isBlank(organizationId)) {
+            throw handleClientException(ERROR_CODE_ORGANIZATION_ID_UNDEFINED);
+        }
+        if (StringUtils.isBlank(newParentId)) {
+            throw handleClientException(ERROR_CODE_REQUIRED_FIELDS_MISSING, PARENT_ID_FIELD);
+        }
+        organizationId = organizationId.trim();
+        newParentId = newParentId.trim();
+        String requestInvokingOrganizationId = getOrganizationId();
+        validateOrganizationAccess(requestInvokingOrganizationId, organizationId, false);
+        validateOrganizationAccess(requestInvokingOrganizationId, newParentId, true);
+        if (!isOrganizationExistById(organizationId)) {
+            throw handleClientException(ERROR_CODE_INVALID_ORGANIZATION, organizationId);
+        }
+        validateOrganizationMove(organizationId, newParentId);
+        if (organizationManagementDAO.isImmediateChildOfParent(organizationId, newParentId)) {
+            return;
+        }
+
+        getListener().preMoveOrganization(organizationId, newParentId);
+        organizationManagementDAO.moveOrganization(organizationId, newParentId, Instant.now());
+        getListener().postMoveOrganization(organizationId, newParentId);
+    }
+
     @Override
     public Organization patchOrganization(String organizationId, List<PatchOperation> patchOperations) throws
             OrganizationManagementException {
@@ -668,6 +812,68 @@ public class OrganizationManagerImpl implements OrganizationManager {
         return organizationManagementDAO.getAncestorOrganizationIds(organizationId);
     }
 
+    @Override
+    public Map<String, List<String>> getAncestorOrganizationIds(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        if (CollectionUtils.isEmpty(organizationIds)) {
+            return new HashMap<>();
+        }
+        return organizationManagementDAO.getAncestorOrganizationIds(organizationIds);
+    }
+
+    @Override
+    public String getLowestCommonAncestor(String firstOrgId, String secondOrgId)
+            throws OrganizationManagementServerException {
+
+        if (StringUtils.isBlank(firstOrgId) || StringUtils.isBlank(secondOrgId)) {
+            return null;
+        }
+        return organizationManagementDAO.getLowestCommonAncestor(firstOrgId, secondOrgId);
+    }
+
+    @Override
+    public String getLowestCommonAncestor(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        if (CollectionUtils.isEmpty(organizationIds)) {
+            return null;
+        }
+        Set<String> distinctOrganizationIds = new LinkedHashSet<>(organizationIds);
+        Map<String, List<String>> ancestorOrganizationIds =
+                organizationManagementDAO.getAncestorOrganizationIds(distinctOrganizationIds);
+        if (ancestorOrganizationIds.size() != distinctOrganizationIds.size()) {
+            return null;
+        }
+        // Narrow down the ancestors of the first organization, which are ordered from the closest ancestor.
+        Iterator<String> organizationIdIterator = distinctOrganizationIds.iterator();
+        List<String> commonAncestorIds = new ArrayList<>(ancestorOrganizationIds.get(organizationIdIterator.next()));
+        while (organizationIdIterator.hasNext() && !commonAncestorIds.isEmpty()) {
+            commonAncestorIds.retainAll(new HashSet<>(ancestorOrganizationIds.get(organizationIdIterator.next())));
+        }
+        return commonAncestorIds.isEmpty() ? null : commonAncestorIds.get(0);
+    }
+
+    @Override
+    public OrganizationHierarchyConsistencyReport checkOrganizationHierarchyConsistency(boolean repair)
+            throws OrganizationManagementServerException {
+
+        return new OrganizationHierarchyConsistencyChecker(organizationManagementDAO).check(repair);
+    }
+
+    @Override
+    public void clearOrganizationPermissionCache(String organizationId, String userId)
+            throws OrganizationManagementServerException {
+
+        organizationManagementDAO.clearOrganizationPermissionCache(organizationId, userId);
+    }
+
+    @Override
+    public void clearOrganizationPermissionCache(String organizationId) throws OrganizationManagementServerException {
+
+        organizationManagementDAO.clearOrganizationPermissionCache(organizationId);
+    }
+
     @Override
     public List<Organization> getOrganizationsByName(String organizationName)
             throws OrganizationManagementException {
@@ -892,6 +1098,13 @@ public class OrganizationManagerImpl implements OrganizationManager {
         organization.setLastModified(now);
     }
 
+    private void validateMaxDepth(int maxDepth) throws OrganizationManagementClientException {
+
+        if (maxDepth < 1) {
+            throw handleClientException(ERROR_CODE_INVALID_MAX_DEPTH, String.valueOf(maxDepth));
+        }
+    }
+
     private void validateOrganizationDelete(String organizationId) throws OrganizationManagementException {
 
         if (StringUtils.equals(SUPER_ORG_ID, organizationId)) {
@@ -1070,6 +1283,158 @@ public class OrganizationManagerImpl implements OrganizationManager {
         parentOrganization.setId(parentId);
     }
 
+    /**
+     * Validate a batch of organizations to be created. Organizations are allowed to be created under the authorized
+     * organization or under an organization listed earlier in the same batch.
+     *
+     * @param organizations The organizations to be created, ordered so that a parent organization is listed before
+     *                      its child organizations.
+     * @return The depths of the organizations in the organization hierarchy against the organization IDs.
+     * @throws OrganizationManagementException If the batch is invalid.
+     */
+    private Map<String, Integer> validateAddOrganizationsRequest(List<Organization> organizations)
+            throws OrganizationManagementException {
+
+        String authorizedOrganization = getOrganizationId();
+        if (StringUtils.isEmpty(authorizedOrganization)) {
+            authorizedOrganization = resolveOrganizationId(getTenantDomain());
+        }
+        Set<String> organizationIds = new HashSet<>();
+        for (Organization organization : organizations) {
+            validateAddOrganizationRequest(organization);
+            if (!organizationIds.add(organization.getId())) {
+                throw handleClientException(ERROR_CODE_DUPLICATE_ORGANIZATION_IDS, organization.getId());
+            }
+        }
+
+        Map<String, Organization> validatedOrganizations = new HashMap<>();
+        Map<String, Integer> organizationDepths = new HashMap<>();
+        int authorizedOrganizationDepth = -1;
+        for (Organization organization : organizations) {
+            ParentOrganizationDO parentOrganization = organization.getParent();
+            String parentId = parentOrganization.getId();
+            if (StringUtils.isBlank(parentId)) {
+                parentId = authorizedOrganization;
+            } else {
+                parentId = parentId.trim();
+            }
+            if (SUPER.equals(parentId)) {
+                parentId = SUPER_ORG_ID;
+            }
+
+            Organization parentInBatch = validatedOrganizations.get(parentId);
+            if (parentInBatch != null) {
+                if (!StringUtils.equals(ACTIVE.toString(), parentInBatch.getStatus())) {
+                    throw handleClientException(ERROR_CODE_CREATE_REQUEST_PARENT_ORGANIZATION_IS_DISABLED, parentId);
+                }
+                organizationDepths.put(organization.getId(), organizationDepths.get(parentId) + 1);
+            } else if (organizationIds.contains(parentId)) {
+                throw handleClientException(ERROR_CODE_PARENT_ORGANIZATION_NOT_ADDED_BEFORE_CHILD, parentId);
+            } else if (!StringUtils.equals(authorizedOrganization, parentId)) {
+                throw handleClientException(ERROR_CODE_USER_NOT_AUTHORIZED_TO_CREATE_ORGANIZATION, parentId);
+            } else {
+                if (authorizedOrganizationDepth < 0) {
+                    validateAddOrganizationParentStatus(parentId);
+                    authorizedOrganizationDepth = organizationManagementDAO.getOrganizationDepthInHierarchy(parentId);
+                }
+                organizationDepths.put(organization.getId(), authorizedOrganizationDepth + 1);
+            }
+            parentOrganization.setId(parentId);
+            validatedOrganizations.put(organization.getId(), organization);
+        }
+        validateOrgNameUniqueness(organizations, organizationDepths);
+        return organizationDepths;
+    }
+
+    /**
+     * Validate the name uniqueness of a batch of organizations against each other and against the existing
+     * organizations, with one query per existing parent or root organization.
+     *
+     * @param organizations      The organizations to be created.
+     * @param organizationDepths The depths of the organizations against the organization IDs.
+     * @throws OrganizationManagementException If an organization name is already taken.
+     */
+    private void validateOrgNameUniqueness(List<Organization> organizations, Map<String, Integer> organizationDepths)
+            throws OrganizationManagementException {
+
+        // Root org is the parent level org of the sub organization start level.
+        int depthOfRootOrg = Utils.getSubOrgStartLevel() - 1;
+        Map<String, List<String>> ancestorOrgIds = new HashMap<>();
+        Map<String, Set<String>> siblingOrgNames = new LinkedHashMap<>();
+        Map<String, Set<String>> childOrgNamesOfRootOrgs = new LinkedHashMap<>();
+        for (Organization organization : organizations) {
+            String parentOrgId = organization.getParent().getId();
+            String organizationName = organization.getName();
+            List<String> parentAncestorOrgIds = ancestorOrgIds.get(parentOrgId);
+            if (parentAncestorOrgIds == null) {
+                parentAncestorOrgIds = organizationManagementDAO.getAncestorOrganizationIds(parentOrgId);
+                ancestorOrgIds.put(parentOrgId, parentAncestorOrgIds);
+            }
+            List<String> organizationAncestorOrgIds = new ArrayList<>();
+            organizationAncestorOrgIds.add(organization.getId());
+            if (parentAncestorOrgIds != null) {
+                organizationAncestorOrgIds.addAll(parentAncestorOrgIds);
+            }
+            ancestorOrgIds.put(organization.getId(), organizationAncestorOrgIds);
+
+            if (!isSubOrganization(organizationDepths.get(organization.getId()))) {
+                if (!siblingOrgNames.computeIfAbsent(parentOrgId, k -> new HashSet<>()).add(organizationName)) {
+                    throw handleClientException(ERROR_CODE_SAME_ORG_NAME_ON_IMMEDIATE_SUB_ORGANIZATIONS_OF_PARENT_ORG,
+                            organizationName, parentOrgId);
+                }
+            } else if (organizationAncestorOrgIds.size() > depthOfRootOrg) {
+                // Ancestor organization list is in reverse order. Hence the root org index has to be derived.
+                int rootOrgIndex = organizationAncestorOrgIds.size() - depthOfRootOrg - 1;
+                String rootOrgId = organizationAncestorOrgIds.get(rootOrgIndex);
+                if (!childOrgNamesOfRootOrgs.computeIfAbsent(rootOrgId, k -> new HashSet<>())
+                        .add(organizationName)) {
+                    throw handleClientException(ERROR_CODE_ORGANIZATION_NAME_EXIST_IN_CHILD_ORGANIZATIONS, rootOrgId);
+                }
+            }
+        }
+
+        // Organizations created in the same batch do not have existing children, hence only the existing parent and
+        // root organizations are checked against the database.
+        Set<String> batchOrgIds = organizationDepths.keySet();
+        for (Map.Entry<String, Set<String>> siblingNames : siblingOrgNames.entrySet()) {
+            if (batchOrgIds.contains(siblingNames.getKey())) {
+                continue;
+            }
+            Set<String> existingNames = organizationManagementDAO.getExistingChildOrganizationNames(
+                    siblingNames.getKey(), siblingNames.getValue(), false);
+            if (!existingNames.isEmpty()) {
+                throw handleClientException(ERROR_CODE_SAME_ORG_NAME_ON_IMMEDIATE_SUB_ORGANIZATIONS_OF_PARENT_ORG,
+                        existingNames.iterator().next(), siblingNames.getKey());
+            }
+        }
+        for (Map.Entry<String, Set<String>> childNames : childOrgNamesOfRootOrgs.entrySet()) {
+            if (batchOrgIds.contains(childNames.getKey())) {
+                continue;
+            }
+            if (!organizationManagementDAO.getExistingChildOrganizationNames(childNames.getKey(),
+                    childNames.getValue(), true).isEmpty()) {
+                throw handleClientException(ERROR_CODE_ORGANIZATION_NAME_EXIST_IN_CHILD_ORGANIZATIONS,
+                        childNames.getKey());
+            }
+        }
+    }
+
+    private void validateOrganizationMove(String organizationId, String newParentId)
+            throws OrganizationManagementException {
+
+        validateAddOrganizationParentStatus(newParentId);
+        // An organization cannot be moved under itself or one of its descendants.
+        if (organizationManagementDAO.isChildOfParent(newParentId, organizationId)) {
+            throw handleClientException(ERROR_CODE_INVALID_ORGANIZATION_MOVE, organizationId, newParentId);
+        }
+        // Only sub organizations can be moved, and they have to stay under the same primary organization.
+        if (!isSubOrganization(organizationManagementDAO.getOrganizationDepthInHierarchy(organizationId)) ||
+                !isSubOrganization(organizationManagementDAO.getOrganizationDepthInHierarchy(newParentId) + 1) ||
+                !StringUtils.equals(getPrimaryOrganizationId(organizationId), getPrimaryOrganizationId(newParentId))) {
+            throw handleClientException(ERROR_CODE_INVALID_ORGANIZATION_MOVE, organizationId, newParentId);
+        }
+    }
+
     private void validateUpdateOrganizationRequest(String currentOrganizationName, Organization organization)
             throws OrganizationManagementException {
 
@@ -1380,8 +1745,36 @@ public class OrganizationManagerImpl implements OrganizationManager {
                 !attributeValue.equalsIgnoreCase(PAGINATION_BEFORE);
     }
 
+    private String resolveOrganizationHandle(TenantTypeOrganization organization) {
+
+        String organizationHandle = organization.getOrganizationHandle();
+        if (StringUtils.isBlank(organizationHandle)) {
+            organizationHandle = organization.getDomainName();
+            if (StringUtils.isBlank(organizationHandle)) {
+                organizationHandle = organization.getId();
+            }
+            organization.setOrganizationHandle(organizationHandle);
+        }
+        return organizationHandle;
+    }
+
     private void createTenant(String domain, Organization organization) throws OrganizationManagementException {
 
+        createTenant(domain, organization, Collections.singletonList(organization.getId()));
+    }
+
+    /**
+     * Create the tenant of a tenant type organization.
+     *
+     * @param domain                  The tenant domain.
+     * @param organization            The tenant type organization.
+     * @param rollbackOrganizationIds The IDs of the organizations to be deleted if the tenant creation fails, ordered
+     *                                so that a parent organization is listed before its child organizations.
+     * @throws OrganizationManagementException The exception thrown when creating the tenant.
+     */
+    private void createTenant(String domain, Organization organization, List<String> rollbackOrganizationIds)
+            throws OrganizationManagementException {
+
         try {
             PrivilegedCarbonContext.startTenantFlow();
             PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(MultitenantConstants
@@ -1391,7 +1784,7 @@ public class OrganizationManagerImpl implements OrganizationManager {
             getTenantMgtService().addTenant(createTenantInfoBean(domain, organization));
         } catch (TenantMgtException e) {
             // Rollback created organization.
-            deleteOrganization(organization.getId());
+            deleteOrganizations(rollbackOrganizationIds);
             if (e instanceof TenantManagementClientException) {
                 if (StringUtils.equals(ERROR_CODE_EXISTING_DOMAIN.getCode(), e.getErrorCode())) {
                     throw handleClientException(ERROR_CODE_EXISTING_ORGANIZATION_HANDLE, domain);
@@ -1405,6 +1798,14 @@ public class OrganizationManagerImpl implements OrganizationManager {
         }
     }
 
+    private void deleteOrganizations(List<String> organizationIds) throws OrganizationManagementException {
+
+        // Child organizations are deleted before their parent organizations.
+        for (int i = organizationIds.size() - 1; i >= 0; i--) {
+            deleteOrganization(organizationIds.get(i));
+        }
+    }
+
     private Tenant createTenantInfoBean(String domain, Organization organization) {
 
         Tenant tenant = new Tenant();
@@ -1522,8 +1923,14 @@ public class OrganizationManagerImpl implements OrganizationManager {
             parentId = organization.getParent().getId();
         }
 
-        if (StringUtils.isBlank(parentId) ||
-                getOrganizationDepthInHierarchy(parentId) + 1 < Utils.getSubOrgStartLevel()) {
+        setOrganizationVersion(organization, StringUtils.isNotBlank(parentId) &&
+                isSubOrganization(getOrganizationDepthInHierarchy(parentId) + 1));
+    }
+
+    private void setOrganizationVersion(Organization organization, boolean isSubOrganization)
+            throws OrganizationManagementServerException {
+
+        if (!isSubOrganization) {
             String configuredNewOrgVersion;
             if (StringUtils.isNotBlank(Utils.getNewOrganizationVersion())) {
                 configuredNewOrgVersion = Utils.getNewOrganizationVersion();
@@ -18,7 +18,7 @@
 
 package org.wso2.carbon.identity.organization.management.service.authz;
 
-import org.wso2.carbon.identity.organization.management.service.authz.dao.OrganizationManagementAuthzDAO;
+import org.wso2.carbon.identity.organization.management.service.authz.dao.CacheBackedOrganizationManagementAuthzDAO;
 import org.wso2.carbon.identity.organization.management.service.authz.dao.OrganizationManagementAuthzDAOImpl;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 
@@ -30,6 +30,9 @@ public class OrganizationManagementAuthorizationManager {
     private static final OrganizationManagementAuthorizationManager INSTANCE =
             new OrganizationManagementAuthorizationManager();
 
+    private final CacheBackedOrganizationManagementAuthzDAO organizationMgtAuthzDAO =
+            new CacheBackedOrganizationManagementAuthzDAO(new OrganizationManagementAuthzDAOImpl());
+
     public static OrganizationManagementAuthorizationManager getInstance() {
 
         return INSTANCE;
@@ -50,7 +53,6 @@ public class OrganizationManagementAuthorizationManager {
     public boolean isUserAuthorized(String userId, String resourceId, String orgId)
             throws OrganizationManagementServerException {
 
-        OrganizationManagementAuthzDAO organizationMgtAuthzDAO = new OrganizationManagementAuthzDAOImpl();
         return organizationMgtAuthzDAO.isUserAuthorized(userId, resourceId, orgId);
     }
 
@@ -65,7 +67,6 @@ public class OrganizationManagementAuthorizationManager {
     public boolean hasUserOrgAssociation(String userId, String orgId)
             throws OrganizationManagementServerException {
 
-        OrganizationManagementAuthzDAO organizationMgtAuthzDAO = new OrganizationManagementAuthzDAOImpl();
         return organizationMgtAuthzDAO.hasUserOrgAssociation(userId, orgId);
     }
 
@@ -77,7 +78,29 @@ public class OrganizationManagementAuthorizationManager {
      */
     public String getSuperOrganizationId() throws OrganizationManagementServerException {
 
-        OrganizationManagementAuthzDAO organizationMgtAuthzDAO = new OrganizationManagementAuthzDAOImpl();
         return organizationMgtAuthzDAO.getSuperOrganizationId();
     }
+
+    /**
+     * Clear the cached authorization decision of the user for the particular organization, made in the tenant of
+     * the request.
+     *
+     * @param userId     Unique identifier of the user.
+     * @param resourceId Required permission.
+     * @param orgId      Organization id.
+     */
+    public void clearAuthorizationCache(String userId, String resourceId, String orgId) {
+
+        organizationMgtAuthzDAO.clearAuthorizationCache(userId, resourceId, orgId);
+    }
+
+    /**
+     * Clear all the cached authorization decisions made in the given tenant.
+     *
+     * @param tenantDomain The tenant domain.
+     */
+    public void clearAuthorizationCache(String tenantDomain) {
+
+        organizationMgtAuthzDAO.clearAuthorizationCache(tenantDomain);
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.authz.dao;
+
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.organization.management.service.cache.CacheMetricsRegistry;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationAuthorizationCacheByUserId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationAuthorizationCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationAuthorizationCacheKey;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+
+/**
+ * Cached DAO layer for the organization management authorization. The authorization decisions are cached in the
+ * tenant of the request against the user, the resource and the organization, so that a user assigned to many groups
+ * does not query the roles of each group on every authorized request. The granted decisions expire after the cache
+ * timeout and the denied decisions after the shorter negative cache timeout.
+ */
+public class CacheBackedOrganizationManagementAuthzDAO implements OrganizationManagementAuthzDAO {
+
+    private static final String IS_USER_AUTHORIZED_OPERATION = "isUserAuthorized";
+
+    private final OrganizationManagementAuthzDAO organizationMgtAuthzDAO;
+
+    public CacheBackedOrganizationManagementAuthzDAO(OrganizationManagementAuthzDAO organizationMgtAuthzDAO) {
+
+        this.organizationMgtAuthzDAO = organizationMgtAuthzDAO;
+    }
+
+    @Override
+    public boolean isUserAuthorized(String userId, String resourceId, String orgId)
+            throws OrganizationManagementServerException {
+
+        OrganizationAuthorizationCacheByUserId authorizationCache =
+                OrganizationAuthorizationCacheByUserId.getInstance();
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        if (tenantDomain == null || !authorizationCache.isEnabled()) {
+            return organizationMgtAuthzDAO.isUserAuthorized(userId, resourceId, orgId);
+        }
+
+        long lookupStartTime = System.nanoTime();
+        OrganizationAuthorizationCacheKey cacheKey = new OrganizationAuthorizationCacheKey(userId, resourceId, orgId);
+        OrganizationAuthorizationCacheEntry cachedDecision = authorizationCache.getValueFromCache(cacheKey,
+                tenantDomain);
+        if (cachedDecision != null) {
+            CacheMetricsRegistry.recordOperationHit(IS_USER_AUTHORIZED_OPERATION, cachedDecision.isNegative(),
+                    System.nanoTime() - lookupStartTime);
+            return cachedDecision.isAuthorized();
+        }
+
+        CacheMetricsRegistry.recordOperationMiss(IS_USER_AUTHORIZED_OPERATION);
+        long invalidationStamp = authorizationCache.getInvalidationStamp();
+        long loadStartTime = System.nanoTime();
+        boolean successful = false;
+        boolean authorized;
+        try {
+            authorized = organizationMgtAuthzDAO.isUserAuthorized(userId, resourceId, orgId);
+            successful = true;
+        } finally {
+            CacheMetricsRegistry.recordOperationLoad(IS_USER_AUTHORIZED_OPERATION, System.nanoTime() - loadStartTime,
+                    successful);
+        }
+        if (authorized) {
+            authorizationCache.addToCacheOnRead(cacheKey, new OrganizationAuthorizationCacheEntry(true), tenantDomain,
+                    invalidationStamp);
+        } else {
+            authorizationCache.addNegativeEntryToCacheOnRead(cacheKey,
+                    OrganizationAuthorizationCacheEntry.createNegativeEntry(), tenantDomain, invalidationStamp);
+        }
+        return authorized;
+    }
+
+    @Override
+    public boolean hasUserOrgAssociation(String userId, String orgId) throws OrganizationManagementServerException {
+
+        return organizationMgtAuthzDAO.hasUserOrgAssociation(userId, orgId);
+    }
+
+    @Override
+    public String getSuperOrganizationId() throws OrganizationManagementServerException {
+
+        return organizationMgtAuthzDAO.getSuperOrganizationId();
+    }
+
+    /**
+     * Clear the cached authorization decision of a user for a resource of an organization, made in the tenant of the
+     * request.
+     *
+     * @param userId     Unique identifier of the user.
+     * @param resourceId Required permission.
+     * @param orgId      Organization id.
+     */
+    public void clearAuthorizationCache(String userId, String resourceId, String orgId) {
+
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        if (tenantDomain == null) {
+            return;
+        }
+        OrganizationAuthorizationCacheByUserId.getInstance().clearCacheEntry(
+                new OrganizationAuthorizationCacheKey(userId, resourceId, orgId), tenantDomain);
+    }
+
+    /**
+     * Clear all the cached authorization decisions made in the given tenant. This should be called when the roles,
+     * the role permissions or the group memberships of the tenant change.
+     *
+     * @param tenantDomain The tenant domain.
+     */
+    public void clearAuthorizationCache(String tenantDomain) {
+
+        OrganizationAuthorizationCacheByUserId.getInstance().clear(tenantDomain);
+    }
+}
@@ -25,11 +25,21 @@ import org.wso2.carbon.caching.impl.CacheImpl;
 import org.wso2.carbon.caching.impl.CachingConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementConfigUtil;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.cache.Cache;
 import javax.cache.CacheBuilder;
@@ -48,9 +58,30 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
     private static final Log log = LogFactory.getLog(BaseCache.class);
     private static final String CACHE_MANAGER_NAME = "OrganizationManagementCacheManager";
+    private static final int DEFAULT_NEAR_CACHE_TIMEOUT = 30;
+    private static final int DEFAULT_NEGATIVE_CACHE_TIMEOUT = 30;
+    private static final int DEFAULT_LOCAL_CACHE_TIMEOUT = 900;
+    private static final int DEFAULT_LOCAL_CACHE_CAPACITY = 10000;
+    private static final int REFRESH_AHEAD_THREAD_POOL_SIZE = 2;
+    private static final int REFRESH_AHEAD_QUEUE_CAPACITY = 1000;
     private CacheBuilder<K, V> cacheBuilder;
     private String cacheName;
     private final OrgMgtCacheConfig orgMgtCacheConfig;
+    private final NearCache<K, V> nearCache;
+    // Holds the entries of a local-only cache, keyed by the tenant domain and the cache key.
+    private final NearCache<K, V> localCache;
+    private final CacheMetrics cacheMetrics = new CacheMetrics();
+    private final RefreshAheadScheduler<K> refreshAheadScheduler;
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private volatile CacheEntryLoader<K, V> refreshAheadLoader;
+
+    /**
+     * Executor shared by all the caches to reload the entries ahead of their expiry, created on the first use.
+     */
+    private static class RefreshAheadExecutorHolder {
+
+        private static final ThreadPoolExecutor EXECUTOR = buildRefreshAheadExecutor();
+    }
 
     public BaseCache(String cacheName) {
 
@@ -67,6 +98,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             }
             orgMgtCacheConfig.setTemporary(isTemp);
         }
+        localCache = buildLocalCache();
+        nearCache = localCache == null ? buildNearCache() : null;
+        refreshAheadScheduler = buildRefreshAheadScheduler();
+        CacheMetricsRegistry.registerCacheMetrics(cacheName, cacheMetrics);
         if (log.isDebugEnabled()) {
             String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             log.debug("Cache : " + cacheName + "  is initialized for tenant domain : " + tenantDomain);
@@ -125,12 +160,19 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        invalidationCount.incrementAndGet();
+        markAsLoaded(entry);
+        if (localCache != null) {
+            addToLocalCache(key, entry, tenantDomain);
+            return;
+        }
         try {
             startTenantFlow(tenantDomain);
             Cache<K, V> cache = getBaseCache();
             if (cache != null) {
                 cache.put(key, entry);
             }
+            removeFromNearCache(key, tenantDomain);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -149,12 +191,19 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        invalidationCount.incrementAndGet();
+        markAsLoaded(entry);
+        if (localCache != null) {
+            addToLocalCache(key, entry, Utils.getTenantDomain(tenantId));
+            return;
+        }
         try {
             startTenantFlow(tenantId);
             Cache<K, V> cache = getBaseCache();
             if (cache != null) {
                 cache.put(key, entry);
             }
+            removeFromNearCache(key, tenantId);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -174,12 +223,18 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        markAsLoaded(entry);
+        if (localCache != null) {
+            addToLocalCache(key, entry, tenantDomain);
+            return;
+        }
         try {
             startTenantFlow(tenantDomain);
             Cache<K, V> cache = getBaseCache();
             if (cache != null) {
                 cache.putOnRead(key, entry);
             }
+            addToNearCache(key, entry, tenantDomain);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -199,17 +254,100 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        markAsLoaded(entry);
+        if (localCache != null) {
+            addToLocalCache(key, entry, Utils.getTenantDomain(tenantId));
+            return;
+        }
         try {
             startTenantFlow(tenantId);
             Cache<K, V> cache = getBaseCache();
             if (cache != null) {
                 cache.putOnRead(key, entry);
             }
+            addToNearCache(key, entry, tenantId);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
     }
 
+    /**
+     * Add a cache entry loaded after a cache miss, unless the cache was updated or cleared after the given
+     * invalidation stamp was taken. This prevents a value loaded before an update on this node from being cached after
+     * the update. The stamp is kept per node, hence a value loaded before an update on another node can still be
+     * cached after the invalidation of that update arrives, and is then served until it expires.
+     *
+     * @param key               Key which cache entry is indexed.
+     * @param entry             Actual object where cache entry is placed.
+     * @param tenantDomain      The tenant domain where the cache is maintained.
+     * @param invalidationStamp The invalidation stamp taken with {@link #getInvalidationStamp()} before loading the
+     *                          entry.
+     * @return True if the entry is cached.
+     */
+    public boolean addToCacheOnRead(K key, V entry, String tenantDomain, long invalidationStamp) {
+
+        if (invalidationCount.get() != invalidationStamp) {
+            return false;
+        }
+        addToCacheOnRead(key, entry, tenantDomain);
+        if (invalidationCount.get() != invalidationStamp) {
+            // The cache was updated while the entry was being added, hence the entry may be stale.
+            clearCacheEntry(key, tenantDomain);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get the stamp changing whenever an entry of this cache is updated or cleared on this node, to be passed to
+     * {@link #addToCacheOnRead(Serializable, Serializable, String, long)}.
+     *
+     * @return The invalidation stamp.
+     */
+    public long getInvalidationStamp() {
+
+        return invalidationCount.get();
+    }
+
+    /**
+     * Add a sentinel entry recording that the value of the given key does not exist. The entry expires after the
+     * negative cache timeout, so that it does not hide a value added on another node for long.
+     *
+     * @param key          Key which cache entry is indexed.
+     * @param entry        Sentinel entry to be cached.
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     */
+    public void addNegativeEntryToCacheOnRead(K key, V entry, String tenantDomain) {
+
+        if (!isNegativeCachingEnabled() || !(entry instanceof CacheEntry)) {
+            return;
+        }
+        ((CacheEntry) entry).markAsNegative(System.currentTimeMillis() +
+                TimeUnit.SECONDS.toMillis(getNegativeCacheTimeout()));
+        addToCacheOnRead(key, entry, tenantDomain);
+    }
+
+    /**
+     * Add a sentinel entry recording that the value of the given key does not exist, unless the cache was updated or
+     * cleared after the given invalidation stamp was taken.
+     *
+     * @param key               Key which cache entry is indexed.
+     * @param entry             Sentinel entry to be cached.
+     * @param tenantDomain      The tenant domain where the cache is maintained.
+     * @param invalidationStamp The invalidation stamp taken with {@link #getInvalidationStamp()} before loading the
+     *                          entry.
+     * @return True if the entry is cached.
+     */
+    public boolean addNegativeEntryToCacheOnRead(K key, V entry, String tenantDomain, long invalidationStamp) {
+
+        if (!isNegativeCachingEnabled() || !(entry instanceof CacheEntry)) {
+            return false;
+        }
+        ((CacheEntry) entry).markAsNegative(System.currentTimeMillis() +
+                TimeUnit.SECONDS.toMillis(getNegativeCacheTimeout()));
+        return addToCacheOnRead(key, entry, tenantDomain, invalidationStamp);
+    }
+
     /**
      * Retrieves a cache entry.
      *
@@ -227,16 +365,32 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
-        try {
-            startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
+        V value = localCache != null ? localCache.get(tenantDomain, key) :
+                nearCache != null ? nearCache.get(tenantDomain, key) : null;
+        if (value == null && localCache == null) {
+            long invalidationStamp = nearCache != null ? nearCache.getInvalidationStamp() : 0;
+            try {
+                startTenantFlow(tenantDomain);
+                Cache<K, V> cache = getBaseCache();
+                if (cache != null) {
+                    value = cache.get(key);
+                    if (value != null && nearCache != null) {
+                        nearCache.put(tenantDomain, key, value, invalidationStamp);
+                    }
+                }
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
             }
-            return null;
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
         }
+        if (isExpired(value)) {
+            clearCacheEntry(key, tenantDomain);
+            cacheMetrics.recordEviction();
+            value = null;
+        } else if (isDueForRefresh(value)) {
+            scheduleRefresh(key, value, tenantDomain);
+        }
+        recordLookup(value);
+        return value;
     }
 
     /**
@@ -256,16 +410,33 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
-        try {
-            startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
+        String tenantDomain = nearCache != null || localCache != null ? Utils.getTenantDomain(tenantId) : null;
+        V value = localCache != null ? localCache.get(tenantDomain, key) :
+                nearCache != null ? nearCache.get(tenantDomain, key) : null;
+        if (value == null && localCache == null) {
+            long invalidationStamp = nearCache != null ? nearCache.getInvalidationStamp() : 0;
+            try {
+                startTenantFlow(tenantId);
+                Cache<K, V> cache = getBaseCache();
+                if (cache != null) {
+                    value = cache.get(key);
+                    if (value != null && nearCache != null) {
+                        nearCache.put(tenantDomain, key, value, invalidationStamp);
+                    }
+                }
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
             }
-            return null;
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
         }
+        if (isExpired(value)) {
+            clearCacheEntry(key, tenantId);
+            cacheMetrics.recordEviction();
+            value = null;
+        } else if (isDueForRefresh(value)) {
+            scheduleRefresh(key, value, tenantDomain != null ? tenantDomain : Utils.getTenantDomain(tenantId));
+        }
+        recordLookup(value);
+        return value;
     }
 
     /**
@@ -280,12 +451,18 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        invalidationCount.incrementAndGet();
+        if (localCache != null) {
+            removeFromLocalCache(key, tenantDomain);
+            return;
+        }
         try {
             startTenantFlow(tenantDomain);
             Cache<K, V> cache = getBaseCache();
             if (cache != null) {
                 cache.remove(key);
             }
+            removeFromNearCache(key, tenantDomain);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -303,12 +480,175 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        invalidationCount.incrementAndGet();
+        if (localCache != null) {
+            removeFromLocalCache(key, Utils.getTenantDomain(tenantId));
+            return;
+        }
         try {
             startTenantFlow(tenantId);
             Cache<K, V> cache = getBaseCache();
             if (cache != null) {
                 cache.remove(key);
             }
+            removeFromNearCache(key, tenantId);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Add a set of cache entries within a single tenant flow.
+     *
+     * @param entries      Cache entries against the keys which they are indexed.
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     */
+    public void putAll(Map<K, V> entries, String tenantDomain) {
+
+        if (!isEnabled() || entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        invalidationCount.incrementAndGet();
+        entries.values().forEach(this::markAsLoaded);
+        if (localCache != null) {
+            entries.forEach((key, entry) -> addToLocalCache(key, entry, tenantDomain));
+            return;
+        }
+        try {
+            startTenantFlow(tenantDomain);
+            Cache<K, V> cache = getBaseCache();
+            if (cache != null) {
+                cache.putAll(entries);
+            }
+            entries.keySet().forEach(key -> removeFromNearCache(key, tenantDomain));
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Add a set of cache entries loaded after cache misses within a single tenant flow, unless the cache was updated
+     * or cleared after the given invalidation stamp was taken.
+     *
+     * @param entries           Cache entries against the keys which they are indexed.
+     * @param tenantDomain      The tenant domain where the cache is maintained.
+     * @param invalidationStamp The invalidation stamp taken with {@link #getInvalidationStamp()} before loading the
+     *                          entries.
+     * @return True if the entries are cached.
+     */
+    public boolean putAllOnRead(Map<K, V> entries, String tenantDomain, long invalidationStamp) {
+
+        if (!isEnabled() || entries == null || entries.isEmpty() || invalidationCount.get() != invalidationStamp) {
+            return false;
+        }
+
+        entries.values().forEach(this::markAsLoaded);
+        if (localCache != null) {
+            entries.forEach((key, entry) -> addToLocalCache(key, entry, tenantDomain));
+        } else {
+            putAllOnReadToBaseCache(entries, tenantDomain);
+        }
+        if (invalidationCount.get() != invalidationStamp) {
+            // The cache was updated while the entries were being added, hence the entries may be stale.
+            clearAll(entries.keySet(), tenantDomain);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves a set of cache entries within a single tenant flow. The keys missed in the cache are not included in
+     * the returned map.
+     *
+     * @param keys         Keys of the cache entries.
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     * @return Cached entries against their keys.
+     */
+    public Map<K, V> getAll(Set<K> keys, String tenantDomain) {
+
+        Map<K, V> values = new HashMap<>();
+        if (!isEnabled() || keys == null || keys.isEmpty()) {
+            return values;
+        }
+
+        Set<K> nearCacheMissedKeys = new HashSet<>();
+        NearCache<K, V> nodeLocalCache = localCache != null ? localCache : nearCache;
+        for (K key : keys) {
+            V value = nodeLocalCache != null && key != null ? nodeLocalCache.get(tenantDomain, key) : null;
+            if (value != null) {
+                values.put(key, value);
+            } else if (key != null) {
+                nearCacheMissedKeys.add(key);
+            }
+        }
+        if (!nearCacheMissedKeys.isEmpty() && localCache == null) {
+            long invalidationStamp = nearCache != null ? nearCache.getInvalidationStamp() : 0;
+            try {
+                startTenantFlow(tenantDomain);
+                Cache<K, V> cache = getBaseCache();
+                if (cache != null) {
+                    for (Map.Entry<K, V> entry : cache.getAll(nearCacheMissedKeys).entrySet()) {
+                        if (entry.getValue() == null) {
+                            continue;
+                        }
+                        values.put(entry.getKey(), entry.getValue());
+                        if (nearCache != null) {
+                            nearCache.put(tenantDomain, entry.getKey(), entry.getValue(), invalidationStamp);
+                        }
+                    }
+                }
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+
+        Set<K> expiredKeys = new HashSet<>();
+        for (Iterator<Map.Entry<K, V>> iterator = values.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<K, V> entry = iterator.next();
+            if (isExpired(entry.getValue())) {
+                expiredKeys.add(entry.getKey());
+                cacheMetrics.recordEviction();
+                iterator.remove();
+            } else if (isDueForRefresh(entry.getValue())) {
+                scheduleRefresh(entry.getKey(), entry.getValue(), tenantDomain);
+            }
+        }
+        if (!expiredKeys.isEmpty()) {
+            clearAll(expiredKeys, tenantDomain);
+        }
+        for (K key : keys) {
+            if (key != null) {
+                recordLookup(values.get(key));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Clears a set of cache entries within a single tenant flow.
+     *
+     * @param keys         Keys to clear cache.
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     */
+    public void clearAll(Set<K> keys, String tenantDomain) {
+
+        if (!isEnabled() || keys == null || keys.isEmpty()) {
+            return;
+        }
+
+        invalidationCount.incrementAndGet();
+        if (localCache != null) {
+            keys.forEach(key -> removeFromLocalCache(key, tenantDomain));
+            return;
+        }
+        try {
+            startTenantFlow(tenantDomain);
+            Cache<K, V> cache = getBaseCache();
+            if (cache != null) {
+                cache.removeAll(keys);
+            }
+            keys.forEach(key -> removeFromNearCache(key, tenantDomain));
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -325,12 +665,20 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        invalidationCount.incrementAndGet();
+        if (localCache != null) {
+            localCache.clear(tenantDomain);
+            return;
+        }
         try {
             startTenantFlow(tenantDomain);
             Cache<K, V> cache = getBaseCache();
             if (cache != null) {
                 cache.removeAll();
             }
+            if (nearCache != null) {
+                nearCache.clear(tenantDomain);
+            }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -347,12 +695,20 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        invalidationCount.incrementAndGet();
+        if (localCache != null) {
+            localCache.clear(Utils.getTenantDomain(tenantId));
+            return;
+        }
         try {
             startTenantFlow(tenantId);
             Cache<K, V> cache = getBaseCache();
             if (cache != null) {
                 cache.removeAll();
             }
+            if (nearCache != null) {
+                nearCache.clear(Utils.getTenantDomain(tenantId));
+            }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -389,6 +745,256 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         }
     }
 
+    /**
+     * Get the timeout of the negative entries of this cache in seconds.
+     *
+     * @return The negative cache timeout.
+     */
+    public int getNegativeCacheTimeout() {
+
+        if (orgMgtCacheConfig != null && orgMgtCacheConfig.getNegativeCacheTimeout() >= 0) {
+            return orgMgtCacheConfig.getNegativeCacheTimeout();
+        }
+        return DEFAULT_NEGATIVE_CACHE_TIMEOUT;
+    }
+
+    public boolean isNegativeCachingEnabled() {
+
+        return isEnabled() && getNegativeCacheTimeout() > 0;
+    }
+
+    public CacheMetrics getCacheMetrics() {
+
+        return cacheMetrics;
+    }
+
+    /**
+     * Check whether the node-local near cache is maintained in front of this cache.
+     *
+     * @return True if the near cache is enabled.
+     */
+    public boolean isNearCacheEnabled() {
+
+        return nearCache != null;
+    }
+
+    /**
+     * Check whether the entries of this cache are kept only in a node-local map shared by all the tenants, which is
+     * read and updated without starting a tenant flow. The entries of a local-only cache are not invalidated by the
+     * updates on other nodes, hence only the caches which do not need to be consistent across the nodes, or whose
+     * entries are short-lived, should be local only.
+     *
+     * @return True if the cache is local only.
+     */
+    public boolean isLocalOnly() {
+
+        return localCache != null;
+    }
+
+    /**
+     * Check whether the entries of this cache are reloaded in the background when they are read after the configured
+     * fraction of the cache timeout. Entries are reloaded only after a loader is set with
+     * {@link #setRefreshAheadLoader(CacheEntryLoader)}.
+     *
+     * @return True if refresh-ahead is enabled.
+     */
+    public boolean isRefreshAheadEnabled() {
+
+        return refreshAheadScheduler != null;
+    }
+
+    /**
+     * Set the loader used to reload the entries of this cache ahead of their expiry.
+     *
+     * @param refreshAheadLoader Loader of the cache entries.
+     */
+    public void setRefreshAheadLoader(CacheEntryLoader<K, V> refreshAheadLoader) {
+
+        this.refreshAheadLoader = refreshAheadLoader;
+    }
+
+    private NearCache<K, V> buildLocalCache() {
+
+        if (orgMgtCacheConfig == null || !orgMgtCacheConfig.isEnabled() || !orgMgtCacheConfig.isLocalOnly()) {
+            return null;
+        }
+        int localCacheTimeout = getCacheTimeout() > 0 ? getCacheTimeout() : DEFAULT_LOCAL_CACHE_TIMEOUT;
+        int localCacheCapacity = getCapacity() > 0 ? getCapacity() : DEFAULT_LOCAL_CACHE_CAPACITY;
+        if (log.isDebugEnabled()) {
+            log.debug("Cache : " + cacheName + " is local only with timeout value : " + localCacheTimeout +
+                    " and capacity : " + localCacheCapacity);
+        }
+        return new NearCache<>(localCacheCapacity, localCacheTimeout, cacheMetrics);
+    }
+
+    private NearCache<K, V> buildNearCache() {
+
+        if (orgMgtCacheConfig == null || !orgMgtCacheConfig.isEnabled() ||
+                orgMgtCacheConfig.getNearCacheCapacity() <= 0) {
+            return null;
+        }
+        int nearCacheTimeout = orgMgtCacheConfig.getNearCacheTimeout() > 0 ?
+                orgMgtCacheConfig.getNearCacheTimeout() : DEFAULT_NEAR_CACHE_TIMEOUT;
+        // Entries of the near cache should not outlive the entries of the underlying cache.
+        if (getCacheTimeout() > 0 && nearCacheTimeout > getCacheTimeout()) {
+            nearCacheTimeout = getCacheTimeout();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Near cache is enabled for cache : " + cacheName + " with timeout value : " +
+                    nearCacheTimeout + " and capacity : " + orgMgtCacheConfig.getNearCacheCapacity());
+        }
+        return new NearCache<>(orgMgtCacheConfig.getNearCacheCapacity(), nearCacheTimeout, cacheMetrics);
+    }
+
+    private RefreshAheadScheduler<K> buildRefreshAheadScheduler() {
+
+        if (orgMgtCacheConfig == null || !orgMgtCacheConfig.isEnabled() || getCacheTimeout() <= 0) {
+            return null;
+        }
+        double refreshAheadFactor = orgMgtCacheConfig.getRefreshAheadFactor();
+        if (refreshAheadFactor <= 0 || refreshAheadFactor >= 1) {
+            return null;
+        }
+        long refreshAfterMillis = (long) (TimeUnit.SECONDS.toMillis(getCacheTimeout()) * refreshAheadFactor);
+        if (log.isDebugEnabled()) {
+            log.debug("Refresh-ahead is enabled for cache : " + cacheName + " with entries reloaded after : " +
+                    refreshAfterMillis + " ms");
+        }
+        return new RefreshAheadScheduler<>(refreshAfterMillis, RefreshAheadExecutorHolder.EXECUTOR);
+    }
+
+    private static ThreadPoolExecutor buildRefreshAheadExecutor() {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(REFRESH_AHEAD_THREAD_POOL_SIZE,
+                REFRESH_AHEAD_THREAD_POOL_SIZE, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(REFRESH_AHEAD_QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "OrganizationManagementCacheRefresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private boolean isDueForRefresh(V value) {
+
+        return refreshAheadScheduler != null && refreshAheadLoader != null && value instanceof CacheEntry &&
+                refreshAheadScheduler.isDueForRefresh((CacheEntry) value, System.currentTimeMillis());
+    }
+
+    private void scheduleRefresh(K key, V staleValue, String tenantDomain) {
+
+        long invalidationStamp = getInvalidationStamp();
+        refreshAheadScheduler.scheduleRefresh(tenantDomain, key,
+                () -> refresh(key, staleValue, tenantDomain, invalidationStamp));
+    }
+
+    private void refresh(K key, V staleValue, String tenantDomain, long invalidationStamp) {
+
+        V value;
+        long loadStartTime = System.nanoTime();
+        try {
+            value = refreshAheadLoader.load(key, staleValue, tenantDomain);
+            cacheMetrics.recordLoad(System.nanoTime() - loadStartTime, true);
+        } catch (OrganizationManagementException e) {
+            cacheMetrics.recordLoad(System.nanoTime() - loadStartTime, false);
+            log.warn("Error while refreshing an entry of cache : " + cacheName + " in tenant domain : " +
+                    tenantDomain + ". The stale entry is kept until it expires.", e);
+            return;
+        }
+        // Entries updated or cleared while being reloaded must not be overwritten with the reloaded value.
+        if (value != null && addToCacheOnRead(key, value, tenantDomain, invalidationStamp)) {
+            cacheMetrics.recordRefresh();
+        }
+    }
+
+    private void markAsLoaded(V entry) {
+
+        if (entry instanceof CacheEntry) {
+            ((CacheEntry) entry).markAsLoaded(System.currentTimeMillis());
+        }
+    }
+
+    private boolean isExpired(V value) {
+
+        return value instanceof CacheEntry && ((CacheEntry) value).isExpired();
+    }
+
+    private void recordLookup(V value) {
+
+        if (value == null) {
+            cacheMetrics.recordMiss();
+        } else {
+            cacheMetrics.recordHit(value instanceof CacheEntry && ((CacheEntry) value).isNegative());
+        }
+    }
+
+    private void addToNearCache(K key, V entry, String tenantDomain) {
+
+        if (nearCache != null && key != null && entry != null) {
+            nearCache.put(tenantDomain, key, entry);
+        }
+    }
+
+    private void addToNearCache(K key, V entry, int tenantId) {
+
+        if (nearCache != null && key != null && entry != null) {
+            nearCache.put(Utils.getTenantDomain(tenantId), key, entry);
+        }
+    }
+
+    private void putAllOnReadToBaseCache(Map<K, V> entries, String tenantDomain) {
+
+        try {
+            startTenantFlow(tenantDomain);
+            Cache<K, V> cache = getBaseCache();
+            // There is no bulk putOnRead, hence the entries are put one by one to avoid the invalidation messages.
+            for (Map.Entry<K, V> entry : entries.entrySet()) {
+                if (cache != null) {
+                    cache.putOnRead(entry.getKey(), entry.getValue());
+                }
+                addToNearCache(entry.getKey(), entry.getValue(), tenantDomain);
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private void addToLocalCache(K key, V entry, String tenantDomain) {
+
+        if (key == null) {
+            return;
+        }
+        if (entry == null) {
+            localCache.remove(tenantDomain, key);
+        } else {
+            localCache.put(tenantDomain, key, entry);
+        }
+    }
+
+    private void removeFromLocalCache(K key, String tenantDomain) {
+
+        if (key != null) {
+            localCache.remove(tenantDomain, key);
+        }
+    }
+
+    private void removeFromNearCache(K key, String tenantDomain) {
+
+        if (nearCache != null && key != null) {
+            nearCache.remove(tenantDomain, key);
+        }
+    }
+
+    private void removeFromNearCache(K key, int tenantId) {
+
+        if (nearCache != null && key != null) {
+            nearCache.remove(Utils.getTenantDomain(tenantId), key);
+        }
+    }
+
     private void startTenantFlow(String tenantDomain) {
 
         PrivilegedCarbonContext.startTenantFlow();
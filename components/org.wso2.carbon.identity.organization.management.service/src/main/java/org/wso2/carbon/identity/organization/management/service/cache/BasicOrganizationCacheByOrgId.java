@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+/**
+ * Cache for the basic organization details against the organization Id.
+ */
+public class BasicOrganizationCacheByOrgId
+        extends BaseCache<OrganizationIdCacheKey, BasicOrganizationCacheEntry> {
+
+    private static final String CACHE_NAME = "BasicOrganizationCacheByOrgId";
+
+    /**
+     * Basic organization cache lazy loader.
+     */
+    private static class BasicOrganizationCacheByOrgIdSingleton {
+
+        private static final BasicOrganizationCacheByOrgId INSTANCE =
+                new BasicOrganizationCacheByOrgId();
+    }
+
+    private BasicOrganizationCacheByOrgId() {
+
+        super(CACHE_NAME);
+    }
+
+    public static BasicOrganizationCacheByOrgId getInstance() {
+
+        return BasicOrganizationCacheByOrgIdSingleton.INSTANCE;
+    }
+}
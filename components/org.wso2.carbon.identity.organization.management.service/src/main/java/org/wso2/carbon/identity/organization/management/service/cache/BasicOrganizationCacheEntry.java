@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
+
+/**
+ * Basic organization cache entry. The organization is flattened into the entry when it is cached and rebuilt on each
+ * read, so that the callers modifying the returned organization do not modify the cached organization.
+ */
+public class BasicOrganizationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -6358130279423648145L;
+
+    private final String id;
+    private final String name;
+    private final String status;
+    private final String version;
+    private final String created;
+    private final String organizationHandle;
+    private final boolean hasChildren;
+
+    public BasicOrganizationCacheEntry(BasicOrganization basicOrganization) {
+
+        this.id = basicOrganization.getId();
+        this.name = basicOrganization.getName();
+        this.status = basicOrganization.getStatus();
+        this.version = basicOrganization.getVersion();
+        this.created = basicOrganization.getCreated();
+        this.organizationHandle = basicOrganization.getOrganizationHandle();
+        this.hasChildren = basicOrganization.hasChildren();
+    }
+
+    /**
+     * Get a copy of the cached organization.
+     *
+     * @return The basic organization.
+     */
+    public BasicOrganization getBasicOrganization() {
+
+        BasicOrganization basicOrganization = new BasicOrganization();
+        basicOrganization.setId(id);
+        basicOrganization.setName(name);
+        basicOrganization.setStatus(status);
+        basicOrganization.setVersion(version);
+        basicOrganization.setCreated(created);
+        basicOrganization.setOrganizationHandle(organizationHandle);
+        basicOrganization.setHasChildren(hasChildren);
+        return basicOrganization;
+    }
+}
@@ -18,6 +18,9 @@
 
 package org.wso2.carbon.identity.organization.management.service.cache;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 
 /**
@@ -29,6 +32,9 @@ public abstract class CacheEntry implements Serializable {
     private static final long serialVersionUID = -7349132415139486164L;
 
     private long validityPeriod;
+    private boolean negative;
+    private long expiryTime;
+    private long loadTime;
 
     protected CacheEntry() {
     }
@@ -42,4 +48,75 @@ public abstract class CacheEntry implements Serializable {
 
         this.validityPeriod = validityPeriod;
     }
+
+    /**
+     * Check whether this entry is a sentinel recording that the looked up value does not exist.
+     *
+     * @return True if this is a negative entry.
+     */
+    public boolean isNegative() {
+
+        return negative;
+    }
+
+    /**
+     * Check whether this entry has outlived its expiry time. Entries without an expiry time never expire.
+     *
+     * @return True if the entry is expired.
+     */
+    public boolean isExpired() {
+
+        return expiryTime > 0 && System.currentTimeMillis() >= expiryTime;
+    }
+
+    /**
+     * Get the time this entry was added to the cache, which is used to decide when to reload the entry ahead of its
+     * expiry.
+     *
+     * @return The load time in milliseconds, or 0 if the entry is not added to a cache yet.
+     */
+    public long getLoadTime() {
+
+        return loadTime;
+    }
+
+    void markAsLoaded(long loadTime) {
+
+        this.loadTime = loadTime;
+    }
+
+    void markAsNegative(long expiryTime) {
+
+        this.negative = true;
+        this.expiryTime = expiryTime;
+    }
+
+    /**
+     * Write the state held by this class, for the entries implementing {@link java.io.Externalizable}, whose
+     * superclass state is not serialized by default.
+     *
+     * @param out The output.
+     * @throws IOException If an I/O error occurs.
+     */
+    protected void writeEntryState(ObjectOutput out) throws IOException {
+
+        out.writeBoolean(negative);
+        CacheEntryCodec.writeVarLong(out, validityPeriod);
+        CacheEntryCodec.writeVarLong(out, expiryTime);
+        CacheEntryCodec.writeVarLong(out, loadTime);
+    }
+
+    /**
+     * Read the state written with {@link #writeEntryState(ObjectOutput)}.
+     *
+     * @param in The input.
+     * @throws IOException If an I/O error occurs.
+     */
+    protected void readEntryState(ObjectInput in) throws IOException {
+
+        negative = in.readBoolean();
+        validityPeriod = CacheEntryCodec.readVarLong(in);
+        expiryTime = CacheEntryCodec.readVarLong(in);
+        loadTime = CacheEntryCodec.readVarLong(in);
+    }
 }
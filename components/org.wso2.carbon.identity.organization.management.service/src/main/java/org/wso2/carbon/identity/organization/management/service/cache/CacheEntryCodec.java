@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of the cache entries replicated across the nodes of a distributed cache. Organization IDs
+ * in the canonical UUID form are written as two longs, enum values as their ordinals and integers as variable length
+ * integers. Each entry starts with a format version, such that nodes running different versions during a rolling
+ * upgrade reject the entries they can not read instead of misreading them.
+ */
+final class CacheEntryCodec {
+
+    static final byte FORMAT_VERSION = 1;
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte UUID_VALUE = 1;
+    private static final byte STRING_VALUE = 2;
+    // Enum values are written as their ordinal shifted by one, as 0 is reserved for null.
+    private static final int UNKNOWN_ENUM_VALUE = 0xFF;
+    private static final int CANONICAL_UUID_LENGTH = 36;
+
+    private CacheEntryCodec() {
+
+    }
+
+    static void writeVersion(ObjectOutput out) throws IOException {
+
+        out.writeByte(FORMAT_VERSION);
+    }
+
+    static void readVersion(ObjectInput in, Class<?> entryClass) throws IOException {
+
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new InvalidObjectException("Unsupported format version : " + version + " of cache entry : " +
+                    entryClass.getName());
+        }
+    }
+
+    /**
+     * Write an ID, as two longs if it is a UUID in the canonical form and as a string otherwise.
+     *
+     * @param out The output.
+     * @param id  The ID, which can be null.
+     * @throws IOException If an I/O error occurs.
+     */
+    static void writeId(ObjectOutput out, String id) throws IOException {
+
+        UUID uuid = toCanonicalUuid(id);
+        if (uuid != null) {
+            out.writeByte(UUID_VALUE);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        } else if (id != null) {
+            out.writeByte(STRING_VALUE);
+            out.writeUTF(id);
+        } else {
+            out.writeByte(NULL_VALUE);
+        }
+    }
+
+    static String readId(ObjectInput in) throws IOException {
+
+        byte type = in.readByte();
+        switch (type) {
+            case NULL_VALUE:
+                return null;
+            case UUID_VALUE:
+                return new UUID(in.readLong(), in.readLong()).toString();
+            case STRING_VALUE:
+                return in.readUTF();
+            default:
+                throw new InvalidObjectException("Invalid ID type : " + type);
+        }
+    }
+
+    static void writeString(ObjectOutput out, String value) throws IOException {
+
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readString(ObjectInput in) throws IOException {
+
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Write a value of an enum as its ordinal, or as a string if it is not a constant of the enum.
+     *
+     * @param out       The output.
+     * @param value     The name of the enum constant, which can be null.
+     * @param constants The constants of the enum, of which there can be at most 254.
+     * @throws IOException If an I/O error occurs.
+     */
+    static void writeEnum(ObjectOutput out, String value, Enum<?>[] constants) throws IOException {
+
+        if (value == null) {
+            out.writeByte(NULL_VALUE);
+            return;
+        }
+        for (Enum<?> constant : constants) {
+            if (constant.name().equals(value)) {
+                out.writeByte(constant.ordinal() + 1);
+                return;
+            }
+        }
+        out.writeByte(UNKNOWN_ENUM_VALUE);
+        out.writeUTF(value);
+    }
+
+    static String readEnum(ObjectInput in, Enum<?>[] constants) throws IOException {
+
+        int value = in.readUnsignedByte();
+        if (value == NULL_VALUE) {
+            return null;
+        }
+        if (value == UNKNOWN_ENUM_VALUE) {
+            return in.readUTF();
+        }
+        if (value > constants.length) {
+            throw new InvalidObjectException("Invalid enum ordinal : " + (value - 1));
+        }
+        return constants[value - 1].name();
+    }
+
+    /**
+     * Write an integer in the zigzag variable length encoding, in which the integers close to zero, including the
+     * negative ones, take a single byte.
+     *
+     * @param out   The output.
+     * @param value The integer.
+     * @throws IOException If an I/O error occurs.
+     */
+    static void writeVarInt(ObjectOutput out, int value) throws IOException {
+
+        writeVarLong(out, value);
+    }
+
+    static int readVarInt(ObjectInput in) throws IOException {
+
+        return (int) readVarLong(in);
+    }
+
+    static void writeVarLong(ObjectOutput out, long value) throws IOException {
+
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.writeByte((int) zigzag);
+    }
+
+    static long readVarLong(ObjectInput in) throws IOException {
+
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new InvalidObjectException("Malformed variable length integer.");
+    }
+
+    private static UUID toCanonicalUuid(String id) {
+
+        if (id == null || id.length() != CANONICAL_UUID_LENGTH) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            // Only the IDs restored exactly as they are written are encoded as UUIDs.
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
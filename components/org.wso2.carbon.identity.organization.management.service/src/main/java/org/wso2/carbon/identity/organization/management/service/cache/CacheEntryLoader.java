@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.io.Serializable;
+
+/**
+ * Loader of a cache entry from the underlying data source, used to reload the entries of a cache ahead of their expiry.
+ *
+ * @param <K> cache key type.
+ * @param <V> cache value type.
+ */
+@FunctionalInterface
+public interface CacheEntryLoader<K extends Serializable, V extends Serializable> {
+
+    /**
+     * Load the entry of the given key.
+     *
+     * @param key          Key which cache entry is indexed.
+     * @param staleEntry   The cached entry being replaced.
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     * @return The loaded entry, or null if the value no longer exists.
+     * @throws OrganizationManagementException The exception thrown when loading the entry.
+     */
+    V load(K key, V staleEntry, String tenantDomain) throws OrganizationManagementException;
+}
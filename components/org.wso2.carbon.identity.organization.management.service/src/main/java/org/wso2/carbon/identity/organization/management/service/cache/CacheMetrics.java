@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lookup, eviction and load metrics of a cache or of a cached DAO operation. Negative hits are the hits served by
+ * negative entries, and are also counted as hits. Evictions are the entries dropped from the node-local near cache
+ * and the expired entries dropped on read.
+ */
+public class CacheMetrics implements CacheMetricsMBean {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder negativeHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LatencyHistogram loadTimeHistogram = new LatencyHistogram();
+    private final LatencyHistogram hitTimeHistogram = new LatencyHistogram();
+
+    void recordHit(boolean negative) {
+
+        hitCount.increment();
+        if (negative) {
+            negativeHitCount.increment();
+        }
+    }
+
+    void recordHitTime(long hitTimeNanos) {
+
+        hitTimeHistogram.record(hitTimeNanos);
+    }
+
+    void recordMiss() {
+
+        missCount.increment();
+    }
+
+    void recordRefresh() {
+
+        refreshCount.increment();
+    }
+
+    void recordEviction() {
+
+        evictionCount.increment();
+    }
+
+    void recordLoad(long loadTimeNanos, boolean successful) {
+
+        if (successful) {
+            loadCount.increment();
+        } else {
+            loadFailureCount.increment();
+        }
+        loadTimeHistogram.record(loadTimeNanos);
+    }
+
+    @Override
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getNegativeHitCount() {
+
+        return negativeHitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    /**
+     * Get the number of entries reloaded ahead of their expiry.
+     *
+     * @return The refresh count.
+     */
+    @Override
+    public long getRefreshCount() {
+
+        return refreshCount.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+
+        return evictionCount.sum();
+    }
+
+    /**
+     * Get the number of values loaded successfully from the underlying data source.
+     *
+     * @return The load count.
+     */
+    @Override
+    public long getLoadCount() {
+
+        return loadCount.sum();
+    }
+
+    @Override
+    public long getLoadFailureCount() {
+
+        return loadFailureCount.sum();
+    }
+
+    @Override
+    public double getAverageLoadTimeMillis() {
+
+        return loadTimeHistogram.getMeanMillis();
+    }
+
+    @Override
+    public long getLoadTime99thPercentileMillis() {
+
+        return loadTimeHistogram.getPercentileMillis(99);
+    }
+
+    @Override
+    public long[] getLoadTimeBucketUpperBoundsMillis() {
+
+        return loadTimeHistogram.getBucketUpperBoundsMillis();
+    }
+
+    @Override
+    public long[] getLoadTimeBucketCounts() {
+
+        return loadTimeHistogram.getBucketCounts();
+    }
+
+    public LatencyHistogram getLoadTimeHistogram() {
+
+        return loadTimeHistogram;
+    }
+
+    /**
+     * Get the average time taken to serve a lookup from the cache. Only the operations timing their hits record it.
+     *
+     * @return The average hit time in milliseconds, or 0 if no hit time is recorded.
+     */
+    @Override
+    public double getAverageHitTimeMillis() {
+
+        return hitTimeHistogram.getMeanMillis();
+    }
+
+    @Override
+    public long getHitTime99thPercentileMillis() {
+
+        return hitTimeHistogram.getPercentileMillis(99);
+    }
+
+    public LatencyHistogram getHitTimeHistogram() {
+
+        return hitTimeHistogram;
+    }
+
+    /**
+     * Get the ratio of the lookups served by negative entries to all the lookups.
+     *
+     * @return The negative hit ratio, or 0 if there were no lookups.
+     */
+    @Override
+    public double getNegativeHitRatio() {
+
+        long lookupCount = getHitCount() + getMissCount();
+        return lookupCount == 0 ? 0 : (double) getNegativeHitCount() / lookupCount;
+    }
+
+    /**
+     * Get the ratio of the lookups served by the cache to all the lookups.
+     *
+     * @return The hit ratio, or 0 if there were no lookups.
+     */
+    @Override
+    public double getHitRatio() {
+
+        long lookupCount = getHitCount() + getMissCount();
+        return lookupCount == 0 ? 0 : (double) getHitCount() / lookupCount;
+    }
+
+    @Override
+    public String toString() {
+
+        return "hits : " + getHitCount() + ", negative hits : " + getNegativeHitCount() + ", misses : " +
+                getMissCount() + ", evictions : " + getEvictionCount() + ", refreshes : " + getRefreshCount() +
+                ", loads : " + getLoadCount() + ", load failures : " + getLoadFailureCount();
+    }
+}
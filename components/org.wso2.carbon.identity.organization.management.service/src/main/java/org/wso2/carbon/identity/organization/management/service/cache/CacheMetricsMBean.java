@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+/**
+ * Management interface of {@link CacheMetrics}, exposing the metrics of a cache or of a cached operation over JMX.
+ */
+public interface CacheMetricsMBean {
+
+    long getHitCount();
+
+    long getNegativeHitCount();
+
+    long getMissCount();
+
+    double getHitRatio();
+
+    double getNegativeHitRatio();
+
+    long getEvictionCount();
+
+    long getRefreshCount();
+
+    long getLoadCount();
+
+    long getLoadFailureCount();
+
+    double getAverageLoadTimeMillis();
+
+    long getLoadTime99thPercentileMillis();
+
+    long[] getLoadTimeBucketUpperBoundsMillis();
+
+    long[] getLoadTimeBucketCounts();
+
+    double getAverageHitTimeMillis();
+
+    long getHitTime99thPercentileMillis();
+}
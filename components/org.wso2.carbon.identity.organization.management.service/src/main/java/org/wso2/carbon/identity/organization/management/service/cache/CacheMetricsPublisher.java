@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+/**
+ * Extension point to publish the organization management cache metrics to a metrics registry. Implementations
+ * registered as OSGi services are notified of the metrics of each cache and of each cached DAO operation.
+ */
+public interface CacheMetricsPublisher {
+
+    /**
+     * Publish the metrics of a cache or of a cached DAO operation. The metrics are updated in place, hence they
+     * should be read when the registry is scraped.
+     *
+     * @param type    The type of the metrics, {@link CacheMetricsRegistry#TYPE_CACHE} or
+     *                {@link CacheMetricsRegistry#TYPE_CACHE_OPERATION}.
+     * @param name    The name of the cache or the DAO operation.
+     * @param metrics The metrics.
+     */
+    void publish(String type, String name, CacheMetrics metrics);
+
+    /**
+     * Remove all the metrics published by this publisher.
+     */
+    void unpublishAll();
+}
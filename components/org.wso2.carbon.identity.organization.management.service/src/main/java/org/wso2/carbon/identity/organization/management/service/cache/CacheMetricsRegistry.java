@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the metrics of the organization management caches and of the cached DAO operations. The metrics of a
+ * cached DAO operation attribute the lookups and the loads to the DAO method, while the metrics of a cache cover all
+ * the lookups of the cache.
+ * The metrics are published to the registered {@link CacheMetricsPublisher}s. A publisher may be notified more than
+ * once of the same metrics when it is registered while the metrics are being created.
+ */
+public final class CacheMetricsRegistry {
+
+    public static final String TYPE_CACHE = "Cache";
+    public static final String TYPE_CACHE_OPERATION = "CacheOperation";
+
+    private static final Log LOG = LogFactory.getLog(CacheMetricsRegistry.class);
+    private static final Map<String, CacheMetrics> CACHE_METRICS = new ConcurrentHashMap<>();
+    private static final Map<String, CacheMetrics> OPERATION_METRICS = new ConcurrentHashMap<>();
+    private static final List<CacheMetricsPublisher> PUBLISHERS = new CopyOnWriteArrayList<>();
+
+    private CacheMetricsRegistry() {
+
+    }
+
+    /**
+     * Get the metrics of the given cache.
+     *
+     * @param cacheName The cache name.
+     * @return The cache metrics, or null if the cache is not created.
+     */
+    public static CacheMetrics getCacheMetrics(String cacheName) {
+
+        return CACHE_METRICS.get(cacheName);
+    }
+
+    /**
+     * Get the metrics of the given cached DAO operation, creating them on the first access.
+     *
+     * @param operationName The name of the DAO operation.
+     * @return The operation metrics.
+     */
+    public static CacheMetrics getOperationMetrics(String operationName) {
+
+        CacheMetrics metrics = OPERATION_METRICS.get(operationName);
+        if (metrics != null) {
+            return metrics;
+        }
+        CacheMetrics newMetrics = new CacheMetrics();
+        metrics = OPERATION_METRICS.putIfAbsent(operationName, newMetrics);
+        if (metrics != null) {
+            return metrics;
+        }
+        publish(TYPE_CACHE_OPERATION, operationName, newMetrics);
+        return newMetrics;
+    }
+
+    /**
+     * Record a lookup of a cached DAO operation served by the cache.
+     *
+     * @param operationName The name of the DAO operation.
+     * @param negative      Whether the lookup is served by a negative entry.
+     */
+    public static void recordOperationHit(String operationName, boolean negative) {
+
+        getOperationMetrics(operationName).recordHit(negative);
+    }
+
+    /**
+     * Record a lookup of a cached DAO operation served by the cache, together with the time taken to serve it.
+     *
+     * @param operationName The name of the DAO operation.
+     * @param negative      Whether the lookup is served by a negative entry.
+     * @param hitTimeNanos  The time taken to serve the lookup in nanoseconds.
+     */
+    public static void recordOperationHit(String operationName, boolean negative, long hitTimeNanos) {
+
+        CacheMetrics operationMetrics = getOperationMetrics(operationName);
+        operationMetrics.recordHit(negative);
+        operationMetrics.recordHitTime(hitTimeNanos);
+    }
+
+    /**
+     * Record a lookup of a cached DAO operation missed in the cache.
+     *
+     * @param operationName The name of the DAO operation.
+     */
+    public static void recordOperationMiss(String operationName) {
+
+        getOperationMetrics(operationName).recordMiss();
+    }
+
+    /**
+     * Record a load of the values missed in the cache by a cached DAO operation.
+     *
+     * @param operationName The name of the DAO operation.
+     * @param loadTimeNanos The time taken to load the values in nanoseconds.
+     * @param successful    Whether the values are loaded successfully.
+     */
+    public static void recordOperationLoad(String operationName, long loadTimeNanos, boolean successful) {
+
+        getOperationMetrics(operationName).recordLoad(loadTimeNanos, successful);
+    }
+
+    /**
+     * Register a publisher, which is notified of the existing metrics and of the metrics created afterwards.
+     *
+     * @param publisher The metrics publisher.
+     */
+    public static void addPublisher(CacheMetricsPublisher publisher) {
+
+        PUBLISHERS.add(publisher);
+        CACHE_METRICS.forEach((name, metrics) -> publish(publisher, TYPE_CACHE, name, metrics));
+        OPERATION_METRICS.forEach((name, metrics) -> publish(publisher, TYPE_CACHE_OPERATION, name, metrics));
+    }
+
+    /**
+     * Remove a publisher and the metrics published by it.
+     *
+     * @param publisher The metrics publisher.
+     */
+    public static void removePublisher(CacheMetricsPublisher publisher) {
+
+        if (PUBLISHERS.remove(publisher)) {
+            publisher.unpublishAll();
+        }
+    }
+
+    static void registerCacheMetrics(String cacheName, CacheMetrics metrics) {
+
+        CACHE_METRICS.put(cacheName, metrics);
+        publish(TYPE_CACHE, cacheName, metrics);
+    }
+
+    private static void publish(String type, String name, CacheMetrics metrics) {
+
+        for (CacheMetricsPublisher publisher : PUBLISHERS) {
+            publish(publisher, type, name, metrics);
+        }
+    }
+
+    private static void publish(CacheMetricsPublisher publisher, String type, String name, CacheMetrics metrics) {
+
+        try {
+            publisher.publish(type, name, metrics);
+        } catch (RuntimeException e) {
+            // A failing publisher must not fail the cache operations.
+            LOG.warn("Error while publishing the metrics of " + type + " : " + name + " with publisher : " +
+                    publisher.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+/**
+ * Cache for the child organization listings against the organization Id and the listing type.
+ */
+public class ChildOrganizationListingCacheByOrgId
+        extends BaseCache<ChildOrganizationListingCacheKey, ChildOrganizationListingCacheEntry> {
+
+    private static final String CACHE_NAME = "ChildOrganizationListingCacheByOrgId";
+
+    /**
+     * Child organization listing cache lazy loader.
+     */
+    private static class ChildOrganizationListingCacheByOrgIdSingleton {
+
+        private static final ChildOrganizationListingCacheByOrgId INSTANCE =
+                new ChildOrganizationListingCacheByOrgId();
+    }
+
+    private ChildOrganizationListingCacheByOrgId() {
+
+        super(CACHE_NAME);
+    }
+
+    public static ChildOrganizationListingCacheByOrgId getInstance() {
+
+        return ChildOrganizationListingCacheByOrgIdSingleton.INSTANCE;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Child organization listing cache entry. The listing is flattened into the entry when it is cached and rebuilt on
+ * each read, so that the callers modifying the returned listing do not modify the cached listing. The entry is only
+ * valid while the generation of the subtree it was loaded in is the current generation of the subtree.
+ */
+public class ChildOrganizationListingCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 7184492805174035214L;
+
+    private final long generation;
+    private final ArrayList<String> ids = new ArrayList<>();
+    private final ArrayList<String> names = new ArrayList<>();
+    private final ArrayList<String> statuses = new ArrayList<>();
+    private final ArrayList<String> versions = new ArrayList<>();
+    private final ArrayList<String> createdTimes = new ArrayList<>();
+    private final ArrayList<String> organizationHandles = new ArrayList<>();
+    private final ArrayList<Boolean> hasChildren = new ArrayList<>();
+    private final ArrayList<String> parentIds = new ArrayList<>();
+    // Index of the parent node in the flattened graph, or -1 for the top level nodes of the graph.
+    private final ArrayList<Integer> parentIndexes = new ArrayList<>();
+
+    private ChildOrganizationListingCacheEntry(long generation) {
+
+        this.generation = generation;
+    }
+
+    /**
+     * Create a cache entry for a child organization list.
+     *
+     * @param generation         The subtree generation the organizations were loaded in.
+     * @param basicOrganizations The child organizations.
+     * @return The cache entry.
+     */
+    public static ChildOrganizationListingCacheEntry fromBasicOrganizations(
+            long generation, List<BasicOrganization> basicOrganizations) {
+
+        ChildOrganizationListingCacheEntry entry = new ChildOrganizationListingCacheEntry(generation);
+        for (BasicOrganization basicOrganization : basicOrganizations) {
+            entry.ids.add(basicOrganization.getId());
+            entry.names.add(basicOrganization.getName());
+            entry.statuses.add(basicOrganization.getStatus());
+            entry.versions.add(basicOrganization.getVersion());
+            entry.createdTimes.add(basicOrganization.getCreated());
+            entry.organizationHandles.add(basicOrganization.getOrganizationHandle());
+            entry.hasChildren.add(basicOrganization.hasChildren());
+        }
+        return entry;
+    }
+
+    /**
+     * Create a cache entry for a child organization graph.
+     *
+     * @param generation    The subtree generation the graph was loaded in.
+     * @param topLevelNodes The top level nodes of the graph.
+     * @return The cache entry.
+     */
+    public static ChildOrganizationListingCacheEntry fromOrganizationGraph(
+            long generation, List<OrganizationNode> topLevelNodes) {
+
+        ChildOrganizationListingCacheEntry entry = new ChildOrganizationListingCacheEntry(generation);
+        for (OrganizationNode node : topLevelNodes) {
+            entry.addOrganizationNode(node, -1);
+        }
+        return entry;
+    }
+
+    public long getGeneration() {
+
+        return generation;
+    }
+
+    /**
+     * Get a copy of the cached child organizations.
+     *
+     * @return The child organizations.
+     */
+    public List<BasicOrganization> getBasicOrganizations() {
+
+        List<BasicOrganization> basicOrganizations = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            BasicOrganization basicOrganization = new BasicOrganization();
+            basicOrganization.setId(ids.get(i));
+            basicOrganization.setName(names.get(i));
+            basicOrganization.setStatus(statuses.get(i));
+            basicOrganization.setVersion(versions.get(i));
+            basicOrganization.setCreated(createdTimes.get(i));
+            basicOrganization.setOrganizationHandle(organizationHandles.get(i));
+            basicOrganization.setHasChildren(hasChildren.get(i));
+            basicOrganizations.add(basicOrganization);
+        }
+        return basicOrganizations;
+    }
+
+    /**
+     * Get a copy of the cached child organization graph.
+     *
+     * @return The top level nodes of the graph.
+     */
+    public List<OrganizationNode> getOrganizationGraph() {
+
+        List<OrganizationNode> nodes = new ArrayList<>(ids.size());
+        List<OrganizationNode> topLevelNodes = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            OrganizationNode node = new OrganizationNode(ids.get(i), names.get(i), createdTimes.get(i),
+                    organizationHandles.get(i), parentIds.get(i));
+            nodes.add(node);
+            int parentIndex = parentIndexes.get(i);
+            if (parentIndex < 0) {
+                topLevelNodes.add(node);
+            } else {
+                // Parents are flattened before their children, hence the parent node is already rebuilt.
+                nodes.get(parentIndex).addChild(node);
+            }
+        }
+        return topLevelNodes;
+    }
+
+    private void addOrganizationNode(OrganizationNode node, int parentIndex) {
+
+        int index = ids.size();
+        ids.add(node.getId());
+        names.add(node.getName());
+        createdTimes.add(node.getCreated());
+        organizationHandles.add(node.getOrganizationHandle());
+        parentIds.add(node.getParentId());
+        parentIndexes.add(parentIndex);
+        if (node.getChildren() != null) {
+            for (OrganizationNode child : node.getChildren()) {
+                addOrganizationNode(child, index);
+            }
+        }
+    }
+}
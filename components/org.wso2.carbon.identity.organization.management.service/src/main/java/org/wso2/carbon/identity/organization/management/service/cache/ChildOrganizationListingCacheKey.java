@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import java.util.Objects;
+
+/**
+ * Child organization listing cache key. The listing type identifies the listing operation together with its depth
+ * arguments, such that each listing of an organization is cached separately.
+ */
+public class ChildOrganizationListingCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -2963108247761539035L;
+
+    private String orgId;
+    private String listingType;
+
+    public ChildOrganizationListingCacheKey(String orgId, String listingType) {
+
+        this.orgId = orgId;
+        this.listingType = listingType;
+    }
+
+    public String getOrganizationId() {
+
+        return orgId;
+    }
+
+    public String getListingType() {
+
+        return listingType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        ChildOrganizationListingCacheKey that = (ChildOrganizationListingCacheKey) o;
+
+        return Objects.equals(orgId, that.orgId) && Objects.equals(listingType, that.listingType);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = super.hashCode();
+        result = 31 * result + Objects.hashCode(orgId);
+        result = 31 * result + Objects.hashCode(listingType);
+        return result;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Publishes the organization management cache metrics as MBeans in the platform MBean server, under the
+ * {@value #JMX_DOMAIN} domain.
+ */
+public class JmxCacheMetricsPublisher implements CacheMetricsPublisher {
+
+    public static final String JMX_DOMAIN = "org.wso2.carbon.identity.organization.management";
+
+    private static final Log LOG = LogFactory.getLog(JmxCacheMetricsPublisher.class);
+    private final MBeanServer mBeanServer;
+    private final Set<ObjectName> registeredObjectNames = ConcurrentHashMap.newKeySet();
+
+    public JmxCacheMetricsPublisher() {
+
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public JmxCacheMetricsPublisher(MBeanServer mBeanServer) {
+
+        this.mBeanServer = mBeanServer;
+    }
+
+    @Override
+    public void publish(String type, String name, CacheMetrics metrics) {
+
+        try {
+            ObjectName objectName = getObjectName(type, name);
+            if (registeredObjectNames.contains(objectName)) {
+                return;
+            }
+            try {
+                mBeanServer.registerMBean(metrics, objectName);
+            } catch (InstanceAlreadyExistsException e) {
+                // Left behind by a previous activation of the bundle, hence replaced with the current metrics.
+                mBeanServer.unregisterMBean(objectName);
+                mBeanServer.registerMBean(metrics, objectName);
+            }
+            registeredObjectNames.add(objectName);
+        } catch (JMException e) {
+            LOG.warn("Error while registering the MBean of " + type + " : " + name, e);
+        }
+    }
+
+    @Override
+    public void unpublishAll() {
+
+        for (ObjectName objectName : registeredObjectNames) {
+            try {
+                mBeanServer.unregisterMBean(objectName);
+            } catch (JMException e) {
+                LOG.debug("Error while unregistering the MBean : " + objectName, e);
+            }
+            registeredObjectNames.remove(objectName);
+        }
+    }
+
+    /**
+     * Get the object name of the MBean of the given metrics.
+     *
+     * @param type The type of the metrics.
+     * @param name The name of the cache or the DAO operation.
+     * @return The object name.
+     * @throws JMException If the object name is malformed.
+     */
+    public static ObjectName getObjectName(String type, String name) throws JMException {
+
+        return new ObjectName(JMX_DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies recorded into fixed buckets, so that recording does not allocate or block.
+ * Each bucket counts the latencies up to its upper bound, while the last bucket counts the latencies above the
+ * largest bound.
+ */
+public final class LatencyHistogram {
+
+    private static final long[] BUCKET_UPPER_BOUNDS_MILLIS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+
+    private final LongAdder[] bucketCounts = new LongAdder[BUCKET_UPPER_BOUNDS_MILLIS.length + 1];
+    private final LongAdder totalTimeNanos = new LongAdder();
+
+    LatencyHistogram() {
+
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = new LongAdder();
+        }
+    }
+
+    void record(long latencyNanos) {
+
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(Math.max(latencyNanos, 0));
+        int bucket = 0;
+        while (bucket < BUCKET_UPPER_BOUNDS_MILLIS.length &&
+                latencyMicros > TimeUnit.MILLISECONDS.toMicros(BUCKET_UPPER_BOUNDS_MILLIS[bucket])) {
+            bucket++;
+        }
+        bucketCounts[bucket].increment();
+        totalTimeNanos.add(Math.max(latencyNanos, 0));
+    }
+
+    /**
+     * Get the upper bounds of the buckets in milliseconds. The last bucket, which has no upper bound, is not included.
+     *
+     * @return The bucket upper bounds.
+     */
+    public long[] getBucketUpperBoundsMillis() {
+
+        return BUCKET_UPPER_BOUNDS_MILLIS.clone();
+    }
+
+    /**
+     * Get the number of latencies recorded into each bucket, including the last bucket without an upper bound.
+     *
+     * @return The bucket counts.
+     */
+    public long[] getBucketCounts() {
+
+        long[] counts = new long[bucketCounts.length];
+        for (int i = 0; i < bucketCounts.length; i++) {
+            counts[i] = bucketCounts[i].sum();
+        }
+        return counts;
+    }
+
+    public long getCount() {
+
+        long count = 0;
+        for (LongAdder bucketCount : bucketCounts) {
+            count += bucketCount.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Get the mean of the recorded latencies.
+     *
+     * @return The mean latency in milliseconds, or 0 if no latency is recorded.
+     */
+    public double getMeanMillis() {
+
+        long count = getCount();
+        return count == 0 ? 0 : (double) totalTimeNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Get the upper bound of the bucket containing the given percentile of the recorded latencies.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The percentile latency in milliseconds, 0 if no latency is recorded, or -1 if the percentile falls in
+     * the last bucket without an upper bound.
+     */
+    public long getPercentileMillis(double percentile) {
+
+        long[] counts = getBucketCounts();
+        long count = 0;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * Math.min(Math.max(percentile, 0), 100) / 100);
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MILLIS.length; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= rank) {
+                return BUCKET_UPPER_BOUNDS_MILLIS[i];
+            }
+        }
+        return -1;
+    }
+}
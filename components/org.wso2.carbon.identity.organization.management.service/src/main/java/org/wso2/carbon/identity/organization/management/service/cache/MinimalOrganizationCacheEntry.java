@@ -20,12 +20,19 @@ package org.wso2.carbon.identity.organization.management.service.cache;
 
 import org.wso2.carbon.identity.organization.management.service.model.MinimalOrganization;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.OrganizationStatus;
+
 /**
- * Minimal organization cache entry.
+ * Minimal organization cache entry, serialized with {@link CacheEntryCodec}.
  */
-public class MinimalOrganizationCacheEntry extends CacheEntry {
+public class MinimalOrganizationCacheEntry extends CacheEntry implements Externalizable {
 
-    private static final long serialVersionUID = 202310121234567890L;
+    private static final long serialVersionUID = 5230919843365178921L;
 
     private String id;
     private String name;
@@ -46,6 +53,13 @@ public class MinimalOrganizationCacheEntry extends CacheEntry {
         this.depth = minimalOrganization.getDepth();
     }
 
+    /**
+     * Constructor used for the deserialization of the entry.
+     */
+    public MinimalOrganizationCacheEntry() {
+
+    }
+
     public MinimalOrganization getMinimalOrganization() {
 
         return new MinimalOrganization.Builder()
@@ -69,4 +83,32 @@ public class MinimalOrganizationCacheEntry extends CacheEntry {
         this.parentOrganizationId = minimalOrganization.getParentOrganizationId();
         this.depth = minimalOrganization.getDepth();
     }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+
+        CacheEntryCodec.writeVersion(out);
+        writeEntryState(out);
+        CacheEntryCodec.writeId(out, id);
+        CacheEntryCodec.writeString(out, name);
+        CacheEntryCodec.writeEnum(out, status, OrganizationStatus.values());
+        CacheEntryCodec.writeString(out, created);
+        CacheEntryCodec.writeString(out, organizationHandle);
+        CacheEntryCodec.writeId(out, parentOrganizationId);
+        CacheEntryCodec.writeVarInt(out, depth);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+
+        CacheEntryCodec.readVersion(in, MinimalOrganizationCacheEntry.class);
+        readEntryState(in);
+        id = CacheEntryCodec.readId(in);
+        name = CacheEntryCodec.readString(in);
+        status = CacheEntryCodec.readEnum(in, OrganizationStatus.values());
+        created = CacheEntryCodec.readString(in);
+        organizationHandle = CacheEntryCodec.readString(in);
+        parentOrganizationId = CacheEntryCodec.readId(in);
+        depth = CacheEntryCodec.readVarInt(in);
+    }
 }
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded node-local cache kept in front of a {@link BaseCache}, so that frequently read entries are served
+ * without starting a tenant flow or going through the underlying cache implementation.
+ * Entries expire after a fixed time to live, which bounds the staleness of entries invalidated on other nodes.
+ * When the capacity is exceeded, entries are evicted in insertion order, while the entries accessed since they were
+ * last visited are given another chance with a halved access frequency.
+ *
+ * @param <K> cache key type.
+ * @param <V> cache value type.
+ */
+final class NearCache<K extends Serializable, V extends Serializable> {
+
+    private static final int MAX_FREQUENCY = 15;
+
+    private final int capacity;
+    private final long timeToLiveNanos;
+    private final Map<NearCacheKey<K>, Node<K, V>> nodes = new ConcurrentHashMap<>();
+    private final Queue<Node<K, V>> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedNodeCount = new AtomicInteger();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final CacheMetrics cacheMetrics;
+
+    NearCache(int capacity, int timeToLiveSeconds) {
+
+        this(capacity, timeToLiveSeconds, new CacheMetrics());
+    }
+
+    /**
+     * Create a near cache recording the evicted and expired entries in the given metrics.
+     *
+     * @param capacity          The maximum number of entries.
+     * @param timeToLiveSeconds The time to live of the entries in seconds.
+     * @param cacheMetrics      The metrics of the cache.
+     */
+    NearCache(int capacity, int timeToLiveSeconds, CacheMetrics cacheMetrics) {
+
+        this.capacity = capacity;
+        this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(timeToLiveSeconds);
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    /**
+     * Get the value cached against the given key.
+     *
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     * @param key          Key which cache entry is indexed.
+     * @return The cached value, or null if there is no live entry.
+     */
+    V get(String tenantDomain, K key) {
+
+        NearCacheKey<K> nearCacheKey = new NearCacheKey<>(tenantDomain, key);
+        Node<K, V> node = nodes.get(nearCacheKey);
+        if (node == null) {
+            return null;
+        }
+        if (node.isExpired(System.nanoTime())) {
+            if (nodes.remove(nearCacheKey, node)) {
+                cacheMetrics.recordEviction();
+            }
+            return null;
+        }
+        node.recordAccess();
+        return node.value;
+    }
+
+    /**
+     * Get the invalidation stamp to be passed to {@link #put(String, Serializable, Serializable, long)} when the
+     * value to be cached is read from the underlying cache after this call.
+     *
+     * @return The invalidation stamp.
+     */
+    long getInvalidationStamp() {
+
+        return invalidationCount.get();
+    }
+
+    /**
+     * Cache the given value, unless an invalidation happened after the given stamp was taken. This prevents a value
+     * read before an invalidation from being cached after it.
+     *
+     * @param tenantDomain       The tenant domain where the cache is maintained.
+     * @param key                Key which cache entry is indexed.
+     * @param value              Value to be cached.
+     * @param invalidationStamp  The invalidation stamp taken before reading the value.
+     */
+    void put(String tenantDomain, K key, V value, long invalidationStamp) {
+
+        if (invalidationCount.get() != invalidationStamp) {
+            return;
+        }
+        NearCacheKey<K> nearCacheKey = new NearCacheKey<>(tenantDomain, key);
+        Node<K, V> node = new Node<>(nearCacheKey, value, System.nanoTime() + timeToLiveNanos);
+        Node<K, V> previousNode = nodes.put(nearCacheKey, node);
+        if (previousNode != null) {
+            node.frequency = previousNode.frequency;
+        }
+        if (invalidationCount.get() != invalidationStamp) {
+            nodes.remove(nearCacheKey, node);
+            return;
+        }
+        evictionQueue.offer(node);
+        queuedNodeCount.incrementAndGet();
+        evictIfNeeded();
+    }
+
+    /**
+     * Cache the given value.
+     *
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     * @param key          Key which cache entry is indexed.
+     * @param value        Value to be cached.
+     */
+    void put(String tenantDomain, K key, V value) {
+
+        put(tenantDomain, key, value, getInvalidationStamp());
+    }
+
+    /**
+     * Remove the entry cached against the given key.
+     *
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     * @param key          Key which cache entry is indexed.
+     */
+    void remove(String tenantDomain, K key) {
+
+        invalidationCount.incrementAndGet();
+        nodes.remove(new NearCacheKey<>(tenantDomain, key));
+    }
+
+    /**
+     * Remove all the entries cached for the given tenant domain.
+     *
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     */
+    void clear(String tenantDomain) {
+
+        invalidationCount.incrementAndGet();
+        nodes.keySet().removeIf(nearCacheKey -> Objects.equals(nearCacheKey.tenantDomain, tenantDomain));
+    }
+
+    int size() {
+
+        return nodes.size();
+    }
+
+    private void evictIfNeeded() {
+
+        while (nodes.size() > capacity) {
+            Node<K, V> candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+            queuedNodeCount.decrementAndGet();
+            if (nodes.get(candidate.key) != candidate) {
+                // The entry was already removed or replaced.
+                continue;
+            }
+            int frequency = candidate.frequency;
+            if (frequency > 0 && !candidate.isExpired(System.nanoTime())) {
+                candidate.frequency = frequency >> 1;
+                evictionQueue.offer(candidate);
+                queuedNodeCount.incrementAndGet();
+            } else if (nodes.remove(candidate.key, candidate)) {
+                cacheMetrics.recordEviction();
+            }
+        }
+        // Removed and replaced entries stay in the queue until they are polled, hence purge them when they pile up.
+        if (queuedNodeCount.get() > 2 * capacity) {
+            evictionQueue.removeIf(node -> {
+                if (nodes.get(node.key) != node) {
+                    queuedNodeCount.decrementAndGet();
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    /**
+     * Near cache key scoping the cache key to the tenant domain.
+     */
+    private static final class NearCacheKey<K> {
+
+        private final String tenantDomain;
+        private final K key;
+        private final int hashCode;
+
+        private NearCacheKey(String tenantDomain, K key) {
+
+            this.tenantDomain = tenantDomain;
+            this.key = key;
+            this.hashCode = 31 * Objects.hashCode(tenantDomain) + key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof NearCacheKey)) {
+                return false;
+            }
+            NearCacheKey<?> that = (NearCacheKey<?>) o;
+            return hashCode == that.hashCode && Objects.equals(tenantDomain, that.tenantDomain) &&
+                    key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hashCode;
+        }
+    }
+
+    /**
+     * Near cache entry holding the value with its expiry time and approximate access frequency.
+     */
+    private static final class Node<K, V> {
+
+        private final NearCacheKey<K> key;
+        private final V value;
+        private final long expiryTime;
+        // Updated without synchronization, as an approximate frequency is sufficient for eviction.
+        private volatile int frequency;
+
+        private Node(NearCacheKey<K> key, V value, long expiryTime) {
+
+            this.key = key;
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+
+        private boolean isExpired(long now) {
+
+            return now - expiryTime >= 0;
+        }
+
+        private void recordAccess() {
+
+            int currentFrequency = frequency;
+            if (currentFrequency < MAX_FREQUENCY) {
+                frequency = currentFrequency + 1;
+            }
+        }
+    }
+}
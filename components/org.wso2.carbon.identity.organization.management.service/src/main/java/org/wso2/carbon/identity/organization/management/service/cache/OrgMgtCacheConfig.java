@@ -29,6 +29,11 @@ public class OrgMgtCacheConfig {
     private int capacity;
     private boolean isDistributed = true;
     private boolean isTemporary = false;
+    private int nearCacheCapacity;
+    private int nearCacheTimeout;
+    private int negativeCacheTimeout = -1;
+    private double refreshAheadFactor;
+    private boolean isLocalOnly;
 
     public OrgMgtCacheConfig(OrgMgtCacheConfigKey orgMgtCacheConfigKey) {
 
@@ -89,4 +94,54 @@ public class OrgMgtCacheConfig {
 
         this.isDistributed = isDistributed;
     }
+
+    public int getNearCacheCapacity() {
+
+        return this.nearCacheCapacity;
+    }
+
+    public void setNearCacheCapacity(int nearCacheCapacity) {
+
+        this.nearCacheCapacity = nearCacheCapacity;
+    }
+
+    public int getNearCacheTimeout() {
+
+        return this.nearCacheTimeout;
+    }
+
+    public void setNearCacheTimeout(int nearCacheTimeout) {
+
+        this.nearCacheTimeout = nearCacheTimeout;
+    }
+
+    public int getNegativeCacheTimeout() {
+
+        return this.negativeCacheTimeout;
+    }
+
+    public void setNegativeCacheTimeout(int negativeCacheTimeout) {
+
+        this.negativeCacheTimeout = negativeCacheTimeout;
+    }
+
+    public double getRefreshAheadFactor() {
+
+        return this.refreshAheadFactor;
+    }
+
+    public void setRefreshAheadFactor(double refreshAheadFactor) {
+
+        this.refreshAheadFactor = refreshAheadFactor;
+    }
+
+    public boolean isLocalOnly() {
+
+        return this.isLocalOnly;
+    }
+
+    public void setLocalOnly(boolean isLocalOnly) {
+
+        this.isLocalOnly = isLocalOnly;
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ancestors of an organization, starting with the organization itself followed by its parent organization up to
+ * the super organization. The ancestors are indexed by their depth relative to the organization and hashed by their
+ * IDs, such that the ancestor checks of the organization are answered in constant time.
+ */
+public class OrganizationAncestorPath implements Serializable {
+
+    private static final long serialVersionUID = 2093576631947238158L;
+
+    private final String[] ancestorOrganizationIds;
+    private transient Map<String, Integer> relativeDepths;
+
+    public OrganizationAncestorPath(List<String> ancestorOrganizationIds) {
+
+        this.ancestorOrganizationIds = ancestorOrganizationIds.toArray(new String[0]);
+        this.relativeDepths = buildRelativeDepths(this.ancestorOrganizationIds);
+    }
+
+    /**
+     * Get a copy of the ancestor organization IDs, starting with the organization itself.
+     *
+     * @return The ancestor organization IDs.
+     */
+    public List<String> getAncestorOrganizationIds() {
+
+        return new ArrayList<>(Arrays.asList(ancestorOrganizationIds));
+    }
+
+    /**
+     * Check whether the given organization is the organization itself or one of its ancestors.
+     *
+     * @param organizationId The organization ID.
+     * @return True if the organization is in the ancestor path.
+     */
+    public boolean containsOrganization(String organizationId) {
+
+        return relativeDepths.containsKey(organizationId);
+    }
+
+    /**
+     * Get the depth of the given ancestor relative to the organization.
+     *
+     * @param ancestorOrganizationId The ancestor organization ID.
+     * @return The relative depth, 0 for the organization itself, or -1 if the organization is not in the ancestor
+     * path.
+     */
+    public int getRelativeDepth(String ancestorOrganizationId) {
+
+        Integer relativeDepth = relativeDepths.get(ancestorOrganizationId);
+        return relativeDepth == null ? -1 : relativeDepth;
+    }
+
+    /**
+     * Get the ancestor in the given depth relative to the organization.
+     *
+     * @param depth The relative depth of the ancestor.
+     * @return The ancestor organization ID, or null if there is no ancestor in the given depth.
+     */
+    public String getAncestorOrganizationIdInGivenDepth(int depth) {
+
+        if (depth < 0 || depth >= ancestorOrganizationIds.length) {
+            return null;
+        }
+        return ancestorOrganizationIds[depth];
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+        in.defaultReadObject();
+        relativeDepths = buildRelativeDepths(ancestorOrganizationIds);
+    }
+
+    private static Map<String, Integer> buildRelativeDepths(String[] ancestorOrganizationIds) {
+
+        Map<String, Integer> relativeDepths = new HashMap<>(ancestorOrganizationIds.length * 2);
+        for (int depth = 0; depth < ancestorOrganizationIds.length; depth++) {
+            relativeDepths.put(ancestorOrganizationIds[depth], depth);
+        }
+        return relativeDepths;
+    }
+}
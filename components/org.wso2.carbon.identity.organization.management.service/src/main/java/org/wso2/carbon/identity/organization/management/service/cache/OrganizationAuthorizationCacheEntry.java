@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+/**
+ * Organization authorization cache entry, holding whether a user is authorized for a resource of an organization.
+ */
+public class OrganizationAuthorizationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 4460387715092658316L;
+
+    private final boolean authorized;
+
+    public OrganizationAuthorizationCacheEntry(boolean authorized) {
+
+        this.authorized = authorized;
+    }
+
+    /**
+     * Create an entry recording that a user is not authorized. The entry should be cached with
+     * {@link BaseCache#addNegativeEntryToCacheOnRead}, so that a permission granted later is picked up after the
+     * shorter negative cache timeout.
+     *
+     * @return The denied entry.
+     */
+    public static OrganizationAuthorizationCacheEntry createNegativeEntry() {
+
+        return new OrganizationAuthorizationCacheEntry(false);
+    }
+
+    public boolean isAuthorized() {
+
+        return authorized;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import java.util.Objects;
+
+/**
+ * Organization authorization cache key. The tenant domain of the decision is the tenant the key is cached in.
+ */
+public class OrganizationAuthorizationCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -2374625839146091627L;
+
+    private String userId;
+    private String resourceId;
+    private String orgId;
+
+    public OrganizationAuthorizationCacheKey(String userId, String resourceId, String orgId) {
+
+        this.userId = userId;
+        this.resourceId = resourceId;
+        this.orgId = orgId;
+    }
+
+    public String getUserId() {
+
+        return userId;
+    }
+
+    public String getResourceId() {
+
+        return resourceId;
+    }
+
+    public String getOrganizationId() {
+
+        return orgId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        OrganizationAuthorizationCacheKey that = (OrganizationAuthorizationCacheKey) o;
+
+        return Objects.equals(userId, that.userId) && Objects.equals(resourceId, that.resourceId) &&
+                Objects.equals(orgId, that.orgId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = super.hashCode();
+        result = 31 * result + Objects.hashCode(userId);
+        result = 31 * result + Objects.hashCode(resourceId);
+        result = 31 * result + Objects.hashCode(orgId);
+        return result;
+    }
+}
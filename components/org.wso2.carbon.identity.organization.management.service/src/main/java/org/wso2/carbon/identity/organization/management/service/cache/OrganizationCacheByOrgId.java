@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+/**
+ * Cache for the full organization with its attributes against the organization Id.
+ * The entries are not versioned across the nodes of a cluster. An organization loaded while it is updated on another
+ * node can be served until the entry expires, hence the callers validating updates should read the organization from
+ * the database.
+ */
+public class OrganizationCacheByOrgId extends BaseCache<OrganizationIdCacheKey, OrganizationCacheEntry> {
+
+    private static final String CACHE_NAME = "OrganizationCacheByOrgId";
+
+    /**
+     * Organization cache lazy loader.
+     */
+    private static class OrganizationCacheByOrgIdSingleton {
+
+        private static final OrganizationCacheByOrgId INSTANCE = new OrganizationCacheByOrgId();
+    }
+
+    private OrganizationCacheByOrgId() {
+
+        super(CACHE_NAME);
+    }
+
+    public static OrganizationCacheByOrgId getInstance() {
+
+        return OrganizationCacheByOrgIdSingleton.INSTANCE;
+    }
+}
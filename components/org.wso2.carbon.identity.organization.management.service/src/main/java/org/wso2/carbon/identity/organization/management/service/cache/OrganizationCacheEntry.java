@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.wso2.carbon.identity.organization.management.service.model.AncestorOrganizationDO;
+import org.wso2.carbon.identity.organization.management.service.model.ChildOrganizationDO;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationAttribute;
+import org.wso2.carbon.identity.organization.management.service.model.ParentOrganizationDO;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Organization cache entry holding the full organization with its attributes. The organization is copied into the
+ * entry when it is cached and copied out of the entry on each read, so that the callers modifying the returned
+ * organization do not modify the cached organization.
+ */
+public class OrganizationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -3217608713297458270L;
+
+    private final String id;
+    private final String name;
+    private final String version;
+    private final String description;
+    private final String status;
+    private final String type;
+    private final String creatorId;
+    private final String creatorUsername;
+    private final String creatorEmail;
+    private final String parentId;
+    private final String parentRef;
+    private final Instant lastModified;
+    private final Instant created;
+    private final String organizationHandle;
+    private final boolean hasChildren;
+    private final ArrayList<String> attributeKeys = new ArrayList<>();
+    private final ArrayList<String> attributeValues = new ArrayList<>();
+    private final ArrayList<String> childOrganizationIds = new ArrayList<>();
+    private final ArrayList<String> childOrganizationRefs = new ArrayList<>();
+    private final ArrayList<String> permissions = new ArrayList<>();
+    private final ArrayList<String> ancestorIds = new ArrayList<>();
+    private final ArrayList<String> ancestorNames = new ArrayList<>();
+    private final ArrayList<Integer> ancestorDepths = new ArrayList<>();
+
+    public OrganizationCacheEntry(Organization organization) {
+
+        this.id = organization.getId();
+        this.name = organization.getName();
+        this.version = organization.getVersion();
+        this.description = organization.getDescription();
+        this.status = organization.getStatus();
+        this.type = organization.getType();
+        this.creatorId = organization.getCreatorId();
+        this.creatorUsername = organization.getCreatorUsername();
+        this.creatorEmail = organization.getCreatorEmail();
+        ParentOrganizationDO parent = organization.getParent();
+        this.parentId = parent != null ? parent.getId() : null;
+        this.parentRef = parent != null ? parent.getRef() : null;
+        this.lastModified = organization.getLastModified();
+        this.created = organization.getCreated();
+        this.organizationHandle = organization.getOrganizationHandle();
+        this.hasChildren = organization.hasChildren();
+        if (organization.getAttributes() != null) {
+            for (OrganizationAttribute attribute : organization.getAttributes()) {
+                attributeKeys.add(attribute.getKey());
+                attributeValues.add(attribute.getValue());
+            }
+        }
+        if (organization.getChildOrganizations() != null) {
+            for (ChildOrganizationDO childOrganization : organization.getChildOrganizations()) {
+                childOrganizationIds.add(childOrganization.getId());
+                childOrganizationRefs.add(childOrganization.getRef());
+            }
+        }
+        if (organization.getPermissions() != null) {
+            permissions.addAll(organization.getPermissions());
+        }
+        if (organization.getAncestors() != null) {
+            for (AncestorOrganizationDO ancestor : organization.getAncestors()) {
+                ancestorIds.add(ancestor.getId());
+                ancestorNames.add(ancestor.getName());
+                ancestorDepths.add(ancestor.getDepth());
+            }
+        }
+    }
+
+    public String getVersion() {
+
+        return version;
+    }
+
+    /**
+     * Get a copy of the cached organization.
+     *
+     * @return The organization.
+     */
+    public Organization getOrganization() {
+
+        Organization organization = new Organization();
+        organization.setId(id);
+        organization.setName(name);
+        organization.setVersion(version);
+        organization.setDescription(description);
+        organization.setStatus(status);
+        organization.setType(type);
+        organization.setCreatorId(creatorId);
+        organization.setCreatorUsername(creatorUsername);
+        organization.setCreatorEmail(creatorEmail);
+        organization.getParent().setId(parentId);
+        organization.getParent().setRef(parentRef);
+        organization.setLastModified(lastModified);
+        organization.setCreated(created);
+        organization.setOrganizationHandle(organizationHandle);
+        organization.setHasChildren(hasChildren);
+        List<OrganizationAttribute> attributes = new ArrayList<>(attributeKeys.size());
+        for (int i = 0; i < attributeKeys.size(); i++) {
+            attributes.add(new OrganizationAttribute(attributeKeys.get(i), attributeValues.get(i)));
+        }
+        organization.setAttributes(attributes);
+        List<ChildOrganizationDO> childOrganizations = new ArrayList<>(childOrganizationIds.size());
+        for (int i = 0; i < childOrganizationIds.size(); i++) {
+            ChildOrganizationDO childOrganization = new ChildOrganizationDO();
+            childOrganization.setId(childOrganizationIds.get(i));
+            childOrganization.setRef(childOrganizationRefs.get(i));
+            childOrganizations.add(childOrganization);
+        }
+        organization.setChildOrganizations(childOrganizations);
+        organization.setPermissions(new ArrayList<>(permissions));
+        List<AncestorOrganizationDO> ancestors = new ArrayList<>(ancestorIds.size());
+        for (int i = 0; i < ancestorIds.size(); i++) {
+            ancestors.add(new AncestorOrganizationDO(ancestorIds.get(i), ancestorNames.get(i), ancestorDepths.get(i)));
+        }
+        organization.setAncestors(ancestors);
+        return organization;
+    }
+}
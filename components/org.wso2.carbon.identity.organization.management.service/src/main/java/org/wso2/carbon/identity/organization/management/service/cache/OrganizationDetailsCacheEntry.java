@@ -18,29 +18,43 @@
 
 package org.wso2.carbon.identity.organization.management.service.cache;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.DEFAULT_ORGANIZATION_DEPTH_IN_HIERARCHY;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.OrganizationStatus;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.OrganizationTypes;
 
 /**
- * Organization details cache entry.
+ * Organization details cache entry, serialized with {@link CacheEntryCodec}.
  */
-public class OrganizationDetailsCacheEntry extends CacheEntry {
+public class OrganizationDetailsCacheEntry extends CacheEntry implements Externalizable {
 
-    private static final long serialVersionUID = 6281482632454325986L;
+    private static final long serialVersionUID = -1894570353616823140L;
 
     private String orgName;
     private String status;
     private String type;
-    private List<String> ancestorOrganizationIds;
+    private OrganizationAncestorPath ancestorPath;
     private int organizationDepthInHierarchy;
 
+    /**
+     * Constructor used for the deserialization of the entry.
+     */
+    public OrganizationDetailsCacheEntry() {
+
+    }
+
     public OrganizationDetailsCacheEntry(Builder builder) {
 
         this.orgName = builder.orgName;
         this.status = builder.status;
         this.type = builder.type;
-        this.ancestorOrganizationIds = builder.ancestorOrganizationIds;
+        this.ancestorPath = builder.ancestorPath;
         this.organizationDepthInHierarchy = builder.organizationDepthInHierarchy;
     }
 
@@ -74,14 +88,26 @@ public class OrganizationDetailsCacheEntry extends CacheEntry {
         this.type = type;
     }
 
+    /**
+     * Get a copy of the ancestor organization IDs, such that the callers modifying the returned list do not modify
+     * the cached ancestors.
+     *
+     * @return The ancestor organization IDs, or null if the ancestors are not cached.
+     */
     public List<String> getAncestorOrganizationIds() {
 
-        return ancestorOrganizationIds;
+        return ancestorPath == null ? null : ancestorPath.getAncestorOrganizationIds();
     }
 
     public void setAncestorOrganizationIds(List<String> ancestorOrganizationIds) {
 
-        this.ancestorOrganizationIds = ancestorOrganizationIds;
+        this.ancestorPath = ancestorOrganizationIds == null ? null :
+                new OrganizationAncestorPath(ancestorOrganizationIds);
+    }
+
+    public OrganizationAncestorPath getAncestorPath() {
+
+        return ancestorPath;
     }
 
     public int getOrganizationDepthInHierarchy() {
@@ -94,6 +120,47 @@ public class OrganizationDetailsCacheEntry extends CacheEntry {
         this.organizationDepthInHierarchy = organizationDepthInHierarchy;
     }
 
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+
+        CacheEntryCodec.writeVersion(out);
+        writeEntryState(out);
+        CacheEntryCodec.writeString(out, orgName);
+        CacheEntryCodec.writeEnum(out, status, OrganizationStatus.values());
+        CacheEntryCodec.writeEnum(out, type, OrganizationTypes.values());
+        if (ancestorPath == null) {
+            CacheEntryCodec.writeVarInt(out, -1);
+        } else {
+            List<String> ancestorOrganizationIds = ancestorPath.getAncestorOrganizationIds();
+            CacheEntryCodec.writeVarInt(out, ancestorOrganizationIds.size());
+            for (String ancestorOrganizationId : ancestorOrganizationIds) {
+                CacheEntryCodec.writeId(out, ancestorOrganizationId);
+            }
+        }
+        CacheEntryCodec.writeVarInt(out, organizationDepthInHierarchy);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+
+        CacheEntryCodec.readVersion(in, OrganizationDetailsCacheEntry.class);
+        readEntryState(in);
+        orgName = CacheEntryCodec.readString(in);
+        status = CacheEntryCodec.readEnum(in, OrganizationStatus.values());
+        type = CacheEntryCodec.readEnum(in, OrganizationTypes.values());
+        int ancestorCount = CacheEntryCodec.readVarInt(in);
+        if (ancestorCount >= 0) {
+            List<String> ancestorOrganizationIds = new ArrayList<>(ancestorCount);
+            for (int i = 0; i < ancestorCount; i++) {
+                ancestorOrganizationIds.add(CacheEntryCodec.readId(in));
+            }
+            ancestorPath = new OrganizationAncestorPath(ancestorOrganizationIds);
+        } else {
+            ancestorPath = null;
+        }
+        organizationDepthInHierarchy = CacheEntryCodec.readVarInt(in);
+    }
+
     /**
      * Builder class for OrganizationDetailsCacheEntry object.
      */
@@ -102,9 +169,28 @@ public class OrganizationDetailsCacheEntry extends CacheEntry {
         private String orgName;
         private String status;
         private String type;
-        private List<String> ancestorOrganizationIds;
+        private OrganizationAncestorPath ancestorPath;
         private int organizationDepthInHierarchy = DEFAULT_ORGANIZATION_DEPTH_IN_HIERARCHY;
 
+        public Builder() {
+
+        }
+
+        /**
+         * Create a builder holding the details of the given entry, such that a changed copy of a cached entry can be
+         * built without modifying the entry shared with the other readers.
+         *
+         * @param organizationDetailsCacheEntry The organization details cache entry to copy.
+         */
+        public Builder(OrganizationDetailsCacheEntry organizationDetailsCacheEntry) {
+
+            this.orgName = organizationDetailsCacheEntry.orgName;
+            this.status = organizationDetailsCacheEntry.status;
+            this.type = organizationDetailsCacheEntry.type;
+            this.ancestorPath = organizationDetailsCacheEntry.ancestorPath;
+            this.organizationDepthInHierarchy = organizationDetailsCacheEntry.organizationDepthInHierarchy;
+        }
+
         public Builder setOrgName(String orgName) {
 
             this.orgName = orgName;
@@ -125,7 +211,8 @@ public class OrganizationDetailsCacheEntry extends CacheEntry {
 
         public Builder setAncestorOrganizationIds(List<String> ancestorOrganizationIds) {
 
-            this.ancestorOrganizationIds = ancestorOrganizationIds;
+            this.ancestorPath = ancestorOrganizationIds == null ? null :
+                    new OrganizationAncestorPath(ancestorOrganizationIds);
             return this;
         }
 
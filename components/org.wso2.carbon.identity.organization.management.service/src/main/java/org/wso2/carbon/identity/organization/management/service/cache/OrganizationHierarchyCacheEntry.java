@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache entry holding the in-memory hierarchy of the organization tree under a root organization. The root
+ * organization is the parent level organization of the sub organization start level, and every organization in the
+ * entry is keyed by its ID with its immediate parent and its depth relative to the root organization.
+ * <p>
+ * Each organization is also labelled with the entry and exit positions of an Euler tour over the tree. An
+ * organization is in the subtree of another organization if its interval is nested within the interval of the other
+ * organization, which makes descendant checks two comparisons. A relabelled interval spreads the child organizations
+ * over its first half and leaves the second half free, so that a new leaf organization, which is added after its last
+ * sibling, is labelled with a fixed width within the interval of its parent. When the gap is exhausted only the
+ * subtree of the closest ancestor with enough room for its organizations is relabelled.
+ */
+public class OrganizationHierarchyCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 3189262581764387713L;
+    private static final long ROOT_EXIT_LABEL = 1L << 62;
+    private static final long LEAF_LABEL_WIDTH = 1L << 16;
+    private static final long MIN_LABEL_WIDTH_PER_ORGANIZATION = 4 * LEAF_LABEL_WIDTH;
+
+    private final String rootOrganizationId;
+    private final Map<String, String> parentIds = new HashMap<>();
+    private final Map<String, List<String>> childIds = new HashMap<>();
+    private final Map<String, Integer> depths = new HashMap<>();
+    private final Map<String, Long> entryLabels = new HashMap<>();
+    private final Map<String, Long> exitLabels = new HashMap<>();
+
+    public OrganizationHierarchyCacheEntry(String rootOrganizationId) {
+
+        this.rootOrganizationId = rootOrganizationId;
+        parentIds.put(rootOrganizationId, null);
+        childIds.put(rootOrganizationId, new ArrayList<>());
+        depths.put(rootOrganizationId, 0);
+        entryLabels.put(rootOrganizationId, 0L);
+        exitLabels.put(rootOrganizationId, ROOT_EXIT_LABEL);
+    }
+
+    /**
+     * Create a copy of the given hierarchy, such that a change to the hierarchy can be made without changing the
+     * hierarchy held by the other readers.
+     *
+     * @param organizationHierarchy The organization hierarchy to copy.
+     */
+    public OrganizationHierarchyCacheEntry(OrganizationHierarchyCacheEntry organizationHierarchy) {
+
+        synchronized (organizationHierarchy) {
+            this.rootOrganizationId = organizationHierarchy.rootOrganizationId;
+            parentIds.putAll(organizationHierarchy.parentIds);
+            organizationHierarchy.childIds.forEach((organizationId, children) ->
+                    childIds.put(organizationId, new ArrayList<>(children)));
+            depths.putAll(organizationHierarchy.depths);
+            entryLabels.putAll(organizationHierarchy.entryLabels);
+            exitLabels.putAll(organizationHierarchy.exitLabels);
+        }
+    }
+
+    public String getRootOrganizationId() {
+
+        return rootOrganizationId;
+    }
+
+    /**
+     * Add a set of organizations to the hierarchy and label the whole tree once.
+     *
+     * @param organizationParentIds Organization IDs against their immediate parent organization IDs, ordered so that
+     *                              a parent organization is listed before its children.
+     */
+    public synchronized void addOrganizations(Map<String, String> organizationParentIds) {
+
+        for (Map.Entry<String, String> organizationParentId : organizationParentIds.entrySet()) {
+            linkOrganization(organizationParentId.getKey(), organizationParentId.getValue());
+        }
+        relabel(rootOrganizationId, 0L, ROOT_EXIT_LABEL, getSubtreeSizes(rootOrganizationId));
+    }
+
+    /**
+     * Add an organization under the given parent organization.
+     *
+     * @param organizationId The ID of the organization to be added.
+     * @param parentId       The ID of the immediate parent organization.
+     * @return True if the organization was added, false if the parent organization is not in the hierarchy.
+     */
+    public synchronized boolean addOrganization(String organizationId, String parentId) {
+
+        if (!depths.containsKey(parentId)) {
+            return false;
+        }
+        if (depths.containsKey(organizationId)) {
+            return true;
+        }
+        List<String> siblingIds = childIds.get(parentId);
+        long lowerBound = siblingIds.isEmpty() ? entryLabels.get(parentId) :
+                exitLabels.get(siblingIds.get(siblingIds.size() - 1));
+        long upperBound = exitLabels.get(parentId);
+
+        linkOrganization(organizationId, parentId);
+        // A fixed width keeps the gap left for the next sibling from shrinking by a fraction on every addition.
+        long width = Math.min(LEAF_LABEL_WIDTH, (upperBound - lowerBound) / 3);
+        if (width > 0) {
+            entryLabels.put(organizationId, lowerBound + width);
+            exitLabels.put(organizationId, lowerBound + 2 * width);
+        } else {
+            relabelClosestAncestorWithRoom(parentId);
+        }
+        return true;
+    }
+
+    /**
+     * Remove an organization and all of its descendants from the hierarchy.
+     *
+     * @param organizationId The ID of the organization to be removed.
+     * @return True if the organization is not in the hierarchy after the removal, false if the organization is the
+     * root organization.
+     */
+    public synchronized boolean removeOrganization(String organizationId) {
+
+        if (rootOrganizationId.equals(organizationId)) {
+            return false;
+        }
+        if (!depths.containsKey(organizationId)) {
+            return true;
+        }
+        childIds.get(parentIds.get(organizationId)).remove(organizationId);
+        Deque<String> organizationsToRemove = new ArrayDeque<>();
+        organizationsToRemove.push(organizationId);
+        while (!organizationsToRemove.isEmpty()) {
+            String removingOrganizationId = organizationsToRemove.pop();
+            List<String> children = childIds.remove(removingOrganizationId);
+            if (children != null) {
+                children.forEach(organizationsToRemove::push);
+            }
+            parentIds.remove(removingOrganizationId);
+            depths.remove(removingOrganizationId);
+            entryLabels.remove(removingOrganizationId);
+            exitLabels.remove(removingOrganizationId);
+        }
+        return true;
+    }
+
+    /**
+     * Move an organization and all of its descendants under a new parent organization.
+     *
+     * @param organizationId The ID of the organization to be moved.
+     * @param newParentId    The ID of the new parent organization.
+     * @return True if the organization was moved, false if either organization is not in the hierarchy or the new
+     * parent organization is in the subtree of the moved organization.
+     */
+    public synchronized boolean moveOrganization(String organizationId, String newParentId) {
+
+        if (!depths.containsKey(organizationId) || !depths.containsKey(newParentId) ||
+                rootOrganizationId.equals(organizationId) || isChildOfParent(newParentId, organizationId)) {
+            return false;
+        }
+        childIds.get(parentIds.get(organizationId)).remove(organizationId);
+        childIds.get(newParentId).add(organizationId);
+        parentIds.put(organizationId, newParentId);
+        int depthChange = depths.get(newParentId) + 1 - depths.get(organizationId);
+        List<String> movedOrganizationIds = getChildOrganizationIds(organizationId, true);
+        movedOrganizationIds.add(organizationId);
+        for (String movedOrganizationId : movedOrganizationIds) {
+            depths.put(movedOrganizationId, depths.get(movedOrganizationId) + depthChange);
+        }
+        relabelClosestAncestorWithRoom(newParentId);
+        return true;
+    }
+
+    /**
+     * Check whether the given organization is part of the hierarchy.
+     *
+     * @param organizationId The organization ID.
+     * @return True if the organization is in the hierarchy.
+     */
+    public synchronized boolean containsOrganization(String organizationId) {
+
+        return depths.containsKey(organizationId);
+    }
+
+    /**
+     * Get the depth of the given organization relative to the root organization.
+     *
+     * @param organizationId The organization ID.
+     * @return The relative depth, or -1 if the organization is not in the hierarchy.
+     */
+    public synchronized int getRelativeDepth(String organizationId) {
+
+        Integer depth = depths.get(organizationId);
+        return depth == null ? -1 : depth;
+    }
+
+    /**
+     * Check whether the given organization is the given parent organization or one of its descendants. Both
+     * organizations are expected to be part of the hierarchy.
+     *
+     * @param organizationId The organization ID.
+     * @param parentId       The parent organization ID.
+     * @return True if the organization is in the subtree of the parent organization.
+     */
+    public synchronized boolean isChildOfParent(String organizationId, String parentId) {
+
+        Long parentEntry = entryLabels.get(parentId);
+        Long organizationEntry = entryLabels.get(organizationId);
+        if (parentEntry == null || organizationEntry == null) {
+            return false;
+        }
+        return parentEntry <= organizationEntry && exitLabels.get(organizationId) <= exitLabels.get(parentId);
+    }
+
+    /**
+     * Check whether the given organization is an immediate child of the given parent organization.
+     *
+     * @param organizationId The organization ID.
+     * @param parentId       The parent organization ID.
+     * @return True if the organization is an immediate child of the parent organization.
+     */
+    public synchronized boolean isImmediateChildOfParent(String organizationId, String parentId) {
+
+        return depths.containsKey(organizationId) && parentId != null &&
+                parentId.equals(parentIds.get(organizationId));
+    }
+
+    /**
+     * Get the relative depth between two organizations when one is an ancestor of the other.
+     *
+     * @param firstOrgId  The first organization ID.
+     * @param secondOrgId The second organization ID.
+     * @return The relative depth, or -1 if the organizations are not in the same branch.
+     */
+    public synchronized int getRelativeDepthBetweenOrganizationsInSameBranch(String firstOrgId, String secondOrgId) {
+
+        if (isChildOfParent(firstOrgId, secondOrgId)) {
+            return depths.get(firstOrgId) - depths.get(secondOrgId);
+        }
+        if (isChildOfParent(secondOrgId, firstOrgId)) {
+            return depths.get(secondOrgId) - depths.get(firstOrgId);
+        }
+        return -1;
+    }
+
+    /**
+     * Get the lowest common ancestor of two organizations. Both organizations are expected to be part of the
+     * hierarchy.
+     *
+     * @param firstOrgId  The first organization ID.
+     * @param secondOrgId The second organization ID.
+     * @return The ID of the deepest organization which is an ancestor of both organizations, or null if either
+     * organization is not in the hierarchy.
+     */
+    public synchronized String getLowestCommonAncestor(String firstOrgId, String secondOrgId) {
+
+        if (!depths.containsKey(firstOrgId) || !depths.containsKey(secondOrgId)) {
+            return null;
+        }
+        String ancestorId = firstOrgId;
+        while (ancestorId != null && !isChildOfParent(secondOrgId, ancestorId)) {
+            ancestorId = parentIds.get(ancestorId);
+        }
+        return ancestorId;
+    }
+
+    /**
+     * Get the IDs of the child organizations of the given organization.
+     *
+     * @param organizationId The organization ID.
+     * @param recursive      Whether all the descendants should be returned instead of the immediate children.
+     * @return The child organization IDs, ordered from the shallowest to the deepest.
+     */
+    public synchronized List<String> getChildOrganizationIds(String organizationId, boolean recursive) {
+
+        List<String> children = childIds.get(organizationId);
+        if (children == null) {
+            return new ArrayList<>();
+        }
+        List<String> childOrganizationIds = new ArrayList<>(children);
+        if (!recursive) {
+            return childOrganizationIds;
+        }
+        for (int i = 0; i < childOrganizationIds.size(); i++) {
+            childOrganizationIds.addAll(childIds.get(childOrganizationIds.get(i)));
+        }
+        return childOrganizationIds;
+    }
+
+    /**
+     * Get the IDs of the descendant organizations of the given organization up to the given number of levels below
+     * the organization.
+     *
+     * @param organizationId The organization ID.
+     * @param maxDepth       The maximum depth of the descendants relative to the given organization.
+     * @return The child organization IDs, ordered from the shallowest to the deepest.
+     */
+    public synchronized List<String> getChildOrganizationIds(String organizationId, int maxDepth) {
+
+        List<String> children = childIds.get(organizationId);
+        if (children == null || maxDepth < 1) {
+            return new ArrayList<>();
+        }
+        int organizationDepth = depths.get(organizationId);
+        List<String> childOrganizationIds = new ArrayList<>(children);
+        for (int i = 0; i < childOrganizationIds.size(); i++) {
+            String childOrganizationId = childOrganizationIds.get(i);
+            if (depths.get(childOrganizationId) - organizationDepth < maxDepth) {
+                childOrganizationIds.addAll(childIds.get(childOrganizationId));
+            }
+        }
+        return childOrganizationIds;
+    }
+
+    /**
+     * Count the descendant organizations of the given organization up to the given number of levels below the
+     * organization.
+     *
+     * @param organizationId The organization ID.
+     * @param maxDepth       The maximum depth of the descendants relative to the given organization.
+     * @return The number of descendant organizations.
+     */
+    public synchronized int countDescendants(String organizationId, int maxDepth) {
+
+        List<String> children = childIds.get(organizationId);
+        if (children == null || maxDepth < 1) {
+            return 0;
+        }
+        // The descendants are counted while traversing, hence only the organizations yet to be visited are held.
+        int organizationDepth = depths.get(organizationId);
+        int descendantCount = 0;
+        Deque<String> pendingOrganizations = new ArrayDeque<>(children);
+        while (!pendingOrganizations.isEmpty()) {
+            String descendantId = pendingOrganizations.pop();
+            descendantCount++;
+            if (depths.get(descendantId) - organizationDepth < maxDepth) {
+                childIds.get(descendantId).forEach(pendingOrganizations::push);
+            }
+        }
+        return descendantCount;
+    }
+
+    /**
+     * Count the descendant organizations of each immediate child organization of the given organization.
+     *
+     * @param organizationId The organization ID.
+     * @param maxDepth       The maximum depth of the descendants relative to each child organization.
+     * @return The child organization IDs against their number of descendant organizations.
+     */
+    public synchronized Map<String, Integer> countDescendantsOfChildOrganizations(String organizationId,
+                                                                                  int maxDepth) {
+
+        Map<String, Integer> descendantCounts = new HashMap<>();
+        List<String> children = childIds.get(organizationId);
+        if (children == null) {
+            return descendantCounts;
+        }
+        for (String childId : children) {
+            descendantCounts.put(childId, countDescendants(childId, maxDepth));
+        }
+        return descendantCounts;
+    }
+
+    private boolean linkOrganization(String organizationId, String parentId) {
+
+        if (!depths.containsKey(parentId) || depths.containsKey(organizationId)) {
+            return false;
+        }
+        parentIds.put(organizationId, parentId);
+        childIds.put(organizationId, new ArrayList<>());
+        childIds.get(parentId).add(organizationId);
+        depths.put(organizationId, depths.get(parentId) + 1);
+        return true;
+    }
+
+    /**
+     * Relabel the subtree of the closest ancestor of the given organization, starting from the organization itself,
+     * whose interval is wide enough for the organizations in its subtree. The whole tree is relabelled if no such
+     * ancestor is found below the root organization.
+     *
+     * @param organizationId The organization ID.
+     */
+    private void relabelClosestAncestorWithRoom(String organizationId) {
+
+        String ancestorId = organizationId;
+        int subtreeSize = countSubtree(ancestorId);
+        while (!rootOrganizationId.equals(ancestorId) && (exitLabels.get(ancestorId) - entryLabels.get(ancestorId)) /
+                MIN_LABEL_WIDTH_PER_ORGANIZATION < subtreeSize) {
+            String parentId = parentIds.get(ancestorId);
+            for (String siblingId : childIds.get(parentId)) {
+                if (!siblingId.equals(ancestorId)) {
+                    subtreeSize += countSubtree(siblingId);
+                }
+            }
+            subtreeSize++;
+            ancestorId = parentId;
+        }
+        Map<String, Integer> subtreeSizes = getSubtreeSizes(ancestorId);
+        if (!relabel(ancestorId, entryLabels.get(ancestorId), exitLabels.get(ancestorId), subtreeSizes)) {
+            relabel(rootOrganizationId, 0L, ROOT_EXIT_LABEL, getSubtreeSizes(rootOrganizationId));
+        }
+    }
+
+    /**
+     * Assign the Euler tour entry and exit labels of the subtree of the given organization within the given interval.
+     * The child organizations are spread over the first half of the interval in proportion to the sizes of their
+     * subtrees, and the second half is left free for the child organizations added later. The whole interval is used
+     * when its half is too narrow for the subtree.
+     *
+     * @param organizationId The organization ID.
+     * @param entryLabel     The entry label of the organization.
+     * @param exitLabel      The exit label of the organization.
+     * @param subtreeSizes   The number of organizations in the subtree of each organization in the subtree.
+     * @return False if the interval is too narrow for the subtree.
+     */
+    private boolean relabel(String organizationId, long entryLabel, long exitLabel,
+                            Map<String, Integer> subtreeSizes) {
+
+        entryLabels.put(organizationId, entryLabel);
+        exitLabels.put(organizationId, exitLabel);
+        List<String> children = childIds.get(organizationId);
+        if (children.isEmpty()) {
+            return true;
+        }
+        // Each child organization takes a unit gap before it and a unit for every organization in its subtree.
+        long units = subtreeSizes.get(organizationId) - 1L + children.size();
+        long unit = (exitLabel - entryLabel) / 2 / units;
+        if (unit < 1) {
+            unit = (exitLabel - entryLabel - 1) / units;
+        }
+        if (unit < 1) {
+            return false;
+        }
+        long label = entryLabel;
+        for (String childId : children) {
+            long childEntryLabel = label + unit;
+            long childExitLabel = childEntryLabel + unit * subtreeSizes.get(childId);
+            if (!relabel(childId, childEntryLabel, childExitLabel, subtreeSizes)) {
+                return false;
+            }
+            label = childExitLabel;
+        }
+        return true;
+    }
+
+    private Map<String, Integer> getSubtreeSizes(String organizationId) {
+
+        // Organizations are listed from the shallowest to the deepest, hence the sizes are summed up in reverse.
+        List<String> subtreeOrganizationIds = getChildOrganizationIds(organizationId, true);
+        subtreeOrganizationIds.add(0, organizationId);
+        Map<String, Integer> subtreeSizes = new HashMap<>();
+        for (int i = subtreeOrganizationIds.size() - 1; i >= 0; i--) {
+            String subtreeOrganizationId = subtreeOrganizationIds.get(i);
+            int subtreeSize = 1;
+            for (String childId : childIds.get(subtreeOrganizationId)) {
+                subtreeSize += subtreeSizes.get(childId);
+            }
+            subtreeSizes.put(subtreeOrganizationId, subtreeSize);
+        }
+        return subtreeSizes;
+    }
+
+    private int countSubtree(String organizationId) {
+
+        return countDescendants(organizationId, Integer.MAX_VALUE) + 1;
+    }
+}
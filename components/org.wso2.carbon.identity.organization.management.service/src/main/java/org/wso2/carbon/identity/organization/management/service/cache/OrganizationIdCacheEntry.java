@@ -32,6 +32,17 @@ public class OrganizationIdCacheEntry extends CacheEntry {
         this.organizationId = organizationId;
     }
 
+    /**
+     * Create a sentinel entry recording that the organization of a tenant domain does not exist.
+     * The entry should be cached with {@link BaseCache#addNegativeEntryToCacheOnRead}, which marks it as negative.
+     *
+     * @return The sentinel entry.
+     */
+    public static OrganizationIdCacheEntry createNegativeEntry() {
+
+        return new OrganizationIdCacheEntry(null);
+    }
+
     public String getOrganizationId() {
         return organizationId;
     }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+/**
+ * Cache for the organization permissions of a user against the organization Id and the user Id.
+ */
+public class OrganizationPermissionCacheByUserId
+        extends BaseCache<OrganizationPermissionCacheKey, OrganizationPermissionCacheEntry> {
+
+    private static final String CACHE_NAME = "OrganizationPermissionCacheByUserId";
+
+    /**
+     * Organization permission cache lazy loader.
+     */
+    private static class OrganizationPermissionCacheByUserIdSingleton {
+
+        private static final OrganizationPermissionCacheByUserId INSTANCE = new OrganizationPermissionCacheByUserId();
+    }
+
+    private OrganizationPermissionCacheByUserId() {
+
+        super(CACHE_NAME);
+    }
+
+    public static OrganizationPermissionCacheByUserId getInstance() {
+
+        return OrganizationPermissionCacheByUserIdSingleton.INSTANCE;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ALL_ORGANIZATION_PERMISSIONS;
+
+/**
+ * Organization permission cache entry. The permissions are held as a bit set over the organization permissions,
+ * and each bit set is served as a shared, unmodifiable permission list. Holding all the permissions is served as
+ * the {@code ALL_ORGANIZATION_PERMISSIONS} list itself.
+ */
+public class OrganizationPermissionCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -1852077153870325963L;
+
+    private static final int ALL_PERMISSIONS = (1 << ALL_ORGANIZATION_PERMISSIONS.size()) - 1;
+    private static final List<List<String>> PERMISSION_LISTS = buildPermissionLists();
+
+    private final int permissions;
+
+    public OrganizationPermissionCacheEntry(List<String> permissions) {
+
+        int permissionBits = 0;
+        if (permissions != null) {
+            for (String permission : permissions) {
+                int index = ALL_ORGANIZATION_PERMISSIONS.indexOf(permission);
+                if (index >= 0) {
+                    permissionBits |= 1 << index;
+                }
+            }
+        }
+        this.permissions = permissionBits;
+    }
+
+    /**
+     * Get the cached permissions, ordered as the organization permissions.
+     *
+     * @return The unmodifiable permission list.
+     */
+    public List<String> getPermissions() {
+
+        return PERMISSION_LISTS.get(permissions);
+    }
+
+    private static List<List<String>> buildPermissionLists() {
+
+        List<List<String>> permissionLists = new ArrayList<>(ALL_PERMISSIONS + 1);
+        for (int permissionBits = 0; permissionBits < ALL_PERMISSIONS; permissionBits++) {
+            List<String> permissionList = new ArrayList<>();
+            for (int index = 0; index < ALL_ORGANIZATION_PERMISSIONS.size(); index++) {
+                if ((permissionBits & (1 << index)) != 0) {
+                    permissionList.add(ALL_ORGANIZATION_PERMISSIONS.get(index));
+                }
+            }
+            permissionLists.add(Collections.unmodifiableList(permissionList));
+        }
+        permissionLists.add(ALL_ORGANIZATION_PERMISSIONS);
+        return Collections.unmodifiableList(permissionLists);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import java.util.Objects;
+
+/**
+ * Organization permission cache key.
+ */
+public class OrganizationPermissionCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 5712230846920381745L;
+
+    private String orgId;
+    private String userId;
+
+    public OrganizationPermissionCacheKey(String orgId, String userId) {
+
+        this.orgId = orgId;
+        this.userId = userId;
+    }
+
+    public String getOrganizationId() {
+
+        return orgId;
+    }
+
+    public String getUserId() {
+
+        return userId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        OrganizationPermissionCacheKey that = (OrganizationPermissionCacheKey) o;
+
+        return Objects.equals(orgId, that.orgId) && Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = super.hashCode();
+        result = 31 * result + Objects.hashCode(orgId);
+        result = 31 * result + Objects.hashCode(userId);
+        return result;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+/**
+ * Cache for the generation of the organization subtree against the root organization Id. The generation is changed
+ * on every change under the root organization, which invalidates all the cached listings of the subtree at once.
+ */
+public class OrganizationSubtreeGenerationCache
+        extends BaseCache<OrganizationIdCacheKey, OrganizationSubtreeGenerationCacheEntry> {
+
+    private static final String CACHE_NAME = "OrganizationSubtreeGenerationCache";
+
+    /**
+     * Organization subtree generation cache lazy loader.
+     */
+    private static class OrganizationSubtreeGenerationCacheSingleton {
+
+        private static final OrganizationSubtreeGenerationCache INSTANCE = new OrganizationSubtreeGenerationCache();
+    }
+
+    private OrganizationSubtreeGenerationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static OrganizationSubtreeGenerationCache getInstance() {
+
+        return OrganizationSubtreeGenerationCacheSingleton.INSTANCE;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+/**
+ * Organization subtree generation cache entry.
+ */
+public class OrganizationSubtreeGenerationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 4410735726518823319L;
+
+    private final long generation;
+
+    public OrganizationSubtreeGenerationCacheEntry(long generation) {
+
+        this.generation = generation;
+    }
+
+    public long getGeneration() {
+
+        return generation;
+    }
+}
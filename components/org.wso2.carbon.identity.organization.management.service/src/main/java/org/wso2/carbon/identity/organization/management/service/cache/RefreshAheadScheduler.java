@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Schedules the reload of the cache entries read after a fraction of their time to live, so that hot entries are
+ * replaced in the background before they expire. At most one reload is in flight for a key, and a reload rejected by
+ * the bounded executor is dropped, leaving the entry to expire as usual.
+ *
+ * @param <K> cache key type.
+ */
+final class RefreshAheadScheduler<K extends Serializable> {
+
+    private static final Log LOG = LogFactory.getLog(RefreshAheadScheduler.class);
+
+    private final long refreshAfterMillis;
+    private final Executor executor;
+    private final Set<RefreshKey<K>> inFlightRefreshes = ConcurrentHashMap.newKeySet();
+
+    RefreshAheadScheduler(long refreshAfterMillis, Executor executor) {
+
+        this.refreshAfterMillis = refreshAfterMillis;
+        this.executor = executor;
+    }
+
+    /**
+     * Check whether the given entry has been in the cache long enough to be reloaded. Negative entries and the entries
+     * not added through the cache are never reloaded.
+     *
+     * @param entry       The cache entry.
+     * @param currentTime The current time in milliseconds.
+     * @return True if the entry should be reloaded.
+     */
+    boolean isDueForRefresh(CacheEntry entry, long currentTime) {
+
+        return !entry.isNegative() && entry.getLoadTime() > 0 &&
+                currentTime - entry.getLoadTime() >= refreshAfterMillis;
+    }
+
+    /**
+     * Schedule the reload of the entry of the given key, unless a reload of the same entry is already in flight.
+     *
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     * @param key          Key which cache entry is indexed.
+     * @param refresh      The task reloading the entry.
+     * @return True if the reload is scheduled.
+     */
+    boolean scheduleRefresh(String tenantDomain, K key, Runnable refresh) {
+
+        RefreshKey<K> refreshKey = new RefreshKey<>(tenantDomain, key);
+        if (!inFlightRefreshes.add(refreshKey)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh.run();
+                } finally {
+                    inFlightRefreshes.remove(refreshKey);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlightRefreshes.remove(refreshKey);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Refresh of the cache entry of key : " + key + " in tenant domain : " + tenantDomain +
+                        " is rejected as the refresh queue is full.");
+            }
+            return false;
+        }
+    }
+
+    int getInFlightRefreshCount() {
+
+        return inFlightRefreshes.size();
+    }
+
+    private static final class RefreshKey<K> {
+
+        private final String tenantDomain;
+        private final K key;
+
+        private RefreshKey(String tenantDomain, K key) {
+
+            this.tenantDomain = tenantDomain;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RefreshKey)) {
+                return false;
+            }
+            RefreshKey<?> that = (RefreshKey<?>) o;
+            return Objects.equals(tenantDomain, that.tenantDomain) && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantDomain, key);
+        }
+    }
+}
@@ -18,20 +18,43 @@
 
 package org.wso2.carbon.identity.organization.management.service.cache;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
 /**
- * Tenant domain cache entry.
+ * Tenant domain cache entry, serialized with {@link CacheEntryCodec}.
  */
-public class TenantDomainCacheEntry extends CacheEntry {
+public class TenantDomainCacheEntry extends CacheEntry implements Externalizable {
 
-    private static final long serialVersionUID = 6281482632454325986L;
+    private static final long serialVersionUID = -3140826915548260273L;
 
     private String tenantDomain;
 
+    /**
+     * Constructor used for the deserialization of the entry.
+     */
+    public TenantDomainCacheEntry() {
+
+    }
+
     public TenantDomainCacheEntry(String tenantDomain) {
 
         this.tenantDomain = tenantDomain;
     }
 
+    /**
+     * Create a sentinel entry recording that the tenant domain of an organization does not exist.
+     * The entry should be cached with {@link BaseCache#addNegativeEntryToCacheOnRead}, which marks it as negative.
+     *
+     * @return The sentinel entry.
+     */
+    public static TenantDomainCacheEntry createNegativeEntry() {
+
+        return new TenantDomainCacheEntry(null);
+    }
+
     public String getTenantDomain() {
 
         return tenantDomain;
@@ -41,4 +64,20 @@ public class TenantDomainCacheEntry extends CacheEntry {
 
         this.tenantDomain = tenantDomain;
     }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+
+        CacheEntryCodec.writeVersion(out);
+        writeEntryState(out);
+        CacheEntryCodec.writeString(out, tenantDomain);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+
+        CacheEntryCodec.readVersion(in, TenantDomainCacheEntry.class);
+        readEntryState(in);
+        tenantDomain = CacheEntryCodec.readString(in);
+    }
 }
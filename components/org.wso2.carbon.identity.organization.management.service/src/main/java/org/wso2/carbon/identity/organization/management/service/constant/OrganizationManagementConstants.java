@@ -32,6 +32,9 @@ public class OrganizationManagementConstants {
     public static final String SUPER = "Super";
     public static final String SUPER_ORG_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
     public static final int DEFAULT_SUB_ORG_LEVEL = 1;
+    public static final long DEFAULT_CACHE_LOAD_MAX_WAIT_TIME = 5000;
+    public static final int DEFAULT_CACHE_WARM_UP_ORGANIZATION_LIMIT = 10000;
+    public static final int DEFAULT_CACHE_WARM_UP_PAGE_SIZE = 500;
     public static final String PATH_SEPARATOR = "/";
     public static final String V1_API_PATH_COMPONENT = "v1";
     public static final String ORGANIZATION_PATH = "organizations";
@@ -90,6 +93,9 @@ public class OrganizationManagementConstants {
     public static final String ROOT_TENANT_DOMAIN = "RootTenantDomain";
     public static final String DESC_SORT_ORDER = "DESC";
     public static final String ASC_SORT_ORDER = "ASC";
+    public static final int MAX_IN_CLAUSE_PARAMETERS = 1000;
+    public static final int MAX_IN_CLAUSE_PARAMETERS_MSSQL = 2000;
+    public static final int HIERARCHY_CONSISTENCY_CHECK_CHUNK_SIZE = 1000;
 
     public static final String EQ = "eq";
     public static final String CO = "co";
@@ -103,6 +109,7 @@ public class OrganizationManagementConstants {
     public static final String FILTER_PLACEHOLDER_PREFIX = "FILTER_ID_";
     public static final String PARENT_ID_FILTER_PLACEHOLDER_PREFIX = "FILTER_PARENT_ID_";
     public static final String META_ATTRIBUTE_PLACEHOLDER_PREFIX = "UM_ORG_ATTRIBUTE_";
+    public static final String ORGANIZATION_NAME_PLACEHOLDER_PREFIX = "ORG_NAME_";
     private static final String ORGANIZATION_MANAGEMENT_ERROR_CODE_PREFIX = "ORG-";
     private static final Map<String, String> attributeColumnMap = new HashMap<>();
     public static final Map<String, String> ATTRIBUTE_COLUMN_MAP = Collections.unmodifiableMap(attributeColumnMap);
@@ -112,6 +119,11 @@ public class OrganizationManagementConstants {
     public static final String IS_ORG_QUALIFIED_URLS_SUPPORTED_FOR_LEVEL_ONE_ORGS =
             "LevelOneOrganizationConfigs.SupportOrganizationQualifiedURLs";
     public static final String SUB_ORG_START_LEVEL = "SubOrganizationStartLevel";
+    public static final String CACHE_LOAD_MAX_WAIT_TIME = "CacheLoadCoalescing.MaxWaitTime";
+    public static final String CACHE_WARM_UP_ENABLED = "CacheWarmUp.Enable";
+    public static final String CACHE_WARM_UP_ORGANIZATION_LIMIT = "CacheWarmUp.OrganizationLimit";
+    public static final String CACHE_WARM_UP_PAGE_SIZE = "CacheWarmUp.PageSize";
+    public static final String CACHE_METRICS_JMX_ENABLED = "CacheMetrics.EnableJMX";
     public static final String B2B_APPLICATION_ROLE_SUPPORT_ENABLED = "B2BApplicationRoleSupportEnabled";
     public static final String IS_ORGANIZATION_MANAGEMENT_FEATURE_ENABLED = "Enable";
 
@@ -126,6 +138,11 @@ public class OrganizationManagementConstants {
     public static final String CACHE_CAPACITY = "capacity";
     public static final String IS_DISTRIBUTED_CACHE = "isDistributed";
     public static final String IS_TEMPORARY = "isTemporary";
+    public static final String NEAR_CACHE_CAPACITY = "nearCacheCapacity";
+    public static final String NEAR_CACHE_TIMEOUT = "nearCacheTimeout";
+    public static final String NEGATIVE_CACHE_TIMEOUT = "negativeCacheTimeout";
+    public static final String REFRESH_AHEAD_FACTOR = "refreshAheadFactor";
+    public static final String IS_LOCAL_ONLY_CACHE = "isLocalOnly";
     public static final int DEFAULT_ORGANIZATION_DEPTH_IN_HIERARCHY = -1;
 
     // Self-service constants.
@@ -472,6 +489,14 @@ public class OrganizationManagementConstants {
         ERROR_CODE_SUPER_ORGANIZATION_RENAME_CONFLICT("60116", "Organization name already in use.",
                 "The given organization name is already taken. " +
                         "A super organization cannot be renamed to an existing organization name."),
+        ERROR_CODE_DUPLICATE_ORGANIZATION_IDS("60117", "Duplicate organization IDs.",
+                "The organization ID: %s is used by more than one organization in the request."),
+        ERROR_CODE_PARENT_ORGANIZATION_NOT_ADDED_BEFORE_CHILD("60118", "Invalid organization order.",
+                "The parent organization with ID: %s must be listed before its child organizations."),
+        ERROR_CODE_INVALID_ORGANIZATION_MOVE("60119", "Invalid organization move.",
+                "The organization with ID: %s cannot be moved under the organization with ID: %s."),
+        ERROR_CODE_INVALID_MAX_DEPTH("60120", "Invalid request.",
+                "The provided max depth value: %s is invalid. The max depth should be a positive integer."),
 
         // Server errors.
         ERROR_CODE_UNEXPECTED("65001", "Unexpected processing error",
@@ -872,7 +897,34 @@ public class OrganizationManagementConstants {
         ERROR_CODE_ERROR_CHECKING_ORGANIZATION_BY_NAME("65155", "Failed to check organization by name.",
                 "Error while checking organizations by a given name."),
         ERROR_CODE_ERROR_RETRIEVING_ORG_VERSION("65156", "Unable to retrieve the organization version.",
-                "Server encountered an error while retrieving the version of the organization with ID: %s.");
+                "Server encountered an error while retrieving the version of the organization with ID: %s."),
+        ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_HIERARCHY("65157", "Unable to retrieve the organization " +
+                "hierarchy.", "Server encountered an error while retrieving the organization hierarchy under the " +
+                "organization with ID: %s."),
+        ERROR_CODE_ERROR_WHILE_RETRIEVING_ANCESTORS_OF_ORGANIZATIONS("65158", "Error while retrieving ancestors of " +
+                "organizations.", "Error while retrieving ancestors of the given organizations."),
+        ERROR_CODE_ERROR_ADDING_ORGANIZATIONS("65159", "Unable to create the organizations.",
+                "Server encountered an error while creating the organizations."),
+        ERROR_CODE_ERROR_CHECKING_ORGANIZATION_NAMES("65160", "Error while checking the organization names.",
+                "Server encountered an error while checking the names of the child organizations of the " +
+                        "organization with ID: %s."),
+        ERROR_CODE_ERROR_MOVING_ORGANIZATION("65161", "Unable to move the organization.",
+                "Server encountered an error while moving the organization with ID: %s."),
+        ERROR_CODE_ERROR_COUNTING_DESCENDANT_ORGANIZATIONS("65162", "Unable to count the descendant organizations.",
+                "Server encountered an error while counting the descendant organizations of the organization " +
+                        "with ID: %s."),
+        ERROR_CODE_ERROR_RETRIEVING_LOWEST_COMMON_ANCESTOR("65163", "Unable to retrieve the lowest common " +
+                "ancestor organization.", "Server encountered an error while retrieving the lowest common " +
+                "ancestor of organizations with IDs: %s & %s"),
+        ERROR_CODE_ERROR_CHECKING_ORGANIZATION_HIERARCHY("65164", "Unable to check the organization hierarchy.",
+                "Server encountered an error while reading the organization hierarchy to check its consistency."),
+        ERROR_CODE_ERROR_REPAIRING_ORGANIZATION_HIERARCHY("65165", "Unable to repair the organization hierarchy.",
+                "Server encountered an error while repairing the organization hierarchy entries."),
+        ERROR_CODE_ERROR_RETRIEVING_MINIMAL_ORGANIZATIONS("65166", "Unable to retrieve the organizations.",
+                "Server encountered an error while retrieving a page of organizations to warm up the caches."),
+        ERROR_CODE_ERROR_RESOLVING_TENANT_DOMAINS_OF_ORGANIZATIONS("65167", "Unable to retrieve the associated " +
+                "tenant domains for the organizations.", "Server encountered an error while retrieving the " +
+                "associated tenant domains for a set of organizations.");
 
         private final String code;
         private final String message;
@@ -116,6 +116,27 @@ public class SQLConstants {
             "UM_ORG_HIERARCHY WHERE UM_ORG_HIERARCHY.UM_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID +
             "; AND UM_PARENT_ID <> UM_ID";
 
+    public static final String INSERT_ORGANIZATION_HIERARCHY = "INSERT INTO UM_ORG_HIERARCHY (UM_PARENT_ID, UM_ID, " +
+            "DEPTH) VALUES (:" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID + ";, :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";, :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_DEPTH + ";)";
+
+    public static final String DELETE_ANCESTOR_HIERARCHY_OF_SUBTREE = "DELETE FROM UM_ORG_HIERARCHY WHERE UM_ID IN " +
+            "(SELECT UM_ID FROM (SELECT UM_ID FROM UM_ORG_HIERARCHY WHERE UM_PARENT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";) SUBTREE) AND UM_PARENT_ID IN (SELECT UM_PARENT_ID FROM " +
+            "(SELECT UM_PARENT_ID FROM UM_ORG_HIERARCHY WHERE UM_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID +
+            "; AND DEPTH > 0) ANCESTORS)";
+
+    public static final String INSERT_ANCESTOR_HIERARCHY_OF_SUBTREE = "INSERT INTO UM_ORG_HIERARCHY (UM_PARENT_ID, " +
+            "UM_ID, DEPTH) SELECT ANCESTORS.UM_PARENT_ID, SUBTREE.UM_ID, ANCESTORS.DEPTH + SUBTREE.DEPTH + 1 FROM " +
+            "UM_ORG_HIERARCHY ANCESTORS CROSS JOIN UM_ORG_HIERARCHY SUBTREE WHERE ANCESTORS.UM_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID + "; AND SUBTREE.UM_PARENT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
+
+    public static final String UPDATE_ORGANIZATION_PARENT = "UPDATE UM_ORG SET UM_PARENT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID + ";, UM_LAST_MODIFIED = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_LAST_MODIFIED + "; WHERE UM_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
+
     /**
      * @deprecated Use {@link #GET_ORG_WITH_VERSION_BY_ID} instead.
      */
@@ -300,6 +321,8 @@ public class SQLConstants {
     public static final String DELETE_ORGANIZATION_BY_ID = "DELETE FROM UM_ORG WHERE UM_ID = :" +
             SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
 
+    public static final String DELETE_ORGANIZATIONS_BY_IDS = "DELETE FROM UM_ORG WHERE UM_ID IN (%s)";
+
     public static final String DELETE_ORGANIZATION_ATTRIBUTES_BY_ID = "DELETE FROM UM_ORG_ATTRIBUTE WHERE " +
             "UM_ORG_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
 
@@ -318,6 +341,13 @@ public class SQLConstants {
     public static final String CHECK_ORGANIZATIONS_EXIST_WITH_NAME = "SELECT COUNT(1) FROM UM_ORG WHERE " +
             "UM_ORG_NAME = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_NAME + ";";
 
+    public static final String GET_SIBLING_ORGANIZATION_NAMES_IN_GIVEN_NAMES = "SELECT UM_ORG_NAME FROM UM_ORG " +
+            "WHERE UM_PARENT_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID + "; AND UM_ORG_NAME IN (%s)";
+
+    public static final String GET_CHILD_ORGANIZATION_NAMES_IN_GIVEN_NAMES = "SELECT O.UM_ORG_NAME FROM UM_ORG O " +
+            "INNER JOIN UM_ORG_HIERARCHY OH ON O.UM_ID = OH.UM_ID WHERE OH.UM_PARENT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID + "; AND O.UM_ORG_NAME IN (%s)";
+
     public static final String PATCH_ORGANIZATION = "UPDATE UM_ORG SET ";
 
     public static final String PATCH_ORGANIZATION_CONCLUDE = " = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_VALUE +
@@ -396,6 +426,24 @@ public class SQLConstants {
             "WHERE UM_ORG_HIERARCHY.UM_PARENT_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID +
             "; AND UM_ORG_HIERARCHY.DEPTH %s";
 
+    public static final String CHILD_ORGANIZATION_DEPTH_WITHIN_MAX_DEPTH = "BETWEEN 1 AND :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_DEPTH + ";";
+
+    public static final String COUNT_DESCENDANT_ORGANIZATIONS = "SELECT COUNT(1) FROM UM_ORG_HIERARCHY WHERE " +
+            "UM_PARENT_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID + "; AND DEPTH BETWEEN 1 AND :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_DEPTH + ";";
+
+    public static final String COUNT_DESCENDANT_ORGANIZATIONS_OF_CHILD_ORGANIZATIONS = "SELECT CHILD_OH.UM_ID, " +
+            "COUNT(OH.UM_ID) FROM UM_ORG_HIERARCHY CHILD_OH LEFT JOIN UM_ORG_HIERARCHY OH ON " +
+            "OH.UM_PARENT_ID = CHILD_OH.UM_ID AND OH.DEPTH BETWEEN 1 AND :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_DEPTH + "; WHERE CHILD_OH.UM_PARENT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID + "; AND CHILD_OH.DEPTH = 1 GROUP BY CHILD_OH.UM_ID";
+
+    public static final String GET_DESCENDANT_ORGANIZATION_PARENT_IDS = "SELECT OH.UM_ID, OH.UM_PARENT_ID FROM " +
+            "UM_ORG_HIERARCHY OH JOIN UM_ORG_HIERARCHY ROOT_OH ON OH.UM_ID = ROOT_OH.UM_ID WHERE " +
+            "ROOT_OH.UM_PARENT_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID + "; AND ROOT_OH.DEPTH > 0 " +
+            "AND OH.DEPTH = 1 ORDER BY ROOT_OH.DEPTH ASC";
+
     public static final String GET_CHILD_ORGANIZATION_IDS = "SELECT UM_ID FROM UM_ORG WHERE UM_PARENT_ID = :" +
             SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID + ";";
 
@@ -432,10 +480,49 @@ public class SQLConstants {
     public static final String GET_TENANT_DOMAIN_FROM_ORGANIZATION_UUID = "SELECT UM_DOMAIN_NAME FROM UM_TENANT " +
             "WHERE UM_ORG_UUID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
 
+    public static final String GET_TENANT_DOMAINS_OF_SUBTREE_ORGANIZATIONS = "SELECT OH.UM_ID, T.UM_DOMAIN_NAME " +
+            "FROM UM_ORG_HIERARCHY OH JOIN UM_TENANT T ON OH.UM_ID = T.UM_ORG_UUID WHERE OH.UM_PARENT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
+
+    public static final String GET_TENANT_UUIDS_OF_SUBTREE_ORGANIZATIONS = "SELECT OH.UM_ID, T.UM_TENANT_UUID " +
+            "FROM UM_ORG_HIERARCHY OH JOIN UM_TENANT T ON OH.UM_ID = T.UM_ORG_UUID WHERE OH.UM_PARENT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
+
+    public static final String GET_SUBTREE_ORGANIZATION_DEPTHS = "SELECT UM_ID, DEPTH FROM UM_ORG_HIERARCHY WHERE " +
+            "UM_PARENT_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + "; ORDER BY DEPTH DESC";
+
     public static final String GET_ANCESTORS_OF_GIVEN_ORG_INCLUDING_ITSELF =
             "SELECT UM_PARENT_ID FROM UM_ORG_HIERARCHY WHERE UM_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID +
                     "; ORDER BY DEPTH ASC";
 
+    public static final String GET_ORGANIZATION_PARENT_IDS_IN_KEY_ORDER = "SELECT UM_ID, UM_PARENT_ID FROM UM_ORG " +
+            "%s ORDER BY UM_ID LIMIT :" + SQLPlaceholders.DB_SCHEMA_LIMIT + ";";
+
+    public static final String GET_ORGANIZATION_PARENT_IDS_IN_KEY_ORDER_ORACLE = "SELECT UM_ID, UM_PARENT_ID FROM " +
+            "UM_ORG %s ORDER BY UM_ID FETCH FIRST :" + SQLPlaceholders.DB_SCHEMA_LIMIT + "; ROWS ONLY";
+
+    public static final String GET_ORGANIZATION_PARENT_IDS_IN_KEY_ORDER_MSSQL = "SELECT UM_ID, UM_PARENT_ID FROM " +
+            "UM_ORG %s ORDER BY UM_ID OFFSET 0 ROWS FETCH NEXT :" + SQLPlaceholders.DB_SCHEMA_LIMIT + "; ROWS ONLY";
+
+    public static final String ORGANIZATION_ID_AFTER_GIVEN_ID = "WHERE UM_ID > :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
+
+    public static final String GET_TENANT_DOMAINS_OF_GIVEN_ORGS = "SELECT UM_ORG_UUID, UM_DOMAIN_NAME FROM " +
+            "UM_TENANT WHERE UM_ORG_UUID IN (%s)";
+
+    public static final String GET_PARENT_IDS_OF_GIVEN_ORGS = "SELECT UM_ID, UM_PARENT_ID FROM UM_ORG WHERE " +
+            "UM_ID IN (%s)";
+
+    public static final String GET_HIERARCHY_ENTRIES_OF_GIVEN_ORGS = "SELECT UM_PARENT_ID, UM_ID, DEPTH FROM " +
+            "UM_ORG_HIERARCHY WHERE UM_ID IN (%s)";
+
+    public static final String DELETE_ORGANIZATION_HIERARCHY_ENTRY = "DELETE FROM UM_ORG_HIERARCHY WHERE " +
+            "UM_PARENT_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID + "; AND UM_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
+
+    public static final String GET_ANCESTORS_OF_GIVEN_ORGS_INCLUDING_THEMSELVES =
+            "SELECT UM_ID, UM_PARENT_ID FROM UM_ORG_HIERARCHY WHERE UM_ID IN (%s) ORDER BY UM_ID, DEPTH ASC";
+
     public static final String GET_ORGANIZATION_DEPTH_IN_HIERARCHY = "SELECT DEPTH FROM UM_ORG_HIERARCHY WHERE " +
             "UM_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + "; ORDER BY DEPTH DESC LIMIT 1";
 
@@ -446,6 +533,12 @@ public class SQLConstants {
     public static final String GET_ORGANIZATION_DEPTH_IN_HIERARCHY_MSSQL = "SELECT TOP 1 DEPTH FROM UM_ORG_HIERARCHY " +
             "WHERE UM_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + "; ORDER BY DEPTH DESC";
 
+    public static final String GET_COMMON_ANCESTORS_OF_ORGANIZATIONS = "SELECT FIRST_OH.UM_PARENT_ID FROM " +
+            "UM_ORG_HIERARCHY FIRST_OH JOIN UM_ORG_HIERARCHY SECOND_OH ON FIRST_OH.UM_PARENT_ID = " +
+            "SECOND_OH.UM_PARENT_ID WHERE FIRST_OH.UM_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID +
+            "; AND SECOND_OH.UM_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID +
+            "; ORDER BY FIRST_OH.DEPTH ASC";
+
     public static final String GET_RELATIVE_ORG_DEPTH_BETWEEN_ORGANIZATIONS_IN_SAME_BRANCH = "SELECT DEPTH FROM " +
             "UM_ORG_HIERARCHY WHERE UM_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + "; AND UM_PARENT_ID = :" +
             SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_PARENT_ID + "; OR UM_ID = :" +
@@ -593,6 +686,26 @@ public class SQLConstants {
             "UM_ORG_HIERARCHY H WHERE H.UM_ID = U.UM_ID ORDER BY H.DEPTH DESC) AS DEPTH FROM UM_ORG U JOIN " +
             "UM_TENANT T ON U.UM_ID = T.UM_ORG_UUID WHERE U.UM_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
 
+    public static final String GET_MINIMAL_ORG_DETAILS_IN_KEY_ORDER = "SELECT U.UM_ID, U.UM_ORG_NAME, U.UM_STATUS, " +
+            "U.UM_CREATED_TIME, T.UM_DOMAIN_NAME, U.UM_PARENT_ID, (SELECT H.DEPTH FROM UM_ORG_HIERARCHY H WHERE " +
+            "H.UM_ID = U.UM_ID ORDER BY H.DEPTH DESC LIMIT 1) AS DEPTH FROM UM_ORG U JOIN UM_TENANT T ON " +
+            "U.UM_ID = T.UM_ORG_UUID %s ORDER BY U.UM_ID LIMIT :" + SQLPlaceholders.DB_SCHEMA_LIMIT + ";";
+
+    public static final String GET_MINIMAL_ORG_DETAILS_IN_KEY_ORDER_ORACLE = "SELECT U.UM_ID, U.UM_ORG_NAME, " +
+            "U.UM_STATUS, U.UM_CREATED_TIME, T.UM_DOMAIN_NAME, U.UM_PARENT_ID, (SELECT H.DEPTH FROM " +
+            "UM_ORG_HIERARCHY H WHERE H.UM_ID = U.UM_ID ORDER BY H.DEPTH DESC FETCH FIRST 1 ROWS ONLY) AS DEPTH " +
+            "FROM UM_ORG U JOIN UM_TENANT T ON U.UM_ID = T.UM_ORG_UUID %s ORDER BY U.UM_ID FETCH FIRST :" +
+            SQLPlaceholders.DB_SCHEMA_LIMIT + "; ROWS ONLY";
+
+    public static final String GET_MINIMAL_ORG_DETAILS_IN_KEY_ORDER_MSSQL = "SELECT U.UM_ID, U.UM_ORG_NAME, " +
+            "U.UM_STATUS, U.UM_CREATED_TIME, T.UM_DOMAIN_NAME, U.UM_PARENT_ID, (SELECT TOP 1 H.DEPTH FROM " +
+            "UM_ORG_HIERARCHY H WHERE H.UM_ID = U.UM_ID ORDER BY H.DEPTH DESC) AS DEPTH FROM UM_ORG U JOIN " +
+            "UM_TENANT T ON U.UM_ID = T.UM_ORG_UUID %s ORDER BY U.UM_ID OFFSET 0 ROWS FETCH NEXT :" +
+            SQLPlaceholders.DB_SCHEMA_LIMIT + "; ROWS ONLY";
+
+    public static final String MINIMAL_ORG_ID_AFTER_GIVEN_ID = "WHERE U.UM_ID > :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
+
     public static final String GET_ORGANIZATION_VERSION = "SELECT UM_ORG_VERSION FROM UM_ORG WHERE UM_ID = :" +
             SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID + ";";
 
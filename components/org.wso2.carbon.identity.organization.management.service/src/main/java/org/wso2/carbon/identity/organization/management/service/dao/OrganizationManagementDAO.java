@@ -26,13 +26,16 @@ import org.wso2.carbon.identity.organization.management.service.model.AncestorOr
 import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.MinimalOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationHierarchyDO;
 import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
 import org.wso2.carbon.identity.organization.management.service.model.PatchOperation;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This interface performs CRUD operations for {@link Organization}
@@ -262,6 +265,23 @@ public interface OrganizationManagementDAO {
                 "implemented in " + this.getClass().getName());
     }
 
+    /**
+     * Retrieve the list of child organizations of a given organization in a tree structure, up to the given number
+     * of levels below the organization.
+     *
+     * @param organizationId The organization ID.
+     * @param maxDepth       The maximum depth of the child organizations relative to the given organization.
+     * @return the list of the child organizations in a tree structure.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the child
+     *                                               organizations.
+     */
+    default List<OrganizationNode> getChildOrganizationGraph(String organizationId, int maxDepth)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getChildOrganizationGraph(organizationId, maxDepth) is not " +
+                "implemented in " + this.getClass().getName());
+    }
+
     /**
      * Retrieve the list of child organization IDs of a given organization.
      *
@@ -278,6 +298,55 @@ public interface OrganizationManagementDAO {
                 "implemented in " + this.getClass().getName());
     }
 
+    /**
+     * Retrieve the list of child organization IDs of a given organization, up to the given number of levels below
+     * the organization.
+     *
+     * @param organizationId The organization ID.
+     * @param maxDepth       The maximum depth of the child organizations relative to the given organization.
+     * @return the ID list of the child organizations.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the child
+     *                                               organizations.
+     */
+    default List<String> getChildOrganizationIds(String organizationId, int maxDepth)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getChildOrganizationIds(organizationId, maxDepth) is not " +
+                "implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * Count the descendant organizations of a given organization, up to the given number of levels below the
+     * organization.
+     *
+     * @param organizationId The organization ID.
+     * @param maxDepth       The maximum depth of the descendants relative to the given organization.
+     * @return the number of descendant organizations.
+     * @throws OrganizationManagementServerException The server exception thrown when counting the descendant
+     *                                               organizations.
+     */
+    default int countDescendants(String organizationId, int maxDepth) throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("countDescendants is not implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * Count the descendant organizations of each immediate child organization of a given organization, up to the
+     * given number of levels below each child organization.
+     *
+     * @param organizationId The organization ID.
+     * @param maxDepth       The maximum depth of the descendants relative to each child organization.
+     * @return Map of the child organization IDs against their number of descendant organizations.
+     * @throws OrganizationManagementServerException The server exception thrown when counting the descendant
+     *                                               organizations.
+     */
+    default Map<String, Integer> countDescendantsOfChildOrganizations(String organizationId, int maxDepth)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("countDescendantsOfChildOrganizations is not implemented in " +
+                this.getClass().getName());
+    }
+
     /**
      * Retrieve the list of child organization IDs of a given organization.
      *
@@ -441,6 +510,22 @@ public interface OrganizationManagementDAO {
     int getRelativeDepthBetweenOrganizationsInSameBranch(String firstOrgId, String secondOrgId)
             throws OrganizationManagementServerException;
 
+    /**
+     * Retrieve the lowest common ancestor of two organizations. An organization is considered an ancestor of itself.
+     *
+     * @param firstOrgId  The first organization id.
+     * @param secondOrgId The second organization id.
+     * @return The id of the deepest organization which is an ancestor of both organizations, or null if either
+     * organization does not exist.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the ancestor.
+     */
+    default String getLowestCommonAncestor(String firstOrgId, String secondOrgId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getLowestCommonAncestor is not implemented in " +
+                this.getClass().getName());
+    }
+
     /**
      * Get the ancestor organization id of the given organization and the depth.
      *
@@ -526,6 +611,22 @@ public interface OrganizationManagementDAO {
                 + this.getClass().getName());
     }
 
+    /**
+     * Retrieve a page of the minimal details of the organizations associated with a tenant, ordered by the
+     * organization ID.
+     *
+     * @param afterOrganizationId The organization ID after which the page starts. The first page is returned if null.
+     * @param limit               The maximum number of organizations to be returned.
+     * @return The minimal organization details, ordered by the organization ID.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the organizations.
+     */
+    default List<MinimalOrganization> getMinimalOrganizations(String afterOrganizationId, int limit)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getMinimalOrganizations is not implemented in " +
+                this.getClass().getName());
+    }
+
     /**
      * Retrieve the version of an organization.
      *
@@ -540,4 +641,242 @@ public interface OrganizationManagementDAO {
         throw new NotImplementedException("getOrganizationVersion is not implemented in "
                 + this.getClass().getName());
     }
+
+    /**
+     * Retrieve the immediate parent organization ID of every descendant of a given organization. The entries are
+     * ordered from the shallowest descendant to the deepest, so a parent is always listed before its children.
+     *
+     * @param organizationId The organization ID.
+     * @return Map of descendant organization IDs against their immediate parent organization IDs.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the organization
+     *                                               hierarchy.
+     */
+    default Map<String, String> getDescendantOrganizationParentIds(String organizationId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getDescendantOrganizationParentIds(organizationId) is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Derive the tenant domains of a given set of organizations.
+     *
+     * @param organizationIds The organization IDs.
+     * @return Map of organization IDs against their associated tenant domains. Organizations which do not exist or
+     * do not have a tenant are omitted.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the tenant domains.
+     */
+    default Map<String, String> resolveTenantDomains(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("resolveTenantDomains is not implemented in " +
+                this.getClass().getName());
+    }
+
+    /**
+     * Get ancestor organization ids (including themselves) of a given set of organizations.
+     *
+     * @param organizationIds Organization ids.
+     * @return Map of organization ids against the list of their ancestor organization ids including themselves,
+     * ordered from the organization itself to the furthest ancestor. Organizations which do not exist are omitted.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the ancestor
+     *                                               organization ids.
+     */
+    default Map<String, List<String>> getAncestorOrganizationIds(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getAncestorOrganizationIds(organizationIds) is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Create a batch of organizations in a single transaction. The organizations should be ordered so that a parent
+     * organization is listed before its child organizations.
+     *
+     * @param organizations The organizations to be created.
+     * @throws OrganizationManagementServerException The server exception thrown when creating the organizations.
+     */
+    default void addOrganizations(List<Organization> organizations) throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("addOrganizations is not implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * Retrieve the names among the given organization names which are already used by the child organizations of a
+     * given organization.
+     *
+     * @param parentOrgId       The parent organization ID.
+     * @param organizationNames The organization names to be checked.
+     * @param recursive         Whether the names of all the descendant organizations should be checked instead of
+     *                          the immediate child organizations.
+     * @return The organization names which are already in use.
+     * @throws OrganizationManagementServerException The server exception thrown when checking the organization names.
+     */
+    default Set<String> getExistingChildOrganizationNames(String parentOrgId, Collection<String> organizationNames,
+                                                          boolean recursive)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getExistingChildOrganizationNames is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Move an organization and its descendants under a new parent organization.
+     *
+     * @param organizationId      The ID of the organization to be moved.
+     * @param newParentId         The ID of the new parent organization.
+     * @param lastModifiedInstant The last modified time of the moved organization.
+     * @throws OrganizationManagementServerException The server exception thrown when moving the organization.
+     */
+    default void moveOrganization(String organizationId, String newParentId, Instant lastModifiedInstant)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("moveOrganization is not implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * Retrieve the tenant domains of a given organization and its descendants which are associated with a tenant.
+     *
+     * @param organizationId The organization ID.
+     * @return Map of organization IDs against their tenant domains.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the tenant domains.
+     */
+    default Map<String, String> getTenantDomainsOfSubtreeOrganizations(String organizationId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getTenantDomainsOfSubtreeOrganizations is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Retrieve the tenant UUIDs of a given organization and its descendants which are associated with a tenant.
+     *
+     * @param organizationId The organization ID.
+     * @return Map of organization IDs against their tenant UUIDs.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the tenant UUIDs.
+     */
+    default Map<String, String> getTenantUUIDsOfSubtreeOrganizations(String organizationId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getTenantUUIDsOfSubtreeOrganizations is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Retrieve a given organization and its descendants with their depths relative to the given organization.
+     *
+     * @param organizationId The organization ID.
+     * @return Map of organization IDs against their relative depths, ordered from the deepest organization to the
+     * given organization. An empty map is returned if the organization does not exist.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the organizations.
+     */
+    default Map<String, Integer> getSubtreeOrganizationDepths(String organizationId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getSubtreeOrganizationDepths is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Delete a given organization and its descendants. The organizations are deleted level by level starting from
+     * the deepest level, so that the deletion does not rely on cascading through the whole subtree.
+     *
+     * @param organizationId            The ID of the organization at the top of the subtree.
+     * @param subtreeOrganizationDepths Map of the subtree organization IDs against their depths relative to the
+     *                                  given organization.
+     * @throws OrganizationManagementServerException The server exception thrown when deleting the organizations.
+     */
+    default void deleteOrganizationSubtree(String organizationId, Map<String, Integer> subtreeOrganizationDepths)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("deleteOrganizationSubtree is not implemented in "
+                + this.getClass().getName());
+    }
+
+    /**
+     * Retrieve a page of organizations with their immediate parent organization IDs, ordered by the organization ID.
+     *
+     * @param afterOrganizationId The organization ID after which the page starts. The first page is returned if null.
+     * @param limit               The maximum number of organizations to be returned.
+     * @return Map of organization IDs against their parent organization IDs, ordered by the organization ID.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the organizations.
+     */
+    default Map<String, String> getOrganizationParentIds(String afterOrganizationId, int limit)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getOrganizationParentIds(afterOrganizationId, limit) is not " +
+                "implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * Retrieve the immediate parent organization IDs of a given set of organizations.
+     *
+     * @param organizationIds The organization IDs.
+     * @return Map of organization IDs against their parent organization IDs. Organizations which do not exist are
+     * omitted.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the parent
+     *                                               organization IDs.
+     */
+    default Map<String, String> getOrganizationParentIds(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getOrganizationParentIds(organizationIds) is not implemented in " +
+                this.getClass().getName());
+    }
+
+    /**
+     * Retrieve the organization hierarchy entries which link a given set of organizations to their ancestors.
+     *
+     * @param organizationIds The organization IDs.
+     * @return The hierarchy entries of the organizations, including the entries linking them to themselves.
+     * @throws OrganizationManagementServerException The server exception thrown when retrieving the hierarchy
+     *                                               entries.
+     */
+    default List<OrganizationHierarchyDO> getOrganizationHierarchyEntries(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getOrganizationHierarchyEntries is not implemented in " +
+                this.getClass().getName());
+    }
+
+    /**
+     * Repair the organization hierarchy by deleting and adding the given entries in a single transaction. The
+     * entries are deleted first, so an entry with a wrong depth can be replaced by passing it in both lists.
+     *
+     * @param entriesToDelete The hierarchy entries to be deleted.
+     * @param entriesToAdd    The hierarchy entries to be added.
+     * @throws OrganizationManagementServerException The server exception thrown when repairing the hierarchy.
+     */
+    default void repairOrganizationHierarchy(List<OrganizationHierarchyDO> entriesToDelete,
+                                             List<OrganizationHierarchyDO> entriesToAdd)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("repairOrganizationHierarchy is not implemented in " +
+                this.getClass().getName());
+    }
+
+    /**
+     * Clear the cached organization permissions of a user. DAOs which do not cache the permissions have nothing to
+     * clear.
+     *
+     * @param organizationId The organization ID.
+     * @param userId         Unique identifier of the user.
+     * @throws OrganizationManagementServerException The server exception thrown when resolving the organization.
+     */
+    default void clearOrganizationPermissionCache(String organizationId, String userId)
+            throws OrganizationManagementServerException {
+
+    }
+
+    /**
+     * Clear the cached organization permissions of all the users of an organization. DAOs which do not cache the
+     * permissions have nothing to clear.
+     *
+     * @param organizationId The organization ID.
+     * @throws OrganizationManagementServerException The server exception thrown when resolving the organization.
+     */
+    default void clearOrganizationPermissionCache(String organizationId)
+            throws OrganizationManagementServerException {
+
+    }
 }
@@ -21,13 +21,29 @@ package org.wso2.carbon.identity.organization.management.service.dao.impl;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.organization.management.service.cache.BasicOrganizationCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.BasicOrganizationCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.CacheMetricsRegistry;
+import org.wso2.carbon.identity.organization.management.service.cache.ChildOrganizationListingCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.ChildOrganizationListingCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.ChildOrganizationListingCacheKey;
 import org.wso2.carbon.identity.organization.management.service.cache.MinimalOrganizationCacheByOrgId;
 import org.wso2.carbon.identity.organization.management.service.cache.MinimalOrganizationCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationAncestorPath;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationCacheEntry;
 import org.wso2.carbon.identity.organization.management.service.cache.OrganizationDetailsCacheByOrgId;
 import org.wso2.carbon.identity.organization.management.service.cache.OrganizationDetailsCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationHierarchyCacheByRootOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationHierarchyCacheEntry;
 import org.wso2.carbon.identity.organization.management.service.cache.OrganizationIdCacheByTenantDomain;
 import org.wso2.carbon.identity.organization.management.service.cache.OrganizationIdCacheEntry;
 import org.wso2.carbon.identity.organization.management.service.cache.OrganizationIdCacheKey;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationPermissionCacheByUserId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationPermissionCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationPermissionCacheKey;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationSubtreeGenerationCache;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationSubtreeGenerationCacheEntry;
 import org.wso2.carbon.identity.organization.management.service.cache.OrganizationVersionCache;
 import org.wso2.carbon.identity.organization.management.service.cache.OrganizationVersionCacheEntry;
 import org.wso2.carbon.identity.organization.management.service.cache.TenantDomainCacheByOrgId;
@@ -41,15 +57,32 @@ import org.wso2.carbon.identity.organization.management.service.model.AncestorOr
 import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.MinimalOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationHierarchyDO;
 import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
 import org.wso2.carbon.identity.organization.management.service.model.PatchOperation;
+import org.wso2.carbon.identity.organization.management.service.util.Utils;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
 
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.DEFAULT_ORGANIZATION_DEPTH_IN_HIERARCHY;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PATCH_PATH_ORG_NAME;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PATCH_PATH_ORG_STATUS;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PATCH_PATH_ORG_VERSION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.SUPER_ORG_ID;
 import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 
@@ -60,17 +93,59 @@ import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENA
 public class CacheBackedOrganizationManagementDAO implements OrganizationManagementDAO {
 
     private static final Log LOG = LogFactory.getLog(CacheBackedOrganizationManagementDAO.class);
+    private static final CacheLoadCoalescer CACHE_LOAD_COALESCER = new CacheLoadCoalescer();
+    private static final Object ORGANIZATION_HIERARCHY_WRITE_LOCK = new Object();
+    // The names, the statuses and the versions of the organizations are part of the cached child organization
+    // listings, hence only the changes to them outdate the listings.
+    private static final Set<String> LISTED_ORGANIZATION_PATCH_PATHS = new HashSet<>(Arrays.asList(
+            PATCH_PATH_ORG_NAME, PATCH_PATH_ORG_STATUS, PATCH_PATH_ORG_VERSION));
     private final OrganizationManagementDAO organizationMgtDAO;
 
     public CacheBackedOrganizationManagementDAO(OrganizationManagementDAO organizationMgtDAO) {
 
         this.organizationMgtDAO = organizationMgtDAO;
+        registerRefreshAheadLoaders();
     }
 
     @Override
     public void addOrganization(Organization organization) throws OrganizationManagementServerException {
 
         organizationMgtDAO.addOrganization(organization);
+        clearNegativeCacheEntries(organization);
+        clearParentOrganizationChildDependentCache(organization);
+        addToParentOrganizationHierarchyCache(organization);
+        updateParentSubtreeGeneration(organization);
+    }
+
+    @Override
+    public void addOrganizations(List<Organization> organizations) throws OrganizationManagementServerException {
+
+        organizationMgtDAO.addOrganizations(organizations);
+        organizations.forEach(this::clearNegativeCacheEntries);
+        for (Organization organization : organizations) {
+            clearParentOrganizationChildDependentCache(organization);
+        }
+        Map<String, List<Organization>> organizationsByRootId = new LinkedHashMap<>();
+        for (Organization organization : organizations) {
+            if (organization.getParent() != null) {
+                organizationsByRootId.computeIfAbsent(getRootOrganizationId(organization.getParent().getId()),
+                        rootOrganizationId -> new ArrayList<>()).add(organization);
+            }
+        }
+        for (Map.Entry<String, List<Organization>> rootOrganizations : organizationsByRootId.entrySet()) {
+            // The organizations are added in the given order, hence a parent organization listed after its children
+            // fails the addition and the hierarchy is cleared.
+            updateOrganizationHierarchyCache(rootOrganizations.getKey(), organizationHierarchy -> {
+                for (Organization organization : rootOrganizations.getValue()) {
+                    if (!organizationHierarchy.addOrganization(organization.getId(),
+                            organization.getParent().getId())) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+            updateSubtreeGeneration(rootOrganizations.getKey());
+        }
     }
 
     @Override
@@ -84,7 +159,15 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
 
         String tenantDomain = resolveTenantDomain(organizationId);
         if (tenantDomain == null) {
-            return organizationMgtDAO.isOrganizationExistById(organizationId);
+            TenantDomainCacheEntry cachedTenantDomain = getTenantDomainFromCache(organizationId);
+            if (cachedTenantDomain != null && cachedTenantDomain.isNegative()) {
+                return false;
+            }
+            boolean organizationExists = organizationMgtDAO.isOrganizationExistById(organizationId);
+            if (!organizationExists) {
+                addNegativeTenantDomainToCache(organizationId);
+            }
+            return organizationExists;
         }
 
         OrganizationDetailsCacheEntry cachedOrgDetails = getOrganizationDetailsFromCache(organizationId, tenantDomain);
@@ -111,10 +194,12 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
 
         OrganizationDetailsCacheEntry cachedOrgDetails = getOrganizationDetailsFromCache(organizationId, tenantDomain);
         if (cachedOrgDetails != null && cachedOrgDetails.getOrgName() != null) {
+            recordCacheHit("getOrganizationNameById", false);
             return Optional.ofNullable(cachedOrgDetails.getOrgName());
         }
 
-        Optional<String> orgName = organizationMgtDAO.getOrganizationNameById(organizationId);
+        Optional<String> orgName = loadOnce("getOrganizationNameById", organizationId,
+                () -> organizationMgtDAO.getOrganizationNameById(organizationId));
         if (cachedOrgDetails != null && orgName.isPresent()) {
             cachedOrgDetails.setOrgName(orgName.get());
         } else {
@@ -126,7 +211,29 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     @Override
     public Organization getOrganization(String organizationId) throws OrganizationManagementServerException {
 
-        return organizationMgtDAO.getOrganization(organizationId);
+        String tenantDomain = resolveTenantDomain(organizationId);
+        if (tenantDomain == null) {
+            return organizationMgtDAO.getOrganization(organizationId);
+        }
+
+        OrganizationCacheByOrgId cache = OrganizationCacheByOrgId.getInstance();
+        OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(organizationId);
+        OrganizationCacheEntry cachedOrganization = cache.getValueFromCache(cacheKey, tenantDomain);
+        if (cachedOrganization != null) {
+            recordCacheHit("getOrganization", false);
+            return cachedOrganization.getOrganization();
+        }
+
+        long invalidationStamp = cache.getInvalidationStamp();
+        Organization organization = loadOnce("getOrganization", organizationId,
+                () -> organizationMgtDAO.getOrganization(organizationId));
+        if (organization == null) {
+            return null;
+        }
+        // The loaded organization is shared with the concurrent callers, hence each caller gets its own copy.
+        OrganizationCacheEntry organizationCacheEntry = new OrganizationCacheEntry(organization);
+        cache.addToCacheOnRead(cacheKey, organizationCacheEntry, tenantDomain, invalidationStamp);
+        return organizationCacheEntry.getOrganization();
     }
 
     @Override
@@ -165,14 +272,24 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     public void deleteOrganization(String organizationId) throws OrganizationManagementServerException {
 
         String tenantDomain = resolveTenantDomain(organizationId);
+        String rootOrganizationId = getRootOrganizationId(organizationId);
+        String parentOrganizationId = getParentOrganizationId(organizationId);
         organizationMgtDAO.deleteOrganization(organizationId);
+        updateOrganizationHierarchyCache(rootOrganizationId,
+                organizationHierarchy -> organizationHierarchy.removeOrganization(organizationId));
+        updateSubtreeGeneration(rootOrganizationId);
         clearOrganizationCache(organizationId, tenantDomain);
+        clearBasicOrganizationCache(Collections.singleton(organizationId));
+        clearOrganizationPermissionCacheOfTenant(tenantDomain);
         clearTenantDomainCache(organizationId);
+        clearChildDependentOrganizationCache(parentOrganizationId);
     }
 
     @Override
     public boolean hasChildOrganizations(String organizationId) throws OrganizationManagementServerException {
 
+        // The check guards organization deletes, where a stale answer would delete an organization with children,
+        // hence it is not cached.
         return organizationMgtDAO.hasChildOrganizations(organizationId);
     }
 
@@ -196,6 +313,14 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
         return organizationMgtDAO.isOrganizationExistWithName(organizationName);
     }
 
+    @Override
+    public Set<String> getExistingChildOrganizationNames(String parentOrgId, Collection<String> organizationNames,
+                                                         boolean recursive)
+            throws OrganizationManagementServerException {
+
+        return organizationMgtDAO.getExistingChildOrganizationNames(parentOrgId, organizationNames, recursive);
+    }
+
     @Override
     public void patchOrganization(String organizationId, Instant lastModifiedInstant,
                                   List<PatchOperation> patchOperations) throws OrganizationManagementServerException {
@@ -203,6 +328,77 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
         String tenantDomain = resolveTenantDomain(organizationId);
         organizationMgtDAO.patchOrganization(organizationId, lastModifiedInstant, patchOperations);
         clearOrganizationCache(organizationId, tenantDomain);
+        clearBasicOrganizationCache(Collections.singleton(organizationId));
+        if (patchOperations.stream().anyMatch(operation -> LISTED_ORGANIZATION_PATCH_PATHS.contains(
+                operation.getPath()))) {
+            updateSubtreeGeneration(getRootOrganizationId(organizationId));
+        }
+    }
+
+    @Override
+    public void moveOrganization(String organizationId, String newParentId, Instant lastModifiedInstant)
+            throws OrganizationManagementServerException {
+
+        // The ancestors and the depths of every organization in the moved subtree are changed.
+        Map<String, String> subtreeTenantDomains =
+                organizationMgtDAO.getTenantDomainsOfSubtreeOrganizations(organizationId);
+        String rootOrganizationId = getRootOrganizationId(organizationId);
+        String newRootOrganizationId = getRootOrganizationId(newParentId);
+        String parentOrganizationId = getParentOrganizationId(organizationId);
+        organizationMgtDAO.moveOrganization(organizationId, newParentId, lastModifiedInstant);
+        updateSubtreeGeneration(rootOrganizationId);
+        if (StringUtils.equals(rootOrganizationId, newRootOrganizationId)) {
+            updateOrganizationHierarchyCache(rootOrganizationId,
+                    organizationHierarchy -> organizationHierarchy.moveOrganization(organizationId, newParentId));
+        } else {
+            clearOrganizationHierarchyCache(rootOrganizationId);
+            clearOrganizationHierarchyCache(newRootOrganizationId);
+            updateSubtreeGeneration(newRootOrganizationId);
+        }
+        subtreeTenantDomains.forEach(this::clearOrganizationCache);
+        clearBasicOrganizationCache(subtreeTenantDomains.keySet());
+        clearChildDependentOrganizationCache(parentOrganizationId);
+        clearChildDependentOrganizationCache(newParentId);
+    }
+
+    @Override
+    public Map<String, String> getTenantDomainsOfSubtreeOrganizations(String organizationId)
+            throws OrganizationManagementServerException {
+
+        return organizationMgtDAO.getTenantDomainsOfSubtreeOrganizations(organizationId);
+    }
+
+    @Override
+    public Map<String, String> getTenantUUIDsOfSubtreeOrganizations(String organizationId)
+            throws OrganizationManagementServerException {
+
+        return organizationMgtDAO.getTenantUUIDsOfSubtreeOrganizations(organizationId);
+    }
+
+    @Override
+    public Map<String, Integer> getSubtreeOrganizationDepths(String organizationId)
+            throws OrganizationManagementServerException {
+
+        return organizationMgtDAO.getSubtreeOrganizationDepths(organizationId);
+    }
+
+    @Override
+    public void deleteOrganizationSubtree(String organizationId, Map<String, Integer> subtreeOrganizationDepths)
+            throws OrganizationManagementServerException {
+
+        Map<String, String> subtreeTenantDomains =
+                organizationMgtDAO.getTenantDomainsOfSubtreeOrganizations(organizationId);
+        String rootOrganizationId = getRootOrganizationId(organizationId);
+        String parentOrganizationId = getParentOrganizationId(organizationId);
+        organizationMgtDAO.deleteOrganizationSubtree(organizationId, subtreeOrganizationDepths);
+        updateOrganizationHierarchyCache(rootOrganizationId,
+                organizationHierarchy -> organizationHierarchy.removeOrganization(organizationId));
+        updateSubtreeGeneration(rootOrganizationId);
+        subtreeTenantDomains.forEach(this::clearOrganizationCache);
+        clearBasicOrganizationCache(subtreeTenantDomains.keySet());
+        subtreeTenantDomains.values().forEach(this::clearOrganizationPermissionCacheOfTenant);
+        subtreeOrganizationDepths.keySet().forEach(this::clearTenantDomainCache);
+        clearChildDependentOrganizationCache(parentOrganizationId);
     }
 
     @Override
@@ -212,6 +408,9 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
         String tenantDomain = resolveTenantDomain(organizationId);
         organizationMgtDAO.updateOrganization(organizationId, organization);
         clearOrganizationCache(organizationId, tenantDomain);
+        clearBasicOrganizationCache(Collections.singleton(organizationId));
+        // An update replaces all the fields, hence the listed fields are taken as changed.
+        updateSubtreeGeneration(getRootOrganizationId(organizationId));
     }
 
     @Override
@@ -225,6 +424,13 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     public List<BasicOrganization> getChildOrganizations(String organizationId, boolean recursive)
             throws OrganizationManagementServerException {
 
+        ChildOrganizationListingCacheEntry childOrganizations = getChildOrganizationListing(organizationId,
+                "getChildOrganizations:recursive=" + recursive,
+                () -> organizationMgtDAO.getChildOrganizations(organizationId, recursive),
+                ChildOrganizationListingCacheEntry::fromBasicOrganizations);
+        if (childOrganizations != null) {
+            return childOrganizations.getBasicOrganizations();
+        }
         return organizationMgtDAO.getChildOrganizations(organizationId, recursive);
     }
 
@@ -232,16 +438,77 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     public List<OrganizationNode> getChildOrganizationGraph(String organizationId, boolean recursive)
             throws OrganizationManagementServerException {
 
+        ChildOrganizationListingCacheEntry childOrganizationGraph = getChildOrganizationListing(organizationId,
+                "getChildOrganizationGraph:recursive=" + recursive,
+                () -> organizationMgtDAO.getChildOrganizationGraph(organizationId, recursive),
+                ChildOrganizationListingCacheEntry::fromOrganizationGraph);
+        if (childOrganizationGraph != null) {
+            return childOrganizationGraph.getOrganizationGraph();
+        }
         return organizationMgtDAO.getChildOrganizationGraph(organizationId, recursive);
     }
 
+    @Override
+    public List<OrganizationNode> getChildOrganizationGraph(String organizationId, int maxDepth)
+            throws OrganizationManagementServerException {
+
+        ChildOrganizationListingCacheEntry childOrganizationGraph = getChildOrganizationListing(organizationId,
+                "getChildOrganizationGraph:maxDepth=" + maxDepth,
+                () -> organizationMgtDAO.getChildOrganizationGraph(organizationId, maxDepth),
+                ChildOrganizationListingCacheEntry::fromOrganizationGraph);
+        if (childOrganizationGraph != null) {
+            return childOrganizationGraph.getOrganizationGraph();
+        }
+        return organizationMgtDAO.getChildOrganizationGraph(organizationId, maxDepth);
+    }
+
     @Override
     public List<String> getChildOrganizationIds(String organizationId, boolean recursive)
             throws OrganizationManagementServerException {
 
+        OrganizationHierarchyCacheEntry organizationHierarchy =
+                getOrganizationHierarchy("getChildOrganizationIds", organizationId);
+        if (organizationHierarchy != null) {
+            return organizationHierarchy.getChildOrganizationIds(organizationId, recursive);
+        }
         return organizationMgtDAO.getChildOrganizationIds(organizationId, recursive);
     }
 
+    @Override
+    public List<String> getChildOrganizationIds(String organizationId, int maxDepth)
+            throws OrganizationManagementServerException {
+
+        OrganizationHierarchyCacheEntry organizationHierarchy =
+                getOrganizationHierarchy("getChildOrganizationIds", organizationId);
+        if (organizationHierarchy != null) {
+            return organizationHierarchy.getChildOrganizationIds(organizationId, maxDepth);
+        }
+        return organizationMgtDAO.getChildOrganizationIds(organizationId, maxDepth);
+    }
+
+    @Override
+    public int countDescendants(String organizationId, int maxDepth) throws OrganizationManagementServerException {
+
+        OrganizationHierarchyCacheEntry organizationHierarchy =
+                getOrganizationHierarchy("countDescendants", organizationId);
+        if (organizationHierarchy != null) {
+            return organizationHierarchy.countDescendants(organizationId, maxDepth);
+        }
+        return organizationMgtDAO.countDescendants(organizationId, maxDepth);
+    }
+
+    @Override
+    public Map<String, Integer> countDescendantsOfChildOrganizations(String organizationId, int maxDepth)
+            throws OrganizationManagementServerException {
+
+        OrganizationHierarchyCacheEntry organizationHierarchy =
+                getOrganizationHierarchy("countDescendantsOfChildOrganizations", organizationId);
+        if (organizationHierarchy != null) {
+            return organizationHierarchy.countDescendantsOfChildOrganizations(organizationId, maxDepth);
+        }
+        return organizationMgtDAO.countDescendantsOfChildOrganizations(organizationId, maxDepth);
+    }
+
     @Override
     public List<String> getChildOrganizationIds(String organizationId) throws OrganizationManagementServerException {
 
@@ -251,12 +518,14 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     @Override
     public boolean hasActiveChildOrganizations(String organizationId) throws OrganizationManagementServerException {
 
+        // Not cached, as the check guards disabling an organization.
         return organizationMgtDAO.hasActiveChildOrganizations(organizationId);
     }
 
     @Override
     public boolean isParentOrganizationDisabled(String organizationId) throws OrganizationManagementServerException {
 
+        // Not cached, as the check guards activating an organization.
         return organizationMgtDAO.isParentOrganizationDisabled(organizationId);
     }
 
@@ -270,10 +539,12 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
 
         OrganizationDetailsCacheEntry cachedOrgDetails = getOrganizationDetailsFromCache(organizationId, tenantDomain);
         if (cachedOrgDetails != null && cachedOrgDetails.getStatus() != null) {
+            recordCacheHit("getOrganizationStatus", false);
             return cachedOrgDetails.getStatus();
         }
 
-        String status = organizationMgtDAO.getOrganizationStatus(organizationId);
+        String status = loadOnce("getOrganizationStatus", organizationId,
+                () -> organizationMgtDAO.getOrganizationStatus(organizationId));
         if (cachedOrgDetails != null) {
             cachedOrgDetails.setStatus(status);
         } else {
@@ -292,15 +563,20 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
 
         OrganizationDetailsCacheEntry cachedOrgDetails = getOrganizationDetailsFromCache(organizationId, tenantDomain);
         if (cachedOrgDetails != null && cachedOrgDetails.getType() != null) {
+            recordCacheHit("getOrganizationType", false);
             return cachedOrgDetails.getType();
         }
 
-        String type = organizationMgtDAO.getOrganizationType(organizationId);
-        if (cachedOrgDetails != null) {
-            cachedOrgDetails.setStatus(type);
-        } else {
-            addOrganizationTypeToCache(organizationId, type, tenantDomain);
-        }
+        OrganizationDetailsCacheByOrgId cache = OrganizationDetailsCacheByOrgId.getInstance();
+        long invalidationStamp = cache.getInvalidationStamp();
+        String type = loadOnce("getOrganizationType", organizationId,
+                () -> organizationMgtDAO.getOrganizationType(organizationId));
+        // The cached entry is shared with the other readers, hence a copy holding the type replaces it.
+        OrganizationDetailsCacheEntry.Builder builder = cachedOrgDetails != null ?
+                new OrganizationDetailsCacheEntry.Builder(cachedOrgDetails) :
+                new OrganizationDetailsCacheEntry.Builder();
+        cache.addToCacheOnRead(new OrganizationIdCacheKey(organizationId), builder.setType(type).build(), tenantDomain,
+                invalidationStamp);
         return type;
     }
 
@@ -308,7 +584,44 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     public List<String> getOrganizationPermissions(String organizationId, String userId)
             throws OrganizationManagementServerException {
 
-        return organizationMgtDAO.getOrganizationPermissions(organizationId, userId);
+        String tenantDomain = resolveTenantDomain(organizationId);
+        if (tenantDomain == null || userId == null) {
+            return organizationMgtDAO.getOrganizationPermissions(organizationId, userId);
+        }
+
+        OrganizationPermissionCacheByUserId cache = OrganizationPermissionCacheByUserId.getInstance();
+        OrganizationPermissionCacheKey cacheKey = new OrganizationPermissionCacheKey(organizationId, userId);
+        OrganizationPermissionCacheEntry cachedPermissions = cache.getValueFromCache(cacheKey, tenantDomain);
+        if (cachedPermissions != null) {
+            recordCacheHit("getOrganizationPermissions", false);
+            return cachedPermissions.getPermissions();
+        }
+
+        long invalidationStamp = cache.getInvalidationStamp();
+        List<String> permissions = loadOnce("getOrganizationPermissions", getPermissionLoadKey(organizationId, userId),
+                () -> organizationMgtDAO.getOrganizationPermissions(organizationId, userId));
+        cachedPermissions = new OrganizationPermissionCacheEntry(permissions);
+        cache.addToCacheOnRead(cacheKey, cachedPermissions, tenantDomain, invalidationStamp);
+        return cachedPermissions.getPermissions();
+    }
+
+    @Override
+    public void clearOrganizationPermissionCache(String organizationId, String userId)
+            throws OrganizationManagementServerException {
+
+        CACHE_LOAD_COALESCER.invalidate(getPermissionLoadKey(organizationId, userId));
+        String tenantDomain = resolveTenantDomain(organizationId);
+        if (tenantDomain == null) {
+            return;
+        }
+        OrganizationPermissionCacheKey cacheKey = new OrganizationPermissionCacheKey(organizationId, userId);
+        OrganizationPermissionCacheByUserId.getInstance().clearCacheEntry(cacheKey, tenantDomain);
+    }
+
+    @Override
+    public void clearOrganizationPermissionCache(String organizationId) throws OrganizationManagementServerException {
+
+        clearOrganizationPermissionCacheOfTenant(resolveTenantDomain(organizationId));
     }
 
     @Override
@@ -327,17 +640,80 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
         }
         TenantDomainCacheEntry cachedTenantDomain = getTenantDomainFromCache(organizationId);
         if (cachedTenantDomain != null) {
-            return cachedTenantDomain.getTenantDomain();
+            recordCacheHit("resolveTenantDomain", cachedTenantDomain.isNegative());
+            return cachedTenantDomain.isNegative() ? null : cachedTenantDomain.getTenantDomain();
         }
-        String tenantDomain = organizationMgtDAO.resolveTenantDomain(organizationId);
+        String tenantDomain = loadOnce("resolveTenantDomain", organizationId,
+                () -> organizationMgtDAO.resolveTenantDomain(organizationId));
+        // An existing organization may not have a tenant yet, hence an unresolved tenant domain is not cached here.
+        // The unknown organizations are cached by the lookups which find that the organization does not exist.
         addTenantDomainToCacheOnRead(organizationId, tenantDomain);
         return tenantDomain;
     }
 
+    @Override
+    public Map<String, String> resolveTenantDomains(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        Map<String, String> tenantDomains = new HashMap<>();
+        Set<OrganizationIdCacheKey> cacheKeys = new HashSet<>();
+        for (String organizationId : organizationIds) {
+            if (StringUtils.equals(SUPER_ORG_ID, organizationId)) {
+                tenantDomains.put(organizationId, SUPER_TENANT_DOMAIN_NAME);
+            } else if (StringUtils.isNotBlank(organizationId)) {
+                cacheKeys.add(new OrganizationIdCacheKey(organizationId));
+            }
+        }
+        Map<OrganizationIdCacheKey, TenantDomainCacheEntry> cachedTenantDomains =
+                TenantDomainCacheByOrgId.getInstance().getAll(cacheKeys, SUPER_TENANT_DOMAIN_NAME);
+        Set<String> missedOrganizationIds = new HashSet<>();
+        for (OrganizationIdCacheKey cacheKey : cacheKeys) {
+            TenantDomainCacheEntry cachedTenantDomain = cachedTenantDomains.get(cacheKey);
+            if (cachedTenantDomain == null) {
+                CacheMetricsRegistry.recordOperationMiss("resolveTenantDomain");
+                missedOrganizationIds.add(cacheKey.getOrganizationId());
+                continue;
+            }
+            recordCacheHit("resolveTenantDomain", cachedTenantDomain.isNegative());
+            if (!cachedTenantDomain.isNegative()) {
+                tenantDomains.put(cacheKey.getOrganizationId(), cachedTenantDomain.getTenantDomain());
+            }
+        }
+        if (missedOrganizationIds.isEmpty()) {
+            return tenantDomains;
+        }
+
+        long loadStartTime = System.nanoTime();
+        boolean successful = false;
+        Map<String, String> fetchedTenantDomains;
+        try {
+            fetchedTenantDomains = organizationMgtDAO.resolveTenantDomains(missedOrganizationIds);
+            successful = true;
+        } finally {
+            CacheMetricsRegistry.recordOperationLoad("resolveTenantDomain", System.nanoTime() - loadStartTime,
+                    successful);
+        }
+        // The organizations without a tenant are not negatively cached, since checking whether they exist would
+        // query the database once per organization.
+        fetchedTenantDomains.forEach(this::addTenantDomainToCacheOnRead);
+        tenantDomains.putAll(fetchedTenantDomains);
+        return tenantDomains;
+    }
+
     @Override
     public boolean isChildOfParent(String organizationId, String parentId)
             throws OrganizationManagementServerException {
 
+        // The organizations above the root organization are not in the hierarchy, but in the ancestor path.
+        OrganizationHierarchyCacheEntry organizationHierarchy =
+                getOrganizationHierarchy("isChildOfParent", organizationId);
+        if (organizationHierarchy != null && organizationHierarchy.containsOrganization(parentId)) {
+            return organizationHierarchy.isChildOfParent(organizationId, parentId);
+        }
+        OrganizationAncestorPath ancestorPath = getAncestorPath(organizationId);
+        if (ancestorPath != null) {
+            return ancestorPath.containsOrganization(parentId);
+        }
         return organizationMgtDAO.isChildOfParent(organizationId, parentId);
     }
 
@@ -345,6 +721,15 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     public boolean isImmediateChildOfParent(String organizationId, String parentId)
             throws OrganizationManagementServerException {
 
+        OrganizationHierarchyCacheEntry organizationHierarchy =
+                getOrganizationHierarchy("isImmediateChildOfParent", organizationId);
+        if (organizationHierarchy != null && organizationHierarchy.containsOrganization(parentId)) {
+            return organizationHierarchy.isImmediateChildOfParent(organizationId, parentId);
+        }
+        OrganizationAncestorPath ancestorPath = getAncestorPath(organizationId);
+        if (ancestorPath != null) {
+            return ancestorPath.getRelativeDepth(parentId) == 1;
+        }
         return organizationMgtDAO.isImmediateChildOfParent(organizationId, parentId);
     }
 
@@ -356,10 +741,17 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
         }
         OrganizationIdCacheEntry cachedOrganizationId = getOrganizationIdFromCache(tenantDomain);
         if (cachedOrganizationId != null) {
-            return Optional.of(cachedOrganizationId.getOrganizationId());
+            recordCacheHit("resolveOrganizationId", cachedOrganizationId.isNegative());
+            return cachedOrganizationId.isNegative() ? Optional.empty() :
+                    Optional.of(cachedOrganizationId.getOrganizationId());
+        }
+        Optional<String> organizationId = loadOnce("resolveOrganizationId", tenantDomain,
+                () -> organizationMgtDAO.resolveOrganizationId(tenantDomain));
+        if (organizationId.isPresent()) {
+            addOrganizationIdToCacheOnRead(tenantDomain, organizationId.get());
+        } else {
+            addNegativeOrganizationIdToCache(tenantDomain);
         }
-        Optional<String> organizationId = organizationMgtDAO.resolveOrganizationId(tenantDomain);
-        organizationId.ifPresent(s -> addOrganizationIdToCacheOnRead(tenantDomain, s));
         return organizationId;
     }
 
@@ -373,25 +765,110 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     @Override
     public List<String> getAncestorOrganizationIds(String organizationId) throws OrganizationManagementServerException {
 
-        String tenantDomain = resolveTenantDomain(organizationId);
-        if (tenantDomain == null) {
-            return organizationMgtDAO.getAncestorOrganizationIds(organizationId);
+        OrganizationAncestorPath ancestorPath = getAncestorPath(organizationId);
+        if (ancestorPath != null) {
+            return ancestorPath.getAncestorOrganizationIds();
         }
+        return organizationMgtDAO.getAncestorOrganizationIds(organizationId);
+    }
 
-        OrganizationDetailsCacheEntry cachedOrgDetails = getOrganizationDetailsFromCache(organizationId, tenantDomain);
-        if (cachedOrgDetails != null && cachedOrgDetails.getAncestorOrganizationIds() != null) {
-            return cachedOrgDetails.getAncestorOrganizationIds();
+    @Override
+    public Map<String, List<String>> getAncestorOrganizationIds(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        Map<String, List<String>> ancestorOrganizationIds = new HashMap<>();
+        Map<String, String> missedOrganizationTenantDomains = new HashMap<>();
+        // The tenant domains are resolved for the whole set at once, instead of querying once per organization.
+        Map<String, String> tenantDomains = resolveTenantDomains(organizationIds);
+        for (String organizationId : organizationIds) {
+            if (ancestorOrganizationIds.containsKey(organizationId) ||
+                    missedOrganizationTenantDomains.containsKey(organizationId)) {
+                continue;
+            }
+            String tenantDomain = tenantDomains.get(organizationId);
+            if (tenantDomain != null) {
+                OrganizationDetailsCacheEntry cachedOrgDetails =
+                        getOrganizationDetailsFromCache(organizationId, tenantDomain);
+                if (cachedOrgDetails != null && cachedOrgDetails.getAncestorPath() != null) {
+                    recordCacheHit("getAncestorOrganizationIds", false);
+                    ancestorOrganizationIds.put(organizationId, cachedOrgDetails.getAncestorOrganizationIds());
+                    continue;
+                }
+            }
+            CacheMetricsRegistry.recordOperationMiss("getAncestorOrganizationIds");
+            missedOrganizationTenantDomains.put(organizationId, tenantDomain);
+        }
+        if (missedOrganizationTenantDomains.isEmpty()) {
+            return ancestorOrganizationIds;
         }
 
-        List<String> ancestorOrganizationIds = organizationMgtDAO.getAncestorOrganizationIds(organizationId);
-        if (cachedOrgDetails != null) {
-            cachedOrgDetails.setAncestorOrganizationIds(ancestorOrganizationIds);
-        } else {
-            addAncestorOrganizationIdsToCache(organizationId, ancestorOrganizationIds, tenantDomain);
+        long loadStartTime = System.nanoTime();
+        boolean successful = false;
+        Map<String, List<String>> fetchedAncestorOrganizationIds;
+        try {
+            fetchedAncestorOrganizationIds =
+                    organizationMgtDAO.getAncestorOrganizationIds(missedOrganizationTenantDomains.keySet());
+            successful = true;
+        } finally {
+            CacheMetricsRegistry.recordOperationLoad("getAncestorOrganizationIds", System.nanoTime() - loadStartTime,
+                    successful);
+        }
+        for (Map.Entry<String, List<String>> fetchedAncestors : fetchedAncestorOrganizationIds.entrySet()) {
+            String organizationId = fetchedAncestors.getKey();
+            ancestorOrganizationIds.put(organizationId, fetchedAncestors.getValue());
+            String tenantDomain = missedOrganizationTenantDomains.get(organizationId);
+            if (tenantDomain == null) {
+                continue;
+            }
+            OrganizationDetailsCacheEntry cachedOrgDetails =
+                    getOrganizationDetailsFromCache(organizationId, tenantDomain);
+            if (cachedOrgDetails != null) {
+                cachedOrgDetails.setAncestorOrganizationIds(fetchedAncestors.getValue());
+            } else {
+                addAncestorOrganizationIdsToCache(organizationId, fetchedAncestors.getValue(), tenantDomain);
+            }
         }
         return ancestorOrganizationIds;
     }
 
+    @Override
+    public Map<String, String> getOrganizationParentIds(String afterOrganizationId, int limit)
+            throws OrganizationManagementServerException {
+
+        return organizationMgtDAO.getOrganizationParentIds(afterOrganizationId, limit);
+    }
+
+    @Override
+    public Map<String, String> getOrganizationParentIds(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        return organizationMgtDAO.getOrganizationParentIds(organizationIds);
+    }
+
+    @Override
+    public List<OrganizationHierarchyDO> getOrganizationHierarchyEntries(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        return organizationMgtDAO.getOrganizationHierarchyEntries(organizationIds);
+    }
+
+    @Override
+    public void repairOrganizationHierarchy(List<OrganizationHierarchyDO> entriesToDelete,
+                                            List<OrganizationHierarchyDO> entriesToAdd)
+            throws OrganizationManagementServerException {
+
+        organizationMgtDAO.repairOrganizationHierarchy(entriesToDelete, entriesToAdd);
+        // The cached hierarchies were built from the inconsistent entries, hence all of them are dropped.
+        OrganizationHierarchyCacheByRootOrgId.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        ChildOrganizationListingCacheByOrgId.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        Set<String> repairedOrganizationIds = new HashSet<>();
+        entriesToDelete.forEach(entry -> repairedOrganizationIds.add(entry.getId()));
+        entriesToAdd.forEach(entry -> repairedOrganizationIds.add(entry.getId()));
+        for (String organizationId : repairedOrganizationIds) {
+            clearOrganizationCache(organizationId, resolveTenantDomain(organizationId));
+        }
+    }
+
     @Override
     public List<Organization> getOrganizationsByName(String organizationName)
             throws OrganizationManagementServerException {
@@ -410,10 +887,12 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
         OrganizationDetailsCacheEntry cachedOrgDetails = getOrganizationDetailsFromCache(organizationId, tenantDomain);
         if (cachedOrgDetails != null &&
                 cachedOrgDetails.getOrganizationDepthInHierarchy() != DEFAULT_ORGANIZATION_DEPTH_IN_HIERARCHY) {
+            recordCacheHit("getOrganizationDepthInHierarchy", false);
             return cachedOrgDetails.getOrganizationDepthInHierarchy();
         }
 
-        int organizationDepthInHierarchy = organizationMgtDAO.getOrganizationDepthInHierarchy(organizationId);
+        int organizationDepthInHierarchy = loadOnce("getOrganizationDepthInHierarchy", organizationId,
+                () -> organizationMgtDAO.getOrganizationDepthInHierarchy(organizationId));
         if (cachedOrgDetails != null) {
             cachedOrgDetails.setOrganizationDepthInHierarchy(organizationDepthInHierarchy);
         } else {
@@ -426,13 +905,49 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     public int getRelativeDepthBetweenOrganizationsInSameBranch(String firstOrgId, String secondOrgId)
             throws OrganizationManagementServerException {
 
+        if (StringUtils.equals(firstOrgId, secondOrgId)) {
+            return 0;
+        }
+        OrganizationHierarchyCacheEntry organizationHierarchy =
+                getOrganizationHierarchy("getRelativeDepthBetweenOrganizationsInSameBranch", firstOrgId);
+        if (organizationHierarchy != null && organizationHierarchy.containsOrganization(secondOrgId)) {
+            return organizationHierarchy.getRelativeDepthBetweenOrganizationsInSameBranch(firstOrgId, secondOrgId);
+        }
+        OrganizationAncestorPath firstOrgAncestorPath = getAncestorPath(firstOrgId);
+        if (firstOrgAncestorPath != null && firstOrgAncestorPath.containsOrganization(secondOrgId)) {
+            return firstOrgAncestorPath.getRelativeDepth(secondOrgId);
+        }
+        OrganizationAncestorPath secondOrgAncestorPath = getAncestorPath(secondOrgId);
+        if (secondOrgAncestorPath != null && secondOrgAncestorPath.containsOrganization(firstOrgId)) {
+            return secondOrgAncestorPath.getRelativeDepth(firstOrgId);
+        }
+        if (firstOrgAncestorPath != null && secondOrgAncestorPath != null) {
+            // Organizations in different branches are not in the ancestor path of each other.
+            return -1;
+        }
         return organizationMgtDAO.getRelativeDepthBetweenOrganizationsInSameBranch(firstOrgId, secondOrgId);
     }
 
+    @Override
+    public String getLowestCommonAncestor(String firstOrgId, String secondOrgId)
+            throws OrganizationManagementServerException {
+
+        OrganizationHierarchyCacheEntry organizationHierarchy =
+                getOrganizationHierarchy("getLowestCommonAncestor", firstOrgId);
+        if (organizationHierarchy != null && organizationHierarchy.containsOrganization(secondOrgId)) {
+            return organizationHierarchy.getLowestCommonAncestor(firstOrgId, secondOrgId);
+        }
+        return organizationMgtDAO.getLowestCommonAncestor(firstOrgId, secondOrgId);
+    }
+
     @Override
     public String getAnAncestorOrganizationIdInGivenDepth(String organizationId, int depth)
             throws OrganizationManagementServerException {
 
+        OrganizationAncestorPath ancestorPath = getAncestorPath(organizationId);
+        if (ancestorPath != null) {
+            return ancestorPath.getAncestorOrganizationIdInGivenDepth(depth);
+        }
         return organizationMgtDAO.getAnAncestorOrganizationIdInGivenDepth(organizationId, depth);
     }
 
@@ -440,6 +955,9 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     public void addRootOrganization(Organization organization) throws OrganizationManagementServerException {
 
         organizationMgtDAO.addRootOrganization(organization);
+        clearNegativeCacheEntries(organization);
+        clearParentOrganizationChildDependentCache(organization);
+        updateParentSubtreeGeneration(organization);
     }
 
     @Override
@@ -455,7 +973,52 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     public Map<String, BasicOrganization> getBasicOrganizationDetailsByOrgIDs(List<String> orgIds)
             throws OrganizationManagementException {
 
-        return organizationMgtDAO.getBasicOrganizationDetailsByOrgIDs(orgIds);
+        BasicOrganizationCacheByOrgId basicOrganizationCache = BasicOrganizationCacheByOrgId.getInstance();
+        if (orgIds == null || orgIds.isEmpty() || !basicOrganizationCache.isEnabled()) {
+            return organizationMgtDAO.getBasicOrganizationDetailsByOrgIDs(orgIds);
+        }
+
+        // The organization IDs are unique across the tenants, hence the organizations are cached in the super tenant
+        // and looked up within a single tenant flow.
+        Set<OrganizationIdCacheKey> cacheKeys = new HashSet<>();
+        orgIds.forEach(orgId -> cacheKeys.add(new OrganizationIdCacheKey(orgId)));
+        Map<OrganizationIdCacheKey, BasicOrganizationCacheEntry> cachedOrganizations =
+                basicOrganizationCache.getAll(cacheKeys, SUPER_TENANT_DOMAIN_NAME);
+        Map<String, BasicOrganization> basicOrganizations = new HashMap<>();
+        Set<String> missedOrgIds = new LinkedHashSet<>();
+        for (String orgId : orgIds) {
+            BasicOrganizationCacheEntry entry = cachedOrganizations.get(new OrganizationIdCacheKey(orgId));
+            if (entry != null) {
+                recordCacheHit("getBasicOrganizationDetailsByOrgIDs", false);
+                basicOrganizations.put(orgId, entry.getBasicOrganization());
+            } else {
+                missedOrgIds.add(orgId);
+            }
+        }
+        if (missedOrgIds.isEmpty()) {
+            return basicOrganizations;
+        }
+
+        // Only the organizations missed in the cache are loaded from the database.
+        List<String> orgIdsToLoad = new ArrayList<>(missedOrgIds);
+        long invalidationStamp = basicOrganizationCache.getInvalidationStamp();
+        // A load of several organizations is not shared, as a write invalidates the in-flight loads by organization ID.
+        String loadKey = orgIdsToLoad.size() == 1 ? orgIdsToLoad.get(0) : null;
+        Map<String, BasicOrganization> loadedOrganizations = loadOnce("getBasicOrganizationDetailsByOrgIDs", loadKey,
+                () -> organizationMgtDAO.getBasicOrganizationDetailsByOrgIDs(orgIdsToLoad));
+        Map<OrganizationIdCacheKey, BasicOrganizationCacheEntry> loadedEntries = new HashMap<>();
+        for (Map.Entry<String, BasicOrganization> loadedOrganization : loadedOrganizations.entrySet()) {
+            // The loaded organizations are shared by the coalesced loads, hence each caller gets its own copy.
+            BasicOrganizationCacheEntry entry = new BasicOrganizationCacheEntry(loadedOrganization.getValue());
+            basicOrganizations.put(loadedOrganization.getKey(), entry.getBasicOrganization());
+            // The handle of an organization without a tenant is set when the tenant is created, hence only the
+            // organizations with a tenant are cached.
+            if (loadedOrganization.getValue().getOrganizationHandle() != null) {
+                loadedEntries.put(new OrganizationIdCacheKey(loadedOrganization.getKey()), entry);
+            }
+        }
+        basicOrganizationCache.putAllOnRead(loadedEntries, SUPER_TENANT_DOMAIN_NAME, invalidationStamp);
+        return basicOrganizations;
     }
 
     @Override
@@ -469,6 +1032,14 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
     public MinimalOrganization getMinimalOrganization(String organizationId, String associatedTenantDomain)
             throws OrganizationManagementException {
 
+        // Unknown organizations are cached against the organization id, since they have no organization handle.
+        TenantDomainCacheEntry cachedTenantDomain = getTenantDomainFromCache(organizationId);
+        if (cachedTenantDomain != null && cachedTenantDomain.isNegative()) {
+            recordCacheHit("getMinimalOrganization", true);
+            LOG.debug("Negative Tenant Domain Cache entry found for organization id: " + organizationId);
+            return null;
+        }
+
         String tenantDomain = associatedTenantDomain;
         if (tenantDomain == null) {
             tenantDomain = resolveTenantDomain(organizationId);
@@ -479,14 +1050,16 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
                 .getValueFromCache(cacheKey, tenantDomain);
 
         if (entry != null) {
+            recordCacheHit("getMinimalOrganization", false);
             LOG.debug("Minimal Organization Cache entry found for organization id: " + organizationId);
             return entry.getMinimalOrganization();
         }
         LOG.debug("Minimal Organization Cache entry not found for organization id: " + organizationId +
                 ". Fetching entry from DB.");
 
-        MinimalOrganization minimalOrganization = organizationMgtDAO.getMinimalOrganization(organizationId,
-                tenantDomain);
+        String lookupTenantDomain = tenantDomain;
+        MinimalOrganization minimalOrganization = loadOnce("getMinimalOrganization:" + lookupTenantDomain,
+                organizationId, () -> organizationMgtDAO.getMinimalOrganization(organizationId, lookupTenantDomain));
 
         if (minimalOrganization != null) {
             LOG.debug("Minimal Organization entry fetched from DB for organization id: " + organizationId +
@@ -499,11 +1072,19 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
         } else {
             LOG.debug("Minimal Organization Entry for organization id: " + organizationId +
                     " not found in cache or DB.");
+            addNegativeTenantDomainToCache(organizationId);
         }
 
         return minimalOrganization;
     }
 
+    @Override
+    public List<MinimalOrganization> getMinimalOrganizations(String afterOrganizationId, int limit)
+            throws OrganizationManagementServerException {
+
+        return organizationMgtDAO.getMinimalOrganizations(afterOrganizationId, limit);
+    }
+
     @Override
     public Optional<String> getOrganizationVersion(String organizationId, String tenantDomain)
             throws OrganizationManagementException {
@@ -512,10 +1093,12 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
         OrganizationVersionCacheEntry cacheEntry = OrganizationVersionCache.getInstance()
                 .getValueFromCache(cacheKey, tenantDomain);
         if (cacheEntry != null) {
+            recordCacheHit("getOrganizationVersion", false);
             return Optional.of(cacheEntry.getVersion());
         }
 
-        Optional<String> version = organizationMgtDAO.getOrganizationVersion(organizationId, tenantDomain);
+        Optional<String> version = loadOnce("getOrganizationVersion:" + tenantDomain, organizationId,
+                () -> organizationMgtDAO.getOrganizationVersion(organizationId, tenantDomain));
         if (!version.isPresent()) {
             // Can be null if the organization does not exist. Error is handled in the service layer.
             return version;
@@ -584,6 +1167,47 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
                 .addToCacheOnRead(cacheKey, cacheEntry, SUPER_TENANT_DOMAIN_NAME);
     }
 
+    private void addNegativeTenantDomainToCache(String organizationId) {
+
+        if (StringUtils.isBlank(organizationId)) {
+            return;
+        }
+        OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(organizationId);
+        TenantDomainCacheByOrgId.getInstance().addNegativeEntryToCacheOnRead(cacheKey,
+                TenantDomainCacheEntry.createNegativeEntry(), SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    private void addNegativeOrganizationIdToCache(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        TenantDomainCacheKey cacheKey = new TenantDomainCacheKey(tenantDomain);
+        OrganizationIdCacheByTenantDomain.getInstance().addNegativeEntryToCacheOnRead(cacheKey,
+                OrganizationIdCacheEntry.createNegativeEntry(), SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    /**
+     * Clear the negative entries which may have been cached for a newly added organization before it was added.
+     *
+     * @param organization The added organization.
+     */
+    private void clearNegativeCacheEntries(Organization organization) {
+
+        if (StringUtils.isNotBlank(organization.getId())) {
+            clearTenantDomainCache(organization.getId());
+        }
+        String tenantDomain = organization.getOrganizationHandle();
+        if (StringUtils.isNotBlank(tenantDomain)) {
+            CACHE_LOAD_COALESCER.invalidate(tenantDomain);
+            OrganizationIdCacheByTenantDomain.getInstance().clearCacheEntry(new TenantDomainCacheKey(tenantDomain),
+                    SUPER_TENANT_DOMAIN_NAME);
+            if (StringUtils.isNotBlank(organization.getId())) {
+                clearMinimalOrganizationCache(organization.getId(), tenantDomain);
+            }
+        }
+    }
+
     private OrganizationDetailsCacheEntry getOrganizationDetailsFromCache(String organizationId, String tenantDomain) {
 
         OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(organizationId);
@@ -605,13 +1229,6 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
         addOrganizationDetailsToCacheOnRead(organizationId, cacheEntry, tenantDomain);
     }
 
-    private void addOrganizationTypeToCache(String organizationId, String type, String tenantDomain) {
-
-        OrganizationDetailsCacheEntry cacheEntry = new OrganizationDetailsCacheEntry.Builder()
-                .setType(type).build();
-        addOrganizationDetailsToCacheOnRead(organizationId, cacheEntry, tenantDomain);
-    }
-
     private void addOrganizationDepthInHierarchyToCache(String organizationId, int organizationDepthInHierarchy,
                                                         String tenantDomain) {
 
@@ -620,12 +1237,14 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
         addOrganizationDetailsToCacheOnRead(organizationId, cacheEntry, tenantDomain);
     }
 
-    private void addAncestorOrganizationIdsToCache(String organizationId, List<String> ancestorOrganizationIds,
-                                                   String tenantDomain) {
+    private OrganizationAncestorPath addAncestorOrganizationIdsToCache(String organizationId,
+                                                                       List<String> ancestorOrganizationIds,
+                                                                       String tenantDomain) {
 
         OrganizationDetailsCacheEntry cacheEntry = new OrganizationDetailsCacheEntry.Builder()
                 .setAncestorOrganizationIds(ancestorOrganizationIds).build();
         addOrganizationDetailsToCacheOnRead(organizationId, cacheEntry, tenantDomain);
+        return cacheEntry.getAncestorPath();
     }
 
     private void addOrganizationDetailsToCache(String organizationId,
@@ -646,29 +1265,451 @@ public class CacheBackedOrganizationManagementDAO implements OrganizationManagem
                 .addToCacheOnRead(cacheKey, organizationDetailsCacheEntry, tenantDomain);
     }
 
+    /**
+     * Register the loaders used to reload the hot entries of the organization caches ahead of their expiry.
+     */
+    private void registerRefreshAheadLoaders() {
+
+        TenantDomainCacheByOrgId.getInstance().setRefreshAheadLoader((cacheKey, staleEntry, cacheTenantDomain) -> {
+            String tenantDomain = organizationMgtDAO.resolveTenantDomain(cacheKey.getOrganizationId());
+            return tenantDomain != null ? new TenantDomainCacheEntry(tenantDomain) : null;
+        });
+        OrganizationDetailsCacheByOrgId.getInstance().setRefreshAheadLoader(this::reloadOrganizationDetails);
+        OrganizationVersionCache.getInstance().setRefreshAheadLoader((cacheKey, staleEntry, tenantDomain) ->
+                organizationMgtDAO.getOrganizationVersion(cacheKey.getOrganizationId(), tenantDomain)
+                        .map(OrganizationVersionCacheEntry::new).orElse(null));
+        MinimalOrganizationCacheByOrgId.getInstance().setRefreshAheadLoader((cacheKey, staleEntry, tenantDomain) -> {
+            MinimalOrganization minimalOrganization =
+                    organizationMgtDAO.getMinimalOrganization(cacheKey.getOrganizationId(), tenantDomain);
+            return minimalOrganization != null ? new MinimalOrganizationCacheEntry(minimalOrganization) : null;
+        });
+    }
+
+    /**
+     * Reload the organization details of a cache entry. Only the details loaded into the stale entry are reloaded,
+     * as the other details are loaded on demand.
+     *
+     * @param cacheKey     The organization ID cache key.
+     * @param staleEntry   The cached organization details.
+     * @param tenantDomain The tenant domain of the organization.
+     * @return The reloaded organization details, or null if the organization no longer exists.
+     * @throws OrganizationManagementServerException The server exception thrown when loading the details.
+     */
+    private OrganizationDetailsCacheEntry reloadOrganizationDetails(OrganizationIdCacheKey cacheKey,
+                                                                    OrganizationDetailsCacheEntry staleEntry,
+                                                                    String tenantDomain)
+            throws OrganizationManagementServerException {
+
+        String organizationId = cacheKey.getOrganizationId();
+        OrganizationDetailsCacheEntry.Builder builder = new OrganizationDetailsCacheEntry.Builder();
+        if (staleEntry.getOrgName() != null) {
+            Optional<String> orgName = organizationMgtDAO.getOrganizationNameById(organizationId);
+            if (!orgName.isPresent()) {
+                return null;
+            }
+            builder.setOrgName(orgName.get());
+        }
+        if (staleEntry.getStatus() != null) {
+            builder.setStatus(organizationMgtDAO.getOrganizationStatus(organizationId));
+        }
+        if (staleEntry.getType() != null) {
+            builder.setType(organizationMgtDAO.getOrganizationType(organizationId));
+        }
+        if (staleEntry.getAncestorPath() != null) {
+            builder.setAncestorOrganizationIds(organizationMgtDAO.getAncestorOrganizationIds(organizationId));
+        }
+        if (staleEntry.getOrganizationDepthInHierarchy() != DEFAULT_ORGANIZATION_DEPTH_IN_HIERARCHY) {
+            builder.setOrganizationDepthInHierarchy(organizationMgtDAO.getOrganizationDepthInHierarchy(organizationId));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Load a value missed in the cache, sharing the database call with the concurrent callers missing the same value.
+     *
+     * @param loadName Name of the load, which scopes the key to the loaded value.
+     * @param key      The key of the loaded value, or null if the load should not be shared.
+     * @param loader   Loader of the value from the database.
+     * @return The loaded value.
+     * @throws E The exception thrown by the loader.
+     */
+    private <T, E extends Exception> T loadOnce(String loadName, String key, CacheLoadCoalescer.Loader<T, E> loader)
+            throws E {
+
+        String operationName = getOperationName(loadName);
+        CacheMetricsRegistry.recordOperationMiss(operationName);
+        long loadStartTime = System.nanoTime();
+        boolean successful = false;
+        try {
+            T value = key == null ? loader.load() :
+                    CACHE_LOAD_COALESCER.load(loadName, key, Utils.getCacheLoadMaxWaitTime(), loader);
+            successful = true;
+            return value;
+        } finally {
+            CacheMetricsRegistry.recordOperationLoad(operationName, System.nanoTime() - loadStartTime, successful);
+        }
+    }
+
+    /**
+     * Record a lookup of a DAO operation served by the cache, to attribute the cache hits to the DAO methods.
+     *
+     * @param operationName The name of the DAO operation, which is the name of the load used on a miss.
+     * @param negative      Whether the lookup is served by a negative entry.
+     */
+    private static void recordCacheHit(String operationName, boolean negative) {
+
+        CacheMetricsRegistry.recordOperationHit(operationName, negative);
+    }
+
+    private static String getPermissionLoadKey(String organizationId, String userId) {
+
+        return organizationId + ":" + userId;
+    }
+
+    private static String getOperationName(String loadName) {
+
+        // Load names may be scoped with a suffix, such as the tenant domain, which is not part of the operation.
+        int scopeIndex = loadName.indexOf(':');
+        return scopeIndex < 0 ? loadName : loadName.substring(0, scopeIndex);
+    }
+
+    /**
+     * Get the in-memory hierarchy of the root organization of the given organization. The hierarchy is loaded from the
+     * organization hierarchy table on the first access and kept current by the writes afterwards.
+     *
+     * @param operationName  The name of the operation served from the hierarchy, under which the hit is recorded.
+     * @param organizationId The organization ID.
+     * @return The organization hierarchy containing the given organization, or null if the organization is not
+     * under a root organization, is not in the cached hierarchy or the hierarchy cache is disabled.
+     * @throws OrganizationManagementServerException The server exception thrown when loading the hierarchy.
+     */
+    private OrganizationHierarchyCacheEntry getOrganizationHierarchy(String operationName, String organizationId)
+            throws OrganizationManagementServerException {
+
+        OrganizationHierarchyCacheByRootOrgId cache = OrganizationHierarchyCacheByRootOrgId.getInstance();
+        if (!cache.isEnabled()) {
+            return null;
+        }
+        String rootOrganizationId = getRootOrganizationId(organizationId);
+        if (rootOrganizationId == null) {
+            return null;
+        }
+
+        OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(rootOrganizationId);
+        OrganizationHierarchyCacheEntry organizationHierarchy =
+                cache.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (organizationHierarchy != null) {
+            // The writes keep the cached hierarchy current, hence an organization is only missing in it while being
+            // written, and the database answers the call instead of reloading the whole hierarchy.
+            if (!organizationHierarchy.containsOrganization(organizationId)) {
+                return null;
+            }
+            recordCacheHit(operationName, false);
+            return organizationHierarchy;
+        }
+
+        CacheMetricsRegistry.recordOperationMiss(operationName);
+        LOG.debug("Loading the organization hierarchy of the root organization: " + rootOrganizationId);
+        long invalidationStamp = cache.getInvalidationStamp();
+        organizationHierarchy = new OrganizationHierarchyCacheEntry(rootOrganizationId);
+        organizationHierarchy.addOrganizations(loadOnce("getDescendantOrganizationParentIds", rootOrganizationId,
+                () -> organizationMgtDAO.getDescendantOrganizationParentIds(rootOrganizationId)));
+        cache.addToCacheOnRead(cacheKey, organizationHierarchy, SUPER_TENANT_DOMAIN_NAME, invalidationStamp);
+        return organizationHierarchy.containsOrganization(organizationId) ? organizationHierarchy : null;
+    }
+
+    /**
+     * Get the ancestor path of the given organization from the organization details cache, loading the ancestors on
+     * a miss. The ancestor path answers the ancestor checks of the organization without querying the database.
+     *
+     * @param organizationId The organization ID.
+     * @return The ancestor path, or null if the organization does not resolve to a tenant domain.
+     * @throws OrganizationManagementServerException The server exception thrown when loading the ancestors.
+     */
+    private OrganizationAncestorPath getAncestorPath(String organizationId)
+            throws OrganizationManagementServerException {
+
+        String tenantDomain = resolveTenantDomain(organizationId);
+        if (tenantDomain == null) {
+            return null;
+        }
+
+        OrganizationDetailsCacheEntry cachedOrgDetails = getOrganizationDetailsFromCache(organizationId, tenantDomain);
+        if (cachedOrgDetails != null && cachedOrgDetails.getAncestorPath() != null) {
+            recordCacheHit("getAncestorOrganizationIds", false);
+            return cachedOrgDetails.getAncestorPath();
+        }
+
+        List<String> ancestorOrganizationIds = loadOnce("getAncestorOrganizationIds", organizationId,
+                () -> organizationMgtDAO.getAncestorOrganizationIds(organizationId));
+        if (ancestorOrganizationIds == null) {
+            return null;
+        }
+        if (cachedOrgDetails != null) {
+            cachedOrgDetails.setAncestorOrganizationIds(ancestorOrganizationIds);
+            return cachedOrgDetails.getAncestorPath();
+        }
+        return addAncestorOrganizationIdsToCache(organizationId, ancestorOrganizationIds, tenantDomain);
+    }
+
+    /**
+     * Resolve the root organization of the given organization, which is the parent level organization of the sub
+     * organization start level.
+     *
+     * @param organizationId The organization ID.
+     * @return The root organization ID, or null if the organization is above the root organization level.
+     * @throws OrganizationManagementServerException The server exception thrown when resolving the ancestors.
+     */
+    private String getRootOrganizationId(String organizationId) throws OrganizationManagementServerException {
+
+        if (StringUtils.isBlank(organizationId)) {
+            return null;
+        }
+        return getRootOrganizationId(getAncestorOrganizationIds(organizationId));
+    }
+
+    private String getRootOrganizationId(List<String> ancestorOrganizationIds) {
+
+        int rootOrganizationDepth = Utils.getSubOrgStartLevel() - 1;
+        if (rootOrganizationDepth < 0 || ancestorOrganizationIds == null ||
+                ancestorOrganizationIds.size() <= rootOrganizationDepth) {
+            return null;
+        }
+        // Ancestor organization list is in reverse order. Hence the root org index has to be derived.
+        return ancestorOrganizationIds.get(ancestorOrganizationIds.size() - rootOrganizationDepth - 1);
+    }
+
+    private void addToParentOrganizationHierarchyCache(Organization organization)
+            throws OrganizationManagementServerException {
+
+        if (organization.getParent() == null || StringUtils.isBlank(organization.getParent().getId())) {
+            return;
+        }
+        String parentId = organization.getParent().getId();
+        updateOrganizationHierarchyCache(getRootOrganizationId(parentId),
+                organizationHierarchy -> organizationHierarchy.addOrganization(organization.getId(), parentId));
+    }
+
+    /**
+     * Get the child organization listing of the given organization from the cache, loading the listing on a miss.
+     * A cached listing is only served while it was loaded in the current generation of the subtree of the root
+     * organization, hence any change under the root organization invalidates all the listings of the subtree without
+     * enumerating the affected organizations.
+     *
+     * @param organizationId The organization ID.
+     * @param listingType    The listing type, which is the name of the listing load scoped with its depth arguments.
+     * @param loader         Loader of the listing from the database.
+     * @param entryFactory   Factory of the cache entry from the subtree generation and the loaded listing.
+     * @return The cached listing, or null if the organization is not under a root organization or the listing caches
+     * are disabled.
+     * @throws OrganizationManagementServerException The server exception thrown when loading the listing.
+     */
+    private <T> ChildOrganizationListingCacheEntry getChildOrganizationListing(String organizationId,
+            String listingType, CacheLoadCoalescer.Loader<List<T>, OrganizationManagementServerException> loader,
+            BiFunction<Long, List<T>, ChildOrganizationListingCacheEntry> entryFactory)
+            throws OrganizationManagementServerException {
+
+        ChildOrganizationListingCacheByOrgId cache = ChildOrganizationListingCacheByOrgId.getInstance();
+        if (!cache.isEnabled() || !OrganizationSubtreeGenerationCache.getInstance().isEnabled()) {
+            return null;
+        }
+        String rootOrganizationId = getRootOrganizationId(organizationId);
+        if (rootOrganizationId == null) {
+            return null;
+        }
+
+        // The generation is read before the listing is loaded, such that a change made during the load leaves the
+        // loaded listing in an outdated generation.
+        long generation = getSubtreeGeneration(rootOrganizationId);
+        ChildOrganizationListingCacheKey cacheKey = new ChildOrganizationListingCacheKey(organizationId, listingType);
+        ChildOrganizationListingCacheEntry childOrganizationListing =
+                cache.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (childOrganizationListing != null && childOrganizationListing.getGeneration() == generation) {
+            recordCacheHit(getOperationName(listingType), false);
+            return childOrganizationListing;
+        }
+
+        // The loads are shared within a generation only, to not serve a load started before a change to the callers
+        // reading the generation after the change.
+        List<T> listing = loadOnce(listingType, organizationId + ":" + generation, loader);
+        childOrganizationListing = entryFactory.apply(generation, listing);
+        cache.addToCacheOnRead(cacheKey, childOrganizationListing, SUPER_TENANT_DOMAIN_NAME);
+        return childOrganizationListing;
+    }
+
+    private long getSubtreeGeneration(String rootOrganizationId) {
+
+        OrganizationSubtreeGenerationCache cache = OrganizationSubtreeGenerationCache.getInstance();
+        OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(rootOrganizationId);
+        OrganizationSubtreeGenerationCacheEntry subtreeGeneration =
+                cache.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (subtreeGeneration != null) {
+            return subtreeGeneration.getGeneration();
+        }
+        // A random initial generation prevents the listings cached in an evicted generation from becoming valid again.
+        subtreeGeneration = new OrganizationSubtreeGenerationCacheEntry(ThreadLocalRandom.current().nextLong());
+        cache.addToCacheOnRead(cacheKey, subtreeGeneration, SUPER_TENANT_DOMAIN_NAME);
+        return subtreeGeneration.getGeneration();
+    }
+
+    private void updateSubtreeGeneration(String rootOrganizationId) {
+
+        OrganizationSubtreeGenerationCache cache = OrganizationSubtreeGenerationCache.getInstance();
+        if (rootOrganizationId == null || !cache.isEnabled()) {
+            return;
+        }
+        // A new random generation is written instead of incrementing the current one, such that concurrent updates,
+        // including the updates on other nodes, can not write the same generation.
+        OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(rootOrganizationId);
+        cache.addToCache(cacheKey, new OrganizationSubtreeGenerationCacheEntry(ThreadLocalRandom.current().nextLong()),
+                SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    private void updateParentSubtreeGeneration(Organization organization)
+            throws OrganizationManagementServerException {
+
+        if (organization.getParent() == null || StringUtils.isBlank(organization.getParent().getId())) {
+            return;
+        }
+        updateSubtreeGeneration(getRootOrganizationId(organization.getParent().getId()));
+    }
+
+    /**
+     * Apply a write to the cached hierarchy of the given root organization. The write is applied to a copy of the
+     * cached hierarchy which then replaces it, hence the readers holding the cached hierarchy never see a partially
+     * applied write, and the other nodes drop their hierarchies as on any other cache update. The hierarchy is
+     * cleared instead when it is not cached in this node or the write can not be applied to it.
+     *
+     * @param rootOrganizationId The root organization ID.
+     * @param write              The write, which returns false if it can not be applied to the hierarchy.
+     */
+    private void updateOrganizationHierarchyCache(String rootOrganizationId,
+                                                  Predicate<OrganizationHierarchyCacheEntry> write) {
+
+        if (rootOrganizationId == null) {
+            return;
+        }
+        CACHE_LOAD_COALESCER.invalidate(rootOrganizationId);
+        OrganizationHierarchyCacheByRootOrgId cache = OrganizationHierarchyCacheByRootOrgId.getInstance();
+        OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(rootOrganizationId);
+        // The writes are serialized, such that a write does not replace the hierarchy with a copy taken before a
+        // concurrent write. A hierarchy loaded concurrently is not cached, as the write changes the invalidation stamp.
+        synchronized (ORGANIZATION_HIERARCHY_WRITE_LOCK) {
+            OrganizationHierarchyCacheEntry cachedHierarchy =
+                    cache.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+            if (cachedHierarchy != null) {
+                OrganizationHierarchyCacheEntry organizationHierarchy =
+                        new OrganizationHierarchyCacheEntry(cachedHierarchy);
+                if (write.test(organizationHierarchy)) {
+                    cache.addToCache(cacheKey, organizationHierarchy, SUPER_TENANT_DOMAIN_NAME);
+                    return;
+                }
+            }
+            cache.clearCacheEntry(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        }
+    }
+
+    private void clearOrganizationHierarchyCache(String rootOrganizationId) {
+
+        if (rootOrganizationId == null) {
+            return;
+        }
+        CACHE_LOAD_COALESCER.invalidate(rootOrganizationId);
+        OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(rootOrganizationId);
+        OrganizationHierarchyCacheByRootOrgId.getInstance().clearCacheEntry(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    private void clearBasicOrganizationCache(Collection<String> organizationIds) {
+
+        Set<OrganizationIdCacheKey> cacheKeys = new HashSet<>();
+        for (String organizationId : organizationIds) {
+            CACHE_LOAD_COALESCER.invalidate(organizationId);
+            cacheKeys.add(new OrganizationIdCacheKey(organizationId));
+        }
+        BasicOrganizationCacheByOrgId.getInstance().clearAll(cacheKeys, SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    private void clearOrganizationPermissionCacheOfTenant(String tenantDomain) {
+
+        if (tenantDomain == null) {
+            return;
+        }
+        // The permissions are cached in the tenant of the organization, hence the tenant holds only the permissions
+        // of that organization.
+        OrganizationPermissionCacheByUserId.getInstance().clear(tenantDomain);
+    }
+
     private void clearTenantDomainCache(String organizationId) {
 
+        CACHE_LOAD_COALESCER.invalidate(organizationId);
         OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(organizationId);
         TenantDomainCacheByOrgId.getInstance().clearCacheEntry(cacheKey, SUPER_TENANT_DOMAIN_NAME);
     }
 
     private void clearOrganizationCache(String organizationId, String tenantDomain) {
 
+        CACHE_LOAD_COALESCER.invalidate(organizationId);
         if (tenantDomain == null) {
             return;
         }
 
         clearOrganizationDetailsCache(organizationId, tenantDomain);
+        clearOrganizationByOrgIdCache(organizationId, tenantDomain);
         clearMinimalOrganizationCache(organizationId, tenantDomain);
         clearOrganizationVersionCache(organizationId, tenantDomain);
     }
 
+    /**
+     * Clear the cached organizations which list the child organizations of an organization, or record whether it has
+     * any, when a child organization is added or removed.
+     *
+     * @param organizationId The organization ID.
+     * @throws OrganizationManagementServerException The server exception thrown when resolving the tenant domain.
+     */
+    private void clearChildDependentOrganizationCache(String organizationId)
+            throws OrganizationManagementServerException {
+
+        if (StringUtils.isBlank(organizationId)) {
+            return;
+        }
+        CACHE_LOAD_COALESCER.invalidate(organizationId);
+        clearBasicOrganizationCache(Collections.singleton(organizationId));
+        String tenantDomain = resolveTenantDomain(organizationId);
+        if (tenantDomain != null) {
+            clearOrganizationByOrgIdCache(organizationId, tenantDomain);
+        }
+    }
+
+    private void clearParentOrganizationChildDependentCache(Organization organization)
+            throws OrganizationManagementServerException {
+
+        if (organization.getParent() != null) {
+            clearChildDependentOrganizationCache(organization.getParent().getId());
+        }
+    }
+
+    private String getParentOrganizationId(String organizationId) throws OrganizationManagementServerException {
+
+        // Ancestor organization list starts with the organization itself, followed by its parent organization.
+        List<String> ancestorOrganizationIds = getAncestorOrganizationIds(organizationId);
+        if (ancestorOrganizationIds == null || ancestorOrganizationIds.size() < 2) {
+            return null;
+        }
+        return ancestorOrganizationIds.get(1);
+    }
+
     private void clearOrganizationDetailsCache(String organizationId, String tenantDomain) {
 
         OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(organizationId);
         OrganizationDetailsCacheByOrgId.getInstance().clearCacheEntry(cacheKey, tenantDomain);
     }
 
+    private void clearOrganizationByOrgIdCache(String organizationId, String tenantDomain) {
+
+        OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(organizationId);
+        OrganizationCacheByOrgId.getInstance().clearCacheEntry(cacheKey, tenantDomain);
+    }
+
     private void clearMinimalOrganizationCache(String organizationId, String tenantDomain) {
 
         OrganizationIdCacheKey cacheKey = new OrganizationIdCacheKey(organizationId);
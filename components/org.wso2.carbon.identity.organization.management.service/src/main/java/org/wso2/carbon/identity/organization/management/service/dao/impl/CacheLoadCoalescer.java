@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.dao.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces concurrent loads of the same cache key, so that only one of the concurrent callers loads the value from
+ * the database while the others wait for and share its result or failure. A waiting caller loads the value by itself
+ * if the shared load does not complete within the given wait time.
+ */
+final class CacheLoadCoalescer {
+
+    private static final Log LOG = LogFactory.getLog(CacheLoadCoalescer.class);
+
+    private final Map<LoadKey, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /**
+     * Loader of a value which is coalesced.
+     *
+     * @param <T> Type of the loaded value.
+     * @param <E> Type of the exception thrown when loading the value.
+     */
+    @FunctionalInterface
+    interface Loader<T, E extends Exception> {
+
+        T load() throws E;
+    }
+
+    /**
+     * Load the value of the given key, sharing the load with the concurrent callers loading the same key.
+     *
+     * @param loadName    Name of the load, which scopes the key to the loaded value.
+     * @param key         The key of the loaded value.
+     * @param maxWaitTime Maximum time in milliseconds to wait for a load started by another caller.
+     * @param loader      Loader of the value.
+     * @return The loaded value.
+     * @throws E The exception thrown by the loader.
+     */
+    @SuppressWarnings("unchecked")
+    <T, E extends Exception> T load(String loadName, String key, long maxWaitTime, Loader<T, E> loader) throws E {
+
+        LoadKey loadKey = new LoadKey(loadName, key);
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightLoad = inFlightLoads.putIfAbsent(loadKey, load);
+        if (inFlightLoad == null) {
+            try {
+                T value = loader.load();
+                load.complete(value);
+                return value;
+            } catch (Throwable e) {
+                load.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlightLoads.remove(loadKey, load);
+            }
+        }
+
+        try {
+            return (T) inFlightLoad.get(maxWaitTime, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (E) cause;
+        } catch (TimeoutException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Timed out waiting for the in-flight load of " + loadName + " for key: " + key +
+                        ". Loading the value without waiting.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return loader.load();
+    }
+
+    /**
+     * Detach the in-flight loads of the given key, so that the callers arriving after a modification of the value
+     * do not share a load started before the modification.
+     *
+     * @param key The key of the modified value.
+     */
+    void invalidate(String key) {
+
+        if (key == null || inFlightLoads.isEmpty()) {
+            return;
+        }
+        inFlightLoads.keySet().removeIf(loadKey -> key.equals(loadKey.key));
+    }
+
+    /**
+     * Key of an in-flight load.
+     */
+    private static final class LoadKey {
+
+        private final String loadName;
+        private final String key;
+
+        private LoadKey(String loadName, String key) {
+
+            this.loadName = loadName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LoadKey)) {
+                return false;
+            }
+            LoadKey that = (LoadKey) o;
+            return loadName.equals(that.loadName) && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return 31 * loadName.hashCode() + Objects.hashCode(key);
+        }
+    }
+}
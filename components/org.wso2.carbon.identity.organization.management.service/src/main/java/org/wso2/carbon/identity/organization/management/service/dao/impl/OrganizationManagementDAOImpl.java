@@ -37,6 +37,7 @@ import org.wso2.carbon.identity.organization.management.service.model.FilterQuer
 import org.wso2.carbon.identity.organization.management.service.model.MinimalOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
 import org.wso2.carbon.identity.organization.management.service.model.OrganizationAttribute;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationHierarchyDO;
 import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
 import org.wso2.carbon.identity.organization.management.service.model.PatchOperation;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
@@ -48,12 +49,20 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.time.ZoneOffset.UTC;
@@ -65,6 +74,7 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.EQ;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.EW;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_ADDING_ORGANIZATION;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_ADDING_ORGANIZATIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_ADDING_ORGANIZATION_ATTRIBUTE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_ADDING_ORGANIZATION_HIERARCHY_DATA;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_ACTIVE_CHILD_ORGANIZATIONS;
@@ -75,17 +85,25 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_ORGANIZATION_BY_NAME;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_ORGANIZATION_EXIST_BY_ID;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_ORGANIZATION_EXIST_BY_NAME;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_ORGANIZATION_HIERARCHY;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_ORGANIZATION_NAMES;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_SIBLING_ORGANIZATION_BY_NAME;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_COUNTING_DESCENDANT_ORGANIZATIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_DELETING_ORGANIZATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_DELETING_ORGANIZATION_ATTRIBUTES;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_MOVING_ORGANIZATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_PATCHING_ORGANIZATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_PATCHING_ORGANIZATION_ADD_ATTRIBUTE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_PATCHING_ORGANIZATION_DELETE_ATTRIBUTE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_PATCHING_ORGANIZATION_UPDATE_ATTRIBUTE;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_REPAIRING_ORGANIZATION_HIERARCHY;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RESOLVING_ORGANIZATION_DOMAIN_FROM_TENANT_DOMAIN;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RESOLVING_ORGANIZATION_ID_FROM_TENANT_ID;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RESOLVING_TENANT_DOMAINS_OF_ORGANIZATIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RESOLVING_TENANT_DOMAIN_FROM_ORGANIZATION_DOMAIN;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_CHILD_ORGANIZATIONS;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_LOWEST_COMMON_ANCESTOR;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_MINIMAL_ORGANIZATIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_MINIMAL_ORGANIZATION_DETAILS_BY_ORGANIZATION_ID;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_ORGANIZATIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_ORGANIZATIONS_BY_NAME;
@@ -93,6 +111,7 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_BY_ID;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_DEPTH;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_DETAILS_BY_ORGANIZATION_IDS;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_HIERARCHY;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_ID_BY_NAME;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_NAME_BY_ID;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_PERMISSIONS;
@@ -104,15 +123,19 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_TENANT_UUID;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_UPDATING_ORGANIZATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_WHILE_RETRIEVING_ANCESTORS;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_WHILE_RETRIEVING_ANCESTORS_OF_ORGANIZATIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_GET_ANCESTOR_IN_DEPTH;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.FILTER_PLACEHOLDER_PREFIX;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.GE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.GT;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.LE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.LT;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.MAX_IN_CLAUSE_PARAMETERS;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.MAX_IN_CLAUSE_PARAMETERS_MSSQL;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ORGANIZATION_ATTRIBUTES_FIELD;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ORGANIZATION_ATTRIBUTES_FIELD_PREFIX;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ORGANIZATION_CREATED_TIME_FIELD;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ORGANIZATION_NAME_PLACEHOLDER_PREFIX;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.OrganizationStatus.ACTIVE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.OrganizationStatus.DISABLED;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PAGINATION_AFTER;
@@ -152,11 +175,18 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.CHECK_ORGANIZATION_EXIST_BY_ID;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.CHECK_ORGANIZATION_EXIST_BY_NAME;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.CHECK_SIBLING_ORGANIZATIONS_EXIST_WITH_NAME;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.CHILD_ORGANIZATION_DEPTH_WITHIN_MAX_DEPTH;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.COUNT_DESCENDANT_ORGANIZATIONS;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.COUNT_DESCENDANT_ORGANIZATIONS_OF_CHILD_ORGANIZATIONS;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.DELETE_ANCESTOR_HIERARCHY_OF_SUBTREE;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.DELETE_ORGANIZATIONS_BY_IDS;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.DELETE_ORGANIZATION_ATTRIBUTE;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.DELETE_ORGANIZATION_ATTRIBUTES_BY_ID;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.DELETE_ORGANIZATION_BY_ID;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.DELETE_ORGANIZATION_HIERARCHY_ENTRY;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ALL_UM_ORG_ATTRIBUTES_WITH_ORG_VERSION;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ALL_UM_ORG_ATTRIBUTES_WITH_ORG_VERSION_ORACLE;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ANCESTORS_OF_GIVEN_ORGS_INCLUDING_THEMSELVES;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ANCESTORS_OF_GIVEN_ORG_INCLUDING_ITSELF;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ANCESTOR_ORGANIZATION_ID_WITH_DEPTH;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ANCESTOR_ORG_DETAILS;
@@ -164,10 +194,17 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_CHILD_ORGANIZATIONS_INCLUDING_ORG_HANDLE;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_CHILD_ORGANIZATION_HIERARCHY;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_CHILD_ORGANIZATION_IDS;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_CHILD_ORGANIZATION_NAMES_IN_GIVEN_NAMES;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_COMMON_ANCESTORS_OF_ORGANIZATIONS;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_DESCENDANT_ORGANIZATION_PARENT_IDS;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_HIERARCHY_ENTRIES_OF_GIVEN_ORGS;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_IMMEDIATE_OR_ALL_CHILD_ORG_IDS;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_MINIMAL_ORG_DETAILS_BY_ORG_ID;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_MINIMAL_ORG_DETAILS_BY_ORG_ID_MSSQL;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_MINIMAL_ORG_DETAILS_BY_ORG_ID_ORACLE;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_MINIMAL_ORG_DETAILS_IN_KEY_ORDER;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_MINIMAL_ORG_DETAILS_IN_KEY_ORDER_MSSQL;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_MINIMAL_ORG_DETAILS_IN_KEY_ORDER_ORACLE;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATIONS_BY_NAME;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATIONS_INCLUDING_ORG_HANDLE_AND_VERSION;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATIONS_META_ATTRIBUTES;
@@ -187,6 +224,9 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATION_DEPTH_IN_HIERARCHY_MSSQL;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATION_DEPTH_IN_HIERARCHY_ORACLE;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATION_NAME_BY_ID;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATION_PARENT_IDS_IN_KEY_ORDER;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATION_PARENT_IDS_IN_KEY_ORDER_MSSQL;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATION_PARENT_IDS_IN_KEY_ORDER_ORACLE;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATION_PERMISSIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATION_STATUS;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORGANIZATION_TYPE;
@@ -196,18 +236,28 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORG_WITH_VERSION_AND_USER_ASSOCIATIONS_INCLUDING_ORG_HANDLE;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORG_WITH_VERSION_AND_USER_ROLE_ASSOCIATIONS_INCLUDING_ORG_HANDLE;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_ORG_WITH_VERSION_BY_ID;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_PARENT_IDS_OF_GIVEN_ORGS;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_PARENT_ORGANIZATION_STATUS;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_RELATIVE_ORG_DEPTH_BETWEEN_ORGANIZATIONS_IN_SAME_BRANCH;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_SIBLING_ORGANIZATION_NAMES_IN_GIVEN_NAMES;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_SUBTREE_ORGANIZATION_DEPTHS;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_TENANT_DOMAINS_OF_GIVEN_ORGS;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_TENANT_DOMAINS_OF_SUBTREE_ORGANIZATIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_TENANT_DOMAIN_FROM_ORGANIZATION_UUID;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_TENANT_UUIDS_OF_SUBTREE_ORGANIZATIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.GET_TENANT_UUID_FROM_ORGANIZATION_UUID;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.INNER_JOIN_UM_ORG_ATTRIBUTE;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.INSERT_ANCESTOR_HIERARCHY_OF_SUBTREE;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.INSERT_ATTRIBUTE;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.INSERT_IMMEDIATE_ORGANIZATION_HIERARCHY;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.INSERT_IMMEDIATE_ORGANIZATION_HIERARCHY_ORACLE;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.INSERT_ORGANIZATION_HIERARCHY;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.INSERT_ORG_WITH_VERSION;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.INSERT_OTHER_ORGANIZATION_HIERARCHY;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.INSERT_ROOT_ORGANIZATION_HIERARCHY;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.INSERT_ROOT_ORG_WITH_VERSION;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.MINIMAL_ORG_ID_AFTER_GIVEN_ID;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.ORGANIZATION_ID_AFTER_GIVEN_ID;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.PATCH_ORGANIZATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.PATCH_ORGANIZATION_CONCLUDE;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.PERMISSION_LIST_PLACEHOLDER;
@@ -233,6 +283,7 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_LIMIT;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.UPDATE_ORGANIZATION_ATTRIBUTE_VALUE;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.UPDATE_ORGANIZATION_LAST_MODIFIED;
+import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.UPDATE_ORGANIZATION_PARENT;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.UPDATE_ORG_WITH_VERSION;
 import static org.wso2.carbon.identity.organization.management.service.constant.SQLConstants.USER_NAME_LIST_PLACEHOLDER;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.getAllowedPermissions;
@@ -287,6 +338,88 @@ public class OrganizationManagementDAOImpl implements OrganizationManagementDAO
         }
     }
 
+    @Override
+    public void addOrganizations(List<Organization> organizations) throws OrganizationManagementServerException {
+
+        if (CollectionUtils.isEmpty(organizations)) {
+            return;
+        }
+        // Ancestors of the organizations which are created under an existing organization are taken from the
+        // existing hierarchy, while the rest are derived from the organizations of the batch.
+        Map<String, List<String>> ancestorOrganizationIds = new HashMap<>();
+        organizations.forEach(organization -> ancestorOrganizationIds.put(organization.getId(), null));
+        List<String> existingParentIds = organizations.stream()
+                .map(organization -> organization.getParent().getId())
+                .filter(parentId -> !ancestorOrganizationIds.containsKey(parentId))
+                .distinct()
+                .collect(Collectors.toList());
+        ancestorOrganizationIds.putAll(getAncestorOrganizationIds(existingParentIds));
+        for (Organization organization : organizations) {
+            List<String> parentAncestorIds = ancestorOrganizationIds.get(organization.getParent().getId());
+            List<String> organizationAncestorIds = new ArrayList<>();
+            organizationAncestorIds.add(organization.getId());
+            if (parentAncestorIds != null) {
+                organizationAncestorIds.addAll(parentAncestorIds);
+            }
+            ancestorOrganizationIds.put(organization.getId(), organizationAncestorIds);
+        }
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            namedJdbcTemplate.withTransaction(template -> {
+                template.executeBatchInsert(INSERT_ORG_WITH_VERSION, namedPreparedStatement -> {
+                    for (Organization organization : organizations) {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID, organization.getId());
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_NAME, organization.getName());
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_DESCRIPTION,
+                                organization.getDescription());
+                        namedPreparedStatement.setTimeStamp(DB_SCHEMA_COLUMN_NAME_CREATED_TIME,
+                                Timestamp.from(organization.getCreated()), CALENDAR);
+                        namedPreparedStatement.setTimeStamp(DB_SCHEMA_COLUMN_NAME_LAST_MODIFIED,
+                                Timestamp.from(organization.getLastModified()), CALENDAR);
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_STATUS, organization.getStatus());
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID,
+                                organization.getParent().getId());
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_TYPE, organization.getType());
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_VERSION, organization.getVersion());
+                        namedPreparedStatement.addBatch();
+                    }
+                }, null);
+                if (organizations.stream().anyMatch(organization ->
+                        CollectionUtils.isNotEmpty(organization.getAttributes()))) {
+                    template.executeBatchInsert(INSERT_ATTRIBUTE, namedPreparedStatement -> {
+                        for (Organization organization : organizations) {
+                            if (CollectionUtils.isEmpty(organization.getAttributes())) {
+                                continue;
+                            }
+                            for (OrganizationAttribute attribute : organization.getAttributes()) {
+                                namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID, organization.getId());
+                                namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_KEY, attribute.getKey());
+                                namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_VALUE, attribute.getValue());
+                                namedPreparedStatement.addBatch();
+                            }
+                        }
+                    }, null);
+                }
+                template.executeBatchInsert(INSERT_ORGANIZATION_HIERARCHY, namedPreparedStatement -> {
+                    for (Organization organization : organizations) {
+                        List<String> organizationAncestorIds = ancestorOrganizationIds.get(organization.getId());
+                        for (int depth = 0; depth < organizationAncestorIds.size(); depth++) {
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID,
+                                    organizationAncestorIds.get(depth));
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID, organization.getId());
+                            namedPreparedStatement.setInt(DB_SCHEMA_COLUMN_NAME_DEPTH, depth);
+                            namedPreparedStatement.addBatch();
+                        }
+                    }
+                }, null);
+                return null;
+            });
+        } catch (TransactionException e) {
+            throw handleServerException(ERROR_CODE_ERROR_ADDING_ORGANIZATIONS, e);
+        }
+    }
+
     private void addOrganizationAttributes(Organization organization) throws OrganizationManagementServerException {
 
         String organizationId = organization.getId();
@@ -514,6 +647,43 @@ public class OrganizationManagementDAOImpl implements OrganizationManagementDAO
         }
     }
 
+    @Override
+    public Set<String> getExistingChildOrganizationNames(String parentOrgId, Collection<String> organizationNames,
+                                                         boolean recursive)
+            throws OrganizationManagementServerException {
+
+        Set<String> existingOrganizationNames = new HashSet<>();
+        if (CollectionUtils.isEmpty(organizationNames)) {
+            return existingOrganizationNames;
+        }
+        List<String> distinctOrganizationNames = new ArrayList<>(new LinkedHashSet<>(organizationNames));
+        int batchSize = isMSSqlDB() ? MAX_IN_CLAUSE_PARAMETERS_MSSQL : MAX_IN_CLAUSE_PARAMETERS;
+        String query = recursive ? GET_CHILD_ORGANIZATION_NAMES_IN_GIVEN_NAMES :
+                GET_SIBLING_ORGANIZATION_NAMES_IN_GIVEN_NAMES;
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            for (int from = 0; from < distinctOrganizationNames.size(); from += batchSize) {
+                List<String> batch = distinctOrganizationNames.subList(from,
+                        Math.min(from + batchSize, distinctOrganizationNames.size()));
+                String placeholders = IntStream.range(0, batch.size())
+                        .mapToObj(index -> ":" + ORGANIZATION_NAME_PLACEHOLDER_PREFIX + index + ";")
+                        .collect(Collectors.joining(", "));
+                existingOrganizationNames.addAll(namedJdbcTemplate.executeQuery(String.format(query, placeholders),
+                        (resultSet, rowNumber) -> resultSet.getString(VIEW_NAME_COLUMN),
+                        namedPreparedStatement -> {
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, parentOrgId);
+                            for (int index = 0; index < batch.size(); index++) {
+                                namedPreparedStatement.setString(ORGANIZATION_NAME_PLACEHOLDER_PREFIX + index,
+                                        batch.get(index));
+                            }
+                        }));
+            }
+            return existingOrganizationNames;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_CHECKING_ORGANIZATION_NAMES, e, parentOrgId);
+        }
+    }
+
     @Override
     public boolean isOrganizationExistWithName(String organizationName) throws OrganizationManagementServerException {
 
@@ -552,6 +722,32 @@ public class OrganizationManagementDAOImpl implements OrganizationManagementDAO
         }
     }
 
+    @Override
+    public void moveOrganization(String organizationId, String newParentId, Instant lastModifiedInstant)
+            throws OrganizationManagementServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            namedJdbcTemplate.withTransaction(template -> {
+                template.executeUpdate(DELETE_ANCESTOR_HIERARCHY_OF_SUBTREE, namedPreparedStatement ->
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID, organizationId));
+                template.executeUpdate(INSERT_ANCESTOR_HIERARCHY_OF_SUBTREE, namedPreparedStatement -> {
+                    namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, newParentId);
+                    namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID, organizationId);
+                });
+                template.executeUpdate(UPDATE_ORGANIZATION_PARENT, namedPreparedStatement -> {
+                    namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, newParentId);
+                    namedPreparedStatement.setTimeStamp(DB_SCHEMA_COLUMN_NAME_LAST_MODIFIED,
+                            Timestamp.from(lastModifiedInstant), CALENDAR);
+                    namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID, organizationId);
+                });
+                return null;
+            });
+        } catch (TransactionException e) {
+            throw handleServerException(ERROR_CODE_ERROR_MOVING_ORGANIZATION, e, organizationId);
+        }
+    }
+
     @Override
     public void updateOrganization(String organizationId, Organization organization) throws
             OrganizationManagementServerException {
@@ -624,8 +820,22 @@ public class OrganizationManagementDAOImpl implements OrganizationManagementDAO
     public List<OrganizationNode> getChildOrganizationGraph(String organizationId, boolean recursive)
             throws OrganizationManagementServerException {
 
+        return getChildOrganizationGraph(organizationId, recursive ? "> 0" : "= 1", null);
+    }
+
+    @Override
+    public List<OrganizationNode> getChildOrganizationGraph(String organizationId, int maxDepth)
+            throws OrganizationManagementServerException {
+
+        return getChildOrganizationGraph(organizationId, CHILD_ORGANIZATION_DEPTH_WITHIN_MAX_DEPTH, maxDepth);
+    }
+
+    private List<OrganizationNode> getChildOrganizationGraph(String organizationId, String depthFilter,
+                                                             Integer maxDepth)
+            throws OrganizationManagementServerException {
+
         NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
-        String sqlStmt = String.format(GET_CHILD_ORGANIZATION_HIERARCHY, recursive ? "> 0" : "= 1");
+        String sqlStmt = String.format(GET_CHILD_ORGANIZATION_HIERARCHY, depthFilter);
         List<OrganizationNode> rawResults;
         try {
             rawResults = namedJdbcTemplate.executeQuery(sqlStmt,
@@ -637,8 +847,12 @@ public class OrganizationManagementDAOImpl implements OrganizationManagementDAO
                         String handle = resultSet.getString(5);
                         return new OrganizationNode(id, name, created, handle, parentId);
                     },
-                    namedPreparedStatement ->
-                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, organizationId));
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, organizationId);
+                        if (maxDepth != null) {
+                            namedPreparedStatement.setInt(DB_SCHEMA_COLUMN_NAME_DEPTH, maxDepth);
+                        }
+                    });
 
         } catch (DataAccessException e) {
             throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_CHILD_ORGANIZATIONS, e, organizationId);
@@ -687,13 +901,30 @@ public class OrganizationManagementDAOImpl implements OrganizationManagementDAO
     public List<String> getChildOrganizationIds(String organizationId, boolean recursive)
             throws OrganizationManagementServerException {
 
+        return getChildOrganizationIds(organizationId, recursive ? "> 0" : "= 1", null);
+    }
+
+    @Override
+    public List<String> getChildOrganizationIds(String organizationId, int maxDepth)
+            throws OrganizationManagementServerException {
+
+        return getChildOrganizationIds(organizationId, CHILD_ORGANIZATION_DEPTH_WITHIN_MAX_DEPTH, maxDepth);
+    }
+
+    private List<String> getChildOrganizationIds(String organizationId, String depthFilter, Integer maxDepth)
+            throws OrganizationManagementServerException {
+
         NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
-        String sqlStmt = String.format(GET_IMMEDIATE_OR_ALL_CHILD_ORG_IDS, recursive ? "> 0" : "= 1");
+        String sqlStmt = String.format(GET_IMMEDIATE_OR_ALL_CHILD_ORG_IDS, depthFilter);
         try {
             return namedJdbcTemplate.executeQuery(sqlStmt,
                     (resultSet, rowNumber) -> resultSet.getString(1),
-                    namedPreparedStatement ->
-                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, organizationId));
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, organizationId);
+                        if (maxDepth != null) {
+                            namedPreparedStatement.setInt(DB_SCHEMA_COLUMN_NAME_DEPTH, maxDepth);
+                        }
+                    });
         } catch (DataAccessException e) {
             throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_CHILD_ORGANIZATIONS, e, organizationId);
         }
@@ -713,6 +944,63 @@ public class OrganizationManagementDAOImpl implements OrganizationManagementDAO
         }
     }
 
+    @Override
+    public int countDescendants(String organizationId, int maxDepth) throws OrganizationManagementServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            List<Integer> descendantCounts = namedJdbcTemplate.executeQuery(COUNT_DESCENDANT_ORGANIZATIONS,
+                    (resultSet, rowNumber) -> resultSet.getInt(1), namedPreparedStatement -> {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, organizationId);
+                        namedPreparedStatement.setInt(DB_SCHEMA_COLUMN_NAME_DEPTH, maxDepth);
+                    });
+            return descendantCounts.get(0);
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_COUNTING_DESCENDANT_ORGANIZATIONS, e, organizationId);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> countDescendantsOfChildOrganizations(String organizationId, int maxDepth)
+            throws OrganizationManagementServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        Map<String, Integer> descendantCounts = new HashMap<>();
+        try {
+            namedJdbcTemplate.executeQuery(COUNT_DESCENDANT_ORGANIZATIONS_OF_CHILD_ORGANIZATIONS,
+                    (resultSet, rowNumber) -> {
+                        descendantCounts.put(resultSet.getString(1), resultSet.getInt(2));
+                        return null;
+                    }, namedPreparedStatement -> {
+                        namedPreparedStatement.setInt(DB_SCHEMA_COLUMN_NAME_DEPTH, maxDepth);
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, organizationId);
+                    });
+            return descendantCounts;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_COUNTING_DESCENDANT_ORGANIZATIONS, e, organizationId);
+        }
+    }
+
+    @Override
+    public Map<String, String> getDescendantOrganizationParentIds(String organizationId)
+            throws OrganizationManagementServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        Map<String, String> descendantOrganizationParentIds = new LinkedHashMap<>();
+        try {
+            namedJdbcTemplate.executeQuery(GET_DESCENDANT_ORGANIZATION_PARENT_IDS,
+                    (resultSet, rowNumber) -> {
+                        descendantOrganizationParentIds.put(resultSet.getString(1), resultSet.getString(2));
+                        return null;
+                    },
+                    namedPreparedStatement ->
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, organizationId));
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_HIERARCHY, e, organizationId);
+        }
+        return descendantOrganizationParentIds;
+    }
+
     @Override
     public boolean hasActiveChildOrganizations(String organizationId) throws OrganizationManagementServerException {
 
@@ -1352,6 +1640,308 @@ public class OrganizationManagementDAOImpl implements OrganizationManagementDAO
         }
     }
 
+    @Override
+    public Map<String, String> getTenantDomainsOfSubtreeOrganizations(String organizationId)
+            throws OrganizationManagementServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        Map<String, String> tenantDomains = new HashMap<>();
+        try {
+            namedJdbcTemplate.executeQuery(GET_TENANT_DOMAINS_OF_SUBTREE_ORGANIZATIONS,
+                    (resultSet, rowNumber) -> {
+                        tenantDomains.put(resultSet.getString(VIEW_ID_COLUMN),
+                                resultSet.getString(VIEW_TENANT_DOMAIN_COLUMN));
+                        return null;
+                    },
+                    namedPreparedStatement -> namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID,
+                            organizationId));
+            return tenantDomains;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_HIERARCHY, e, organizationId);
+        }
+    }
+
+    @Override
+    public Map<String, String> getTenantUUIDsOfSubtreeOrganizations(String organizationId)
+            throws OrganizationManagementServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        Map<String, String> tenantUUIDs = new HashMap<>();
+        try {
+            namedJdbcTemplate.executeQuery(GET_TENANT_UUIDS_OF_SUBTREE_ORGANIZATIONS,
+                    (resultSet, rowNumber) -> {
+                        tenantUUIDs.put(resultSet.getString(VIEW_ID_COLUMN),
+                                resultSet.getString(VIEW_TENANT_UUID_COLUMN));
+                        return null;
+                    },
+                    namedPreparedStatement -> namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID,
+                            organizationId));
+            return tenantUUIDs;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_HIERARCHY, e, organizationId);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> getSubtreeOrganizationDepths(String organizationId)
+            throws OrganizationManagementServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        Map<String, Integer> subtreeOrganizationDepths = new LinkedHashMap<>();
+        try {
+            namedJdbcTemplate.executeQuery(GET_SUBTREE_ORGANIZATION_DEPTHS,
+                    (resultSet, rowNumber) -> {
+                        subtreeOrganizationDepths.put(resultSet.getString(VIEW_ID_COLUMN),
+                                resultSet.getInt(VIEW_DEPTH_COLUMN));
+                        return null;
+                    },
+                    namedPreparedStatement -> namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID,
+                            organizationId));
+            return subtreeOrganizationDepths;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_HIERARCHY, e, organizationId);
+        }
+    }
+
+    @Override
+    public void deleteOrganizationSubtree(String organizationId, Map<String, Integer> subtreeOrganizationDepths)
+            throws OrganizationManagementServerException {
+
+        Map<Integer, List<String>> organizationIdsByDepth = new TreeMap<>(Comparator.reverseOrder());
+        subtreeOrganizationDepths.forEach((subtreeOrganizationId, depth) ->
+                organizationIdsByDepth.computeIfAbsent(depth, k -> new ArrayList<>()).add(subtreeOrganizationId));
+        int batchSize = isMSSqlDB() ? MAX_IN_CLAUSE_PARAMETERS_MSSQL : MAX_IN_CLAUSE_PARAMETERS;
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            namedJdbcTemplate.withTransaction(template -> {
+                // Delete the deepest level first, so that each statement only removes leaf organizations.
+                for (List<String> levelOrganizationIds : organizationIdsByDepth.values()) {
+                    for (int from = 0; from < levelOrganizationIds.size(); from += batchSize) {
+                        List<String> batch = levelOrganizationIds.subList(from,
+                                Math.min(from + batchSize, levelOrganizationIds.size()));
+                        String placeholders = batch.stream().map(id -> "?").collect(Collectors.joining(", "));
+                        template.executeUpdate(String.format(DELETE_ORGANIZATIONS_BY_IDS, placeholders),
+                                namedPreparedStatement -> {
+                                    int index = 1;
+                                    for (String batchOrganizationId : batch) {
+                                        namedPreparedStatement.setString(index++, batchOrganizationId);
+                                    }
+                                });
+                    }
+                }
+                return null;
+            });
+        } catch (TransactionException e) {
+            throw handleServerException(ERROR_CODE_ERROR_DELETING_ORGANIZATION, e, organizationId);
+        }
+    }
+
+    @Override
+    public Map<String, String> resolveTenantDomains(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        Map<String, String> tenantDomains = new HashMap<>();
+        if (CollectionUtils.isEmpty(organizationIds)) {
+            return tenantDomains;
+        }
+        List<String> distinctOrganizationIds = new ArrayList<>(new LinkedHashSet<>(organizationIds));
+        int batchSize = isMSSqlDB() ? MAX_IN_CLAUSE_PARAMETERS_MSSQL : MAX_IN_CLAUSE_PARAMETERS;
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            for (int from = 0; from < distinctOrganizationIds.size(); from += batchSize) {
+                List<String> batch = distinctOrganizationIds.subList(from,
+                        Math.min(from + batchSize, distinctOrganizationIds.size()));
+                String placeholders = batch.stream().map(id -> "?").collect(Collectors.joining(", "));
+                namedJdbcTemplate.executeQuery(String.format(GET_TENANT_DOMAINS_OF_GIVEN_ORGS, placeholders),
+                        (resultSet, rowNumber) -> {
+                            tenantDomains.put(resultSet.getString(1), resultSet.getString(2));
+                            return null;
+                        },
+                        namedPreparedStatement -> {
+                            int index = 1;
+                            for (String organizationId : batch) {
+                                namedPreparedStatement.setString(index++, organizationId);
+                            }
+                        });
+            }
+            return tenantDomains;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_RESOLVING_TENANT_DOMAINS_OF_ORGANIZATIONS, e);
+        }
+    }
+
+    @Override
+    public Map<String, List<String>> getAncestorOrganizationIds(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        Map<String, List<String>> ancestorOrganizationIds = new HashMap<>();
+        if (CollectionUtils.isEmpty(organizationIds)) {
+            return ancestorOrganizationIds;
+        }
+        List<String> distinctOrganizationIds = new ArrayList<>(new LinkedHashSet<>(organizationIds));
+        int batchSize = isMSSqlDB() ? MAX_IN_CLAUSE_PARAMETERS_MSSQL : MAX_IN_CLAUSE_PARAMETERS;
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            for (int from = 0; from < distinctOrganizationIds.size(); from += batchSize) {
+                List<String> batch = distinctOrganizationIds.subList(from,
+                        Math.min(from + batchSize, distinctOrganizationIds.size()));
+                String placeholders = batch.stream().map(id -> "?").collect(Collectors.joining(", "));
+                namedJdbcTemplate.executeQuery(String.format(GET_ANCESTORS_OF_GIVEN_ORGS_INCLUDING_THEMSELVES,
+                        placeholders), (resultSet, rowNumber) -> {
+                            ancestorOrganizationIds.computeIfAbsent(resultSet.getString(VIEW_ID_COLUMN),
+                                    k -> new ArrayList<>()).add(resultSet.getString(VIEW_PARENT_ID_COLUMN));
+                            return null;
+                        },
+                        namedPreparedStatement -> {
+                            int index = 1;
+                            for (String organizationId : batch) {
+                                namedPreparedStatement.setString(index++, organizationId);
+                            }
+                        });
+            }
+            return ancestorOrganizationIds;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_WHILE_RETRIEVING_ANCESTORS_OF_ORGANIZATIONS, e);
+        }
+    }
+
+    @Override
+    public Map<String, String> getOrganizationParentIds(String afterOrganizationId, int limit)
+            throws OrganizationManagementServerException {
+
+        String sqlStmt = GET_ORGANIZATION_PARENT_IDS_IN_KEY_ORDER;
+        if (isOracleDB()) {
+            sqlStmt = GET_ORGANIZATION_PARENT_IDS_IN_KEY_ORDER_ORACLE;
+        } else if (isMSSqlDB()) {
+            sqlStmt = GET_ORGANIZATION_PARENT_IDS_IN_KEY_ORDER_MSSQL;
+        }
+        sqlStmt = String.format(sqlStmt, afterOrganizationId == null ? StringUtils.EMPTY :
+                ORGANIZATION_ID_AFTER_GIVEN_ID);
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        Map<String, String> organizationParentIds = new LinkedHashMap<>();
+        try {
+            namedJdbcTemplate.executeQuery(sqlStmt, (resultSet, rowNumber) -> {
+                organizationParentIds.put(resultSet.getString(VIEW_ID_COLUMN),
+                        resultSet.getString(VIEW_PARENT_ID_COLUMN));
+                return null;
+            }, namedPreparedStatement -> {
+                if (afterOrganizationId != null) {
+                    namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID, afterOrganizationId);
+                }
+                namedPreparedStatement.setInt(DB_SCHEMA_LIMIT, limit);
+            });
+            return organizationParentIds;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_CHECKING_ORGANIZATION_HIERARCHY, e);
+        }
+    }
+
+    @Override
+    public Map<String, String> getOrganizationParentIds(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        Map<String, String> organizationParentIds = new HashMap<>();
+        if (CollectionUtils.isEmpty(organizationIds)) {
+            return organizationParentIds;
+        }
+        List<String> distinctOrganizationIds = new ArrayList<>(new LinkedHashSet<>(organizationIds));
+        int batchSize = isMSSqlDB() ? MAX_IN_CLAUSE_PARAMETERS_MSSQL : MAX_IN_CLAUSE_PARAMETERS;
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            for (int from = 0; from < distinctOrganizationIds.size(); from += batchSize) {
+                List<String> batch = distinctOrganizationIds.subList(from,
+                        Math.min(from + batchSize, distinctOrganizationIds.size()));
+                String placeholders = batch.stream().map(id -> "?").collect(Collectors.joining(", "));
+                namedJdbcTemplate.executeQuery(String.format(GET_PARENT_IDS_OF_GIVEN_ORGS, placeholders),
+                        (resultSet, rowNumber) -> {
+                            organizationParentIds.put(resultSet.getString(VIEW_ID_COLUMN),
+                                    resultSet.getString(VIEW_PARENT_ID_COLUMN));
+                            return null;
+                        },
+                        namedPreparedStatement -> {
+                            int index = 1;
+                            for (String organizationId : batch) {
+                                namedPreparedStatement.setString(index++, organizationId);
+                            }
+                        });
+            }
+            return organizationParentIds;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_CHECKING_ORGANIZATION_HIERARCHY, e);
+        }
+    }
+
+    @Override
+    public List<OrganizationHierarchyDO> getOrganizationHierarchyEntries(Collection<String> organizationIds)
+            throws OrganizationManagementServerException {
+
+        List<OrganizationHierarchyDO> hierarchyEntries = new ArrayList<>();
+        if (CollectionUtils.isEmpty(organizationIds)) {
+            return hierarchyEntries;
+        }
+        List<String> distinctOrganizationIds = new ArrayList<>(new LinkedHashSet<>(organizationIds));
+        int batchSize = isMSSqlDB() ? MAX_IN_CLAUSE_PARAMETERS_MSSQL : MAX_IN_CLAUSE_PARAMETERS;
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            for (int from = 0; from < distinctOrganizationIds.size(); from += batchSize) {
+                List<String> batch = distinctOrganizationIds.subList(from,
+                        Math.min(from + batchSize, distinctOrganizationIds.size()));
+                String placeholders = batch.stream().map(id -> "?").collect(Collectors.joining(", "));
+                hierarchyEntries.addAll(namedJdbcTemplate.executeQuery(
+                        String.format(GET_HIERARCHY_ENTRIES_OF_GIVEN_ORGS, placeholders),
+                        (resultSet, rowNumber) -> new OrganizationHierarchyDO(
+                                resultSet.getString(VIEW_PARENT_ID_COLUMN), resultSet.getString(VIEW_ID_COLUMN),
+                                resultSet.getInt(VIEW_DEPTH_COLUMN)),
+                        namedPreparedStatement -> {
+                            int index = 1;
+                            for (String organizationId : batch) {
+                                namedPreparedStatement.setString(index++, organizationId);
+                            }
+                        }));
+            }
+            return hierarchyEntries;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_CHECKING_ORGANIZATION_HIERARCHY, e);
+        }
+    }
+
+    @Override
+    public void repairOrganizationHierarchy(List<OrganizationHierarchyDO> entriesToDelete,
+                                            List<OrganizationHierarchyDO> entriesToAdd)
+            throws OrganizationManagementServerException {
+
+        if (CollectionUtils.isEmpty(entriesToDelete) && CollectionUtils.isEmpty(entriesToAdd)) {
+            return;
+        }
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            namedJdbcTemplate.withTransaction(template -> {
+                if (CollectionUtils.isNotEmpty(entriesToDelete)) {
+                    for (OrganizationHierarchyDO entry : entriesToDelete) {
+                        template.executeUpdate(DELETE_ORGANIZATION_HIERARCHY_ENTRY, namedPreparedStatement -> {
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, entry.getParentId());
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID, entry.getId());
+                        });
+                    }
+                }
+                if (CollectionUtils.isNotEmpty(entriesToAdd)) {
+                    template.executeBatchInsert(INSERT_ORGANIZATION_HIERARCHY, namedPreparedStatement -> {
+                        for (OrganizationHierarchyDO entry : entriesToAdd) {
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, entry.getParentId());
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID, entry.getId());
+                            namedPreparedStatement.setInt(DB_SCHEMA_COLUMN_NAME_DEPTH, entry.getDepth());
+                            namedPreparedStatement.addBatch();
+                        }
+                    }, null);
+                }
+                return null;
+            });
+        } catch (TransactionException e) {
+            throw handleServerException(ERROR_CODE_ERROR_REPAIRING_ORGANIZATION_HIERARCHY, e);
+        }
+    }
+
     @Override
     public List<Organization> getOrganizationsByName(String organizationName)
             throws OrganizationManagementServerException {
@@ -1426,6 +2016,26 @@ public class OrganizationManagementDAOImpl implements OrganizationManagementDAO
         }
     }
 
+    @Override
+    public String getLowestCommonAncestor(String firstOrgId, String secondOrgId)
+            throws OrganizationManagementServerException {
+
+        try {
+            // Common ancestors are ordered from the closest to the furthest ancestor of the first organization.
+            List<String> commonAncestorIds = Utils.getNewTemplate().executeQuery(
+                    GET_COMMON_ANCESTORS_OF_ORGANIZATIONS,
+                    (resultSet, rowNumber) -> resultSet.getString(1),
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID, firstOrgId);
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_PARENT_ID, secondOrgId);
+                    });
+            return commonAncestorIds.isEmpty() ? null : commonAncestorIds.get(0);
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_LOWEST_COMMON_ANCESTOR, e, firstOrgId,
+                    secondOrgId);
+        }
+    }
+
     @Override
     public String getAnAncestorOrganizationIdInGivenDepth(String organizationId, int depth)
             throws OrganizationManagementServerException {
@@ -1611,6 +2221,42 @@ public class OrganizationManagementDAOImpl implements OrganizationManagementDAO
         }
     }
 
+    @Override
+    public List<MinimalOrganization> getMinimalOrganizations(String afterOrganizationId, int limit)
+            throws OrganizationManagementServerException {
+
+        String sqlStmt = GET_MINIMAL_ORG_DETAILS_IN_KEY_ORDER;
+        if (isOracleDB()) {
+            sqlStmt = GET_MINIMAL_ORG_DETAILS_IN_KEY_ORDER_ORACLE;
+        } else if (isMSSqlDB()) {
+            sqlStmt = GET_MINIMAL_ORG_DETAILS_IN_KEY_ORDER_MSSQL;
+        }
+        sqlStmt = String.format(sqlStmt, afterOrganizationId == null ? StringUtils.EMPTY :
+                MINIMAL_ORG_ID_AFTER_GIVEN_ID);
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            return namedJdbcTemplate.executeQuery(sqlStmt,
+                    (resultSet, rowNumber) -> new MinimalOrganization.Builder()
+                            .id(resultSet.getString(VIEW_ID_COLUMN))
+                            .name(resultSet.getString(VIEW_NAME_COLUMN))
+                            .status(resultSet.getString(VIEW_STATUS_COLUMN))
+                            .created(resultSet.getString(VIEW_CREATED_TIME_COLUMN))
+                            .organizationHandle(resultSet.getString(VIEW_TENANT_DOMAIN_COLUMN))
+                            .parentOrganizationId(resultSet.getString(VIEW_PARENT_ID_COLUMN))
+                            .depth(getResolvedDepth(resultSet.getInt(VIEW_DEPTH_COLUMN)))
+                            .build(),
+                    namedPreparedStatement -> {
+                        if (afterOrganizationId != null) {
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ID, afterOrganizationId);
+                        }
+                        namedPreparedStatement.setInt(DB_SCHEMA_LIMIT, limit);
+                    });
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_MINIMAL_ORGANIZATIONS, e);
+        }
+    }
+
     @Override
     public Optional<String> getOrganizationVersion(String organizationId, String tenantDomain)
             throws OrganizationManagementException {
@@ -24,10 +24,12 @@ import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.context.CarbonCoreInitializedEvent;
+import org.wso2.carbon.identity.organization.management.service.OrganizationCacheWarmer;
 import org.wso2.carbon.identity.organization.management.service.OrganizationGroupResidentResolverService;
 import org.wso2.carbon.identity.organization.management.service.OrganizationGroupResidentResolverServiceImpl;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManagementInitialize;
@@ -36,8 +38,14 @@ import org.wso2.carbon.identity.organization.management.service.OrganizationMana
 import org.wso2.carbon.identity.organization.management.service.OrganizationManagerImpl;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverServiceImpl;
+import org.wso2.carbon.identity.organization.management.service.cache.CacheMetricsPublisher;
+import org.wso2.carbon.identity.organization.management.service.cache.CacheMetricsRegistry;
+import org.wso2.carbon.identity.organization.management.service.cache.JmxCacheMetricsPublisher;
+import org.wso2.carbon.identity.organization.management.service.dao.impl.OrganizationManagementDAOImpl;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.listener.OrganizationManagerListener;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementConfigUtil;
+import org.wso2.carbon.identity.organization.management.service.util.Utils;
 import org.wso2.carbon.tenant.mgt.services.TenantMgtService;
 import org.wso2.carbon.user.core.service.RealmService;
 
@@ -49,6 +57,7 @@ import org.wso2.carbon.user.core.service.RealmService;
 public class OrganizationManagementServiceComponent {
 
     private static final Log LOG = LogFactory.getLog(OrganizationManagementServiceComponent.class);
+    private CacheMetricsPublisher jmxCacheMetricsPublisher;
 
     /**
      * Register Organization Manager service in the OSGi context.
@@ -60,6 +69,10 @@ public class OrganizationManagementServiceComponent {
 
         try {
             OrganizationManagementConfigUtil.loadOrgMgtConfigurations();
+            if (Utils.isCacheMetricsJmxEnabled()) {
+                jmxCacheMetricsPublisher = new JmxCacheMetricsPublisher();
+                CacheMetricsRegistry.addPublisher(jmxCacheMetricsPublisher);
+            }
             BundleContext bundleContext = componentContext.getBundleContext();
             OrganizationManager organizationManager = new OrganizationManagerImpl();
             bundleContext.registerService(OrganizationManager.class.getName(), organizationManager, null);
@@ -71,12 +84,50 @@ public class OrganizationManagementServiceComponent {
             bundleContext.registerService(OrganizationManagementInitialize.class.getName(),
                     new OrganizationManagementInitializeImpl(), null);
             OrganizationManagementDataHolder.getInstance().initDataSource();
+            if (Utils.isCacheWarmUpEnabled()) {
+                startCacheWarmUp();
+            }
             LOG.debug("Organization Management component activated successfully.");
         } catch (Exception e) {
             LOG.error("Error while activating Organization Management module.", e);
         }
     }
 
+    /**
+     * Remove the cache metrics MBeans registered by this component.
+     *
+     * @param componentContext OSGi service component context.
+     */
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+
+        if (jmxCacheMetricsPublisher != null) {
+            CacheMetricsRegistry.removePublisher(jmxCacheMetricsPublisher);
+            jmxCacheMetricsPublisher = null;
+        }
+        LOG.debug("Organization Management component deactivated.");
+    }
+
+    /**
+     * Warm up the organization caches in the background, so that the activation is not delayed by the warm-up.
+     */
+    private void startCacheWarmUp() {
+
+        OrganizationCacheWarmer organizationCacheWarmer = new OrganizationCacheWarmer(
+                new OrganizationManagementDAOImpl(), Utils.getCacheWarmUpOrganizationLimit(),
+                Utils.getCacheWarmUpPageSize());
+        Thread cacheWarmUpThread = new Thread(() -> {
+            try {
+                organizationCacheWarmer.warmUp();
+            } catch (OrganizationManagementServerException e) {
+                LOG.error("Error while warming up the organization caches.", e);
+            }
+        }, "OrganizationManagementCacheWarmUp");
+        cacheWarmUpThread.setDaemon(true);
+        cacheWarmUpThread.start();
+        LOG.info("Started warming up the organization caches.");
+    }
+
     /**
      * Set realm service implementation.
      *
@@ -141,6 +192,25 @@ public class OrganizationManagementServiceComponent {
         OrganizationManagementDataHolder.getInstance().setOrganizationManagerListener(null);
     }
 
+    @Reference(
+            name = "identity.org.mgt.cache.metrics.publisher",
+            service = CacheMetricsPublisher.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetCacheMetricsPublisher"
+    )
+    protected void setCacheMetricsPublisher(CacheMetricsPublisher cacheMetricsPublisher) {
+
+        LOG.debug("Setting the cache metrics publisher: " + cacheMetricsPublisher.getClass().getName());
+        CacheMetricsRegistry.addPublisher(cacheMetricsPublisher);
+    }
+
+    protected void unsetCacheMetricsPublisher(CacheMetricsPublisher cacheMetricsPublisher) {
+
+        LOG.debug("Unsetting the cache metrics publisher: " + cacheMetricsPublisher.getClass().getName());
+        CacheMetricsRegistry.removePublisher(cacheMetricsPublisher);
+    }
+
     /**
      * This was added to ensure that the CarbonCoreInitializedEvent is set before the
      * organization management service is activated to avoid null pointer exceptions
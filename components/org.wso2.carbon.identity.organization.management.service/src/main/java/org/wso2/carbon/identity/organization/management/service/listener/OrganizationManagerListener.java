@@ -60,4 +60,16 @@ public interface OrganizationManagerListener {
 
     void postUpdateOrganization(String organizationId, Organization organization) throws
             OrganizationManagementException;
+
+    default void preMoveOrganization(String organizationId, String newParentId)
+            throws OrganizationManagementException {
+
+        // This method is not implemented.
+    }
+
+    default void postMoveOrganization(String organizationId, String newParentId)
+            throws OrganizationManagementException {
+
+        // This method is not implemented.
+    }
 }
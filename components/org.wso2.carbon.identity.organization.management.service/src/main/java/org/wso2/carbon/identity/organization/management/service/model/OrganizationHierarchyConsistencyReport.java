@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents the outcome of checking the organization hierarchy entries against the parent organization
+ * of each organization. Only a limited number of the inconsistent organization IDs are kept.
+ */
+public class OrganizationHierarchyConsistencyReport {
+
+    private static final int MAX_REPORTED_ORGANIZATION_IDS = 100;
+
+    private long checkedOrganizationCount;
+    private long missingEntryCount;
+    private long extraEntryCount;
+    private long wrongDepthEntryCount;
+    private long repairedEntryCount;
+    private final List<String> inconsistentOrganizationIds = new ArrayList<>();
+
+    public long getCheckedOrganizationCount() {
+
+        return checkedOrganizationCount;
+    }
+
+    public void addCheckedOrganizations(long count) {
+
+        checkedOrganizationCount += count;
+    }
+
+    public long getMissingEntryCount() {
+
+        return missingEntryCount;
+    }
+
+    public void addMissingEntries(long count) {
+
+        missingEntryCount += count;
+    }
+
+    public long getExtraEntryCount() {
+
+        return extraEntryCount;
+    }
+
+    public void addExtraEntries(long count) {
+
+        extraEntryCount += count;
+    }
+
+    public long getWrongDepthEntryCount() {
+
+        return wrongDepthEntryCount;
+    }
+
+    public void addWrongDepthEntries(long count) {
+
+        wrongDepthEntryCount += count;
+    }
+
+    public long getRepairedEntryCount() {
+
+        return repairedEntryCount;
+    }
+
+    public void addRepairedEntries(long count) {
+
+        repairedEntryCount += count;
+    }
+
+    public List<String> getInconsistentOrganizationIds() {
+
+        return inconsistentOrganizationIds;
+    }
+
+    public void addInconsistentOrganizationId(String organizationId) {
+
+        if (inconsistentOrganizationIds.size() < MAX_REPORTED_ORGANIZATION_IDS) {
+            inconsistentOrganizationIds.add(organizationId);
+        }
+    }
+
+    public boolean isConsistent() {
+
+        return missingEntryCount == 0 && extraEntryCount == 0 && wrongDepthEntryCount == 0;
+    }
+}
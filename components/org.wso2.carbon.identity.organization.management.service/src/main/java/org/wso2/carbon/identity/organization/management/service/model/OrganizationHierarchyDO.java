@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.model;
+
+/**
+ * This class represents an entry of the organization hierarchy, which links an organization to one of its ancestor
+ * organizations along with the number of levels between them.
+ */
+public class OrganizationHierarchyDO {
+
+    private final String parentId;
+    private final String id;
+    private final int depth;
+
+    public OrganizationHierarchyDO(String parentId, String id, int depth) {
+
+        this.parentId = parentId;
+        this.id = id;
+        this.depth = depth;
+    }
+
+    public String getParentId() {
+
+        return parentId;
+    }
+
+    public String getId() {
+
+        return id;
+    }
+
+    public int getDepth() {
+
+        return depth;
+    }
+}
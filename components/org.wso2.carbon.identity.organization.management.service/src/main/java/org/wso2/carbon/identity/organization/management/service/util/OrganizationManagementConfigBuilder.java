@@ -54,8 +54,13 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.CACHE_NAME;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.CACHE_TIMEOUT;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.IS_DISTRIBUTED_CACHE;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.IS_LOCAL_ONLY_CACHE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.IS_TEMPORARY;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.NEAR_CACHE_CAPACITY;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.NEAR_CACHE_TIMEOUT;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.NEGATIVE_CACHE_TIMEOUT;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ORGANIZATION_MGT_CONFIG_FILE;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.REFRESH_AHEAD_FACTOR;
 
 /**
  * Config builder class for organization management related configs in organization-mgt.xml file.
@@ -275,6 +280,31 @@ public class OrganizationManagementConfigBuilder {
             orgMgtCacheConfig.setTemporary(Boolean.parseBoolean(isTemporaryCache));
         }
 
+        String nearCacheCapacity = cache.getAttributeValue(new QName(NEAR_CACHE_CAPACITY));
+        if (StringUtils.isNotBlank(nearCacheCapacity)) {
+            orgMgtCacheConfig.setNearCacheCapacity(Integer.parseInt(nearCacheCapacity));
+        }
+
+        String nearCacheTimeout = cache.getAttributeValue(new QName(NEAR_CACHE_TIMEOUT));
+        if (StringUtils.isNotBlank(nearCacheTimeout)) {
+            orgMgtCacheConfig.setNearCacheTimeout(Integer.parseInt(nearCacheTimeout));
+        }
+
+        String negativeCacheTimeout = cache.getAttributeValue(new QName(NEGATIVE_CACHE_TIMEOUT));
+        if (StringUtils.isNotBlank(negativeCacheTimeout)) {
+            orgMgtCacheConfig.setNegativeCacheTimeout(Integer.parseInt(negativeCacheTimeout));
+        }
+
+        String refreshAheadFactor = cache.getAttributeValue(new QName(REFRESH_AHEAD_FACTOR));
+        if (StringUtils.isNotBlank(refreshAheadFactor)) {
+            orgMgtCacheConfig.setRefreshAheadFactor(Double.parseDouble(refreshAheadFactor));
+        }
+
+        String isLocalOnlyCache = cache.getAttributeValue(new QName(IS_LOCAL_ONLY_CACHE));
+        if (StringUtils.isNotBlank(isLocalOnlyCache)) {
+            orgMgtCacheConfig.setLocalOnly(Boolean.parseBoolean(isLocalOnlyCache));
+        }
+
         // Add the config to container
         orgMgtCacheConfigurations.put(orgMgtCacheConfigKey, orgMgtCacheConfig);
     }
@@ -58,6 +58,14 @@ import javax.sql.DataSource;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ADAPTIVE_AUTH_ENABLE_CONFIG_FOR_ORG_GOVERNANCE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ADAPTIVE_AUTH_ENABLE_CONFIG_FOR_SHARED_APPS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.B2B_APPLICATION_ROLE_SUPPORT_ENABLED;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.CACHE_LOAD_MAX_WAIT_TIME;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.CACHE_METRICS_JMX_ENABLED;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.CACHE_WARM_UP_ENABLED;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.CACHE_WARM_UP_ORGANIZATION_LIMIT;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.CACHE_WARM_UP_PAGE_SIZE;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.DEFAULT_CACHE_LOAD_MAX_WAIT_TIME;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.DEFAULT_CACHE_WARM_UP_ORGANIZATION_LIMIT;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.DEFAULT_CACHE_WARM_UP_PAGE_SIZE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.DEFAULT_DISCOVERY_DEFAULT_PARAM;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.DEFAULT_SUB_ORG_LEVEL;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ENHANCED_ORG_AUTH_ENABLED_BY_DEFAULT_FOR_NEW_APPS;
@@ -349,6 +357,68 @@ public class Utils {
         return DEFAULT_SUB_ORG_LEVEL;
     }
 
+    /**
+     * Get the maximum time in milliseconds a cache miss waits for a concurrent load of the same value.
+     *
+     * @return Maximum wait time of a coalesced cache load.
+     */
+    public static long getCacheLoadMaxWaitTime() {
+
+        String maxWaitTime = OrganizationManagementConfigUtil.getProperty(CACHE_LOAD_MAX_WAIT_TIME);
+        if (StringUtils.isNotEmpty(maxWaitTime)) {
+            return Long.parseLong(maxWaitTime);
+        }
+        return DEFAULT_CACHE_LOAD_MAX_WAIT_TIME;
+    }
+
+    /**
+     * Is the organization caches warm-up enabled on the server startup.
+     *
+     * @return True if the cache warm-up is enabled.
+     */
+    public static boolean isCacheWarmUpEnabled() {
+
+        return Boolean.parseBoolean(OrganizationManagementConfigUtil.getProperty(CACHE_WARM_UP_ENABLED));
+    }
+
+    /**
+     * Are the organization cache metrics published as MBeans over JMX.
+     *
+     * @return True if the cache metrics are published over JMX.
+     */
+    public static boolean isCacheMetricsJmxEnabled() {
+
+        return Boolean.parseBoolean(OrganizationManagementConfigUtil.getProperty(CACHE_METRICS_JMX_ENABLED));
+    }
+
+    /**
+     * Get the maximum number of organizations loaded into the caches during the cache warm-up.
+     *
+     * @return Organization limit of the cache warm-up.
+     */
+    public static int getCacheWarmUpOrganizationLimit() {
+
+        String organizationLimit = OrganizationManagementConfigUtil.getProperty(CACHE_WARM_UP_ORGANIZATION_LIMIT);
+        if (StringUtils.isNotEmpty(organizationLimit)) {
+            return Integer.parseInt(organizationLimit);
+        }
+        return DEFAULT_CACHE_WARM_UP_ORGANIZATION_LIMIT;
+    }
+
+    /**
+     * Get the number of organizations read from the database at once during the cache warm-up.
+     *
+     * @return Page size of the cache warm-up.
+     */
+    public static int getCacheWarmUpPageSize() {
+
+        String pageSize = OrganizationManagementConfigUtil.getProperty(CACHE_WARM_UP_PAGE_SIZE);
+        if (StringUtils.isNotEmpty(pageSize)) {
+            return Integer.parseInt(pageSize);
+        }
+        return DEFAULT_CACHE_WARM_UP_PAGE_SIZE;
+    }
+
     /**
      * Is B2B application role support enabled.
      *
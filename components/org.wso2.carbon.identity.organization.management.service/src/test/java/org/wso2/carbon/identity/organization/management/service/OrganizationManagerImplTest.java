@@ -33,6 +33,18 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.organization.management.service.cache.BasicOrganizationCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.ChildOrganizationListingCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.MinimalOrganizationCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationDetailsCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationDetailsCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationHierarchyCacheByRootOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationIdCacheByTenantDomain;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationIdCacheKey;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationPermissionCacheByUserId;
+import org.wso2.carbon.identity.organization.management.service.cache.TenantDomainCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.TenantDomainCacheKey;
 import org.wso2.carbon.identity.organization.management.service.dao.OrganizationManagementDAO;
 import org.wso2.carbon.identity.organization.management.service.dao.impl.OrganizationManagementDAOImpl;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
@@ -45,6 +57,8 @@ import org.wso2.carbon.identity.organization.management.service.model.BasicOrgan
 import org.wso2.carbon.identity.organization.management.service.model.MinimalOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
 import org.wso2.carbon.identity.organization.management.service.model.OrganizationAttribute;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationHierarchyConsistencyReport;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
 import org.wso2.carbon.identity.organization.management.service.model.PatchOperation;
 import org.wso2.carbon.identity.organization.management.service.model.TenantTypeOrganization;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
@@ -58,10 +72,13 @@ import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import java.lang.reflect.Constructor;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -71,6 +88,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -175,6 +193,17 @@ public class OrganizationManagerImplTest {
         TestUtils.initiateH2Base();
         TestUtils.mockDataSource();
         Mockito.reset(tenantMgtService);
+        // The database is recreated for each test, hence the cached organization hierarchies, listings, basic
+        // details and permissions and the cached organization resolutions, including the negative ones, are cleared.
+        OrganizationHierarchyCacheByRootOrgId.getInstance().clear(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        BasicOrganizationCacheByOrgId.getInstance().clear(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        ChildOrganizationListingCacheByOrgId.getInstance().clear(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        TenantDomainCacheByOrgId.getInstance().clear(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        OrganizationIdCacheByTenantDomain.getInstance().clear(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        for (String tenantDomain : Arrays.asList(ORG1_HANDLE, ORG2_HANDLE, ORG3_HANDLE)) {
+            OrganizationCacheByOrgId.getInstance().clear(tenantDomain);
+            OrganizationPermissionCacheByUserId.getInstance().clear(tenantDomain);
+        }
 
         // Super -> org1 -> org2
         //       -> org3
@@ -250,6 +279,83 @@ public class OrganizationManagerImplTest {
         assertFalse(addedOrganization.hasChildren());
     }
 
+    @Test
+    public void testAddOrganizations() throws Exception {
+
+        // Super -> org4 -> org4_1
+        String childOrganizationId = UUID.randomUUID().toString();
+        Organization organization4 = getOrganization(ORG4_ID, ORG4_NAME, ORG_DESCRIPTION, SUPER_ORG_ID,
+                STRUCTURAL.toString(), V0);
+        Organization childOrganization = getOrganization(childOrganizationId, NEW_ORG_NAME, ORG_DESCRIPTION,
+                ORG4_ID, STRUCTURAL.toString(), V0);
+        setOrganizationAttributes(childOrganization, ORG_ATTRIBUTE_KEY_COUNTRY, ORG_ATTRIBUTE_VALUE_COUNTRY);
+        TestUtils.mockCarbonContext(SUPER_ORG_ID);
+
+        List<Organization> addedOrganizations =
+                organizationManager.addOrganizations(Arrays.asList(organization4, childOrganization));
+        assertEquals(addedOrganizations.size(), 2);
+        assertEquals(organizationManagementDAO.getAncestorOrganizationIds(childOrganizationId),
+                Arrays.asList(childOrganizationId, ORG4_ID, SUPER_ORG_ID));
+        assertTrue(organizationManagementDAO.isChildOfParent(childOrganizationId, ORG4_ID));
+        assertEquals(organizationManagementDAO.getOrganization(childOrganizationId).getAttributes().size(), 1);
+        verify(tenantMgtService, times(2)).addTenant(any(org.wso2.carbon.user.core.tenant.Tenant.class));
+    }
+
+    @Test(expectedExceptions = OrganizationManagementClientException.class)
+    public void testAddOrganizationsWithChildBeforeParent() throws Exception {
+
+        Organization organization4 = getOrganization(ORG4_ID, ORG4_NAME, ORG_DESCRIPTION, SUPER_ORG_ID,
+                STRUCTURAL.toString(), V0);
+        Organization childOrganization = getOrganization(UUID.randomUUID().toString(), NEW_ORG_NAME,
+                ORG_DESCRIPTION, ORG4_ID, STRUCTURAL.toString(), V0);
+        TestUtils.mockCarbonContext(SUPER_ORG_ID);
+        organizationManager.addOrganizations(Arrays.asList(childOrganization, organization4));
+    }
+
+    @Test
+    public void testAddOrganizationsWithExistingOrganizationName() throws Exception {
+
+        Organization organization4 = getOrganization(ORG4_ID, ORG4_NAME, ORG_DESCRIPTION, SUPER_ORG_ID,
+                STRUCTURAL.toString(), V0);
+        Organization childOrganization = getOrganization(UUID.randomUUID().toString(), ORG2_NAME,
+                ORG_DESCRIPTION, ORG4_ID, STRUCTURAL.toString(), V0);
+        TestUtils.mockCarbonContext(SUPER_ORG_ID);
+        try {
+            organizationManager.addOrganizations(Arrays.asList(organization4, childOrganization));
+            Assert.fail("Organizations with an existing organization name should not be created.");
+        } catch (OrganizationManagementClientException e) {
+            assertFalse(organizationManager.isOrganizationExistById(ORG4_ID));
+        }
+    }
+
+    @Test
+    public void testMoveOrganization() throws Exception {
+
+        // Super -> org1 -> org2 -> org2_1 is moved to Super -> org3 -> org2 -> org2_1.
+        String childOrganizationId = UUID.randomUUID().toString();
+        addOrganization(getOrganization(childOrganizationId, ORG2_1, ORG_DESCRIPTION, ORG2_ID,
+                TENANT.toString(), V0), ORG2_1);
+        TestUtils.mockCarbonContext(SUPER_ORG_ID);
+        assertEquals(organizationManager.getAncestorOrganizationIds(childOrganizationId),
+                Arrays.asList(childOrganizationId, ORG2_ID, ORG1_ID, SUPER_ORG_ID));
+
+        organizationManager.moveOrganization(ORG2_ID, ORG3_ID);
+        assertTrue(organizationManagementDAO.isImmediateChildOfParent(ORG2_ID, ORG3_ID));
+        assertFalse(organizationManagementDAO.isChildOfParent(childOrganizationId, ORG1_ID));
+        assertEquals(organizationManagementDAO.getAncestorOrganizationIds(childOrganizationId),
+                Arrays.asList(childOrganizationId, ORG2_ID, ORG3_ID, SUPER_ORG_ID));
+        assertEquals(organizationManager.getAncestorOrganizationIds(childOrganizationId),
+                Arrays.asList(childOrganizationId, ORG2_ID, ORG3_ID, SUPER_ORG_ID));
+        assertEquals(organizationManagementDAO.getOrganizationDepthInHierarchy(childOrganizationId), 3);
+    }
+
+    @Test(expectedExceptions = OrganizationManagementClientException.class)
+    public void testMoveOrganizationUnderItsDescendant() throws Exception {
+
+        TestUtils.mockCarbonContext(SUPER_ORG_ID);
+        organizationManager.moveOrganization(ORG1_ID, ORG2_ID);
+    }
+
     @Test(expectedExceptions = OrganizationManagementClientException.class)
     public void testAddOrganizationFromAncestorOrg() throws Exception {
 
@@ -545,6 +651,32 @@ public class OrganizationManagerImplTest {
         organizationManager.deleteOrganization(ORG1_ID);
     }
 
+    @Test
+    public void testDeleteOrganizationSubtree() throws Exception {
+
+        // Super -> org1 -> org2 -> org2_1 is deleted from org1 onwards.
+        String childOrganizationId = UUID.randomUUID().toString();
+        addOrganization(getOrganization(childOrganizationId, ORG2_1, ORG_DESCRIPTION, ORG2_ID,
+                TENANT.toString(), V0), ORG2_1);
+        TestUtils.mockCarbonContext(SUPER_ORG_ID);
+        organizationManager.deleteOrganizationSubtree(ORG1_ID);
+
+        verify(tenantMgtService, times(3)).deactivateTenant(anyString());
+        assertFalse(organizationManager.isOrganizationExistById(ORG1_ID));
+        assertFalse(organizationManager.isOrganizationExistById(ORG2_ID));
+        assertFalse(organizationManager.isOrganizationExistById(childOrganizationId));
+        assertTrue(organizationManager.isOrganizationExistById(ORG3_ID));
+        assertEquals(organizationManagementDAO.getChildOrganizationIds(SUPER_ORG_ID, false),
+                Collections.singletonList(ORG3_ID));
+    }
+
+    @Test(expectedExceptions = OrganizationManagementClientException.class)
+    public void testDeleteSuperOrganizationSubtree() throws Exception {
+
+        TestUtils.mockCarbonContext(SUPER_ORG_ID);
+        organizationManager.deleteOrganizationSubtree(SUPER_ORG_ID);
+    }
+
     @Test
     public void testPatchOrganization() throws Exception {
 
@@ -888,6 +1020,184 @@ public class OrganizationManagerImplTest {
         Assert.assertTrue(recursiveChildIds.contains(ORG3_ID));
     }
 
+    @Test
+    public void testGetChildOrganizationIdsWithMaxDepth() throws Exception {
+
+        // Super -> org1 -> org2 -> org2_1
+        //       -> org3
+        String childOrganizationId = UUID.randomUUID().toString();
+        addOrganization(getOrganization(childOrganizationId, ORG2_1, ORG_DESCRIPTION, ORG2_ID,
+                TENANT.toString(), V0), ORG2_1);
+        TestUtils.mockCarbonContext(SUPER_ORG_ID);
+
+        List<String> childIdsFromDB = organizationManagementDAO.getChildOrganizationIds(SUPER_ORG_ID, 2);
+        Assert.assertEquals(childIdsFromDB.size(), 3);
+        Assert.assertFalse(childIdsFromDB.contains(childOrganizationId));
+
+        List<String> childIds = organizationManager.getChildOrganizationsIds(SUPER_ORG_ID, 2);
+        Assert.assertEquals(childIds.size(), 3);
+        Assert.assertTrue(childIds.containsAll(Arrays.asList(ORG1_ID, ORG2_ID, ORG3_ID)));
+        Assert.assertEquals(organizationManager.getChildOrganizationsIds(SUPER_ORG_ID, 3).size(), 4);
+        Assert.assertEquals(organizationManager.getChildOrganizationsIds(ORG1_ID, 1),
+                Collections.singletonList(ORG2_ID));
+    }
+
+    @Test
+    public void testGetChildOrganizationGraphWithMaxDepth() throws Exception {
+
+        String childOrganizationId = UUID.randomUUID().toString();
+        addOrganization(getOrganization(childOrganizationId, ORG2_1, ORG_DESCRIPTION, ORG2_ID,
+                TENANT.toString(), V0), ORG2_1);
+        TestUtils.mockCarbonContext(SUPER_ORG_ID);
+
+        List<OrganizationNode> childOrganizations = organizationManager.getChildOrganizationGraph(ORG1_ID, 1);
+        Assert.assertEquals(childOrganizations.size(), 1);
+        Assert.assertEquals(childOrganizations.get(0).getId(), ORG2_ID);
+        Assert.assertTrue(childOrganizations.get(0).getChildren().isEmpty());
+
+        childOrganizations = organizationManager.getChildOrganizationGraph(ORG1_ID, 2);
+        Assert.assertEquals(childOrganizations.get(0).getChildren().size(), 1);
+        Assert.assertEquals(childOrganizations.get(0).getChildren().get(0).getId(), childOrganizationId);
+    }
+
+    @Test
+    public void testCountDescendants() throws Exception {
+
+        // Super -> org1 -> org2 -> org2_1
+        //       -> org3
+        String childOrganizationId = UUID.randomUUID().toString();
+        addOrganization(getOrganization(childOrganizationId, ORG2_1, ORG_DESCRIPTION, ORG2_ID,
+                TENANT.toString(), V0), ORG2_1);
+        TestUtils.mockCarbonContext(SUPER_ORG_ID);
+
+        Assert.assertEquals(organizationManagementDAO.countDescendants(SUPER_ORG_ID, Integer.MAX_VALUE), 4);
+        Assert.assertEquals(organizationManagementDAO.countDescendants(SUPER_ORG_ID, 1), 2);
+        Assert.assertEquals(organizationManager.countDescendants(SUPER_ORG_ID, Integer.MAX_VALUE), 4);
+        Assert.assertEquals(organizationManager.countDescendants(ORG1_ID, 1), 1);
+
+        Map<String, Integer> descendantCounts = new HashMap<>();
+        descendantCounts.put(ORG1_ID, 2);
+        descendantCounts.put(ORG3_ID, 0);
+        Assert.assertEquals(organizationManagementDAO.countDescendantsOfChildOrganizations(SUPER_ORG_ID,
+                Integer.MAX_VALUE), descendantCounts);
+        Assert.assertEquals(organizationManager.countDescendantsOfChildOrganizations(SUPER_ORG_ID,
+                Integer.MAX_VALUE), descendantCounts);
+        descendantCounts.put(ORG1_ID, 1);
+        Assert.assertEquals(organizationManager.countDescendantsOfChildOrganizations(SUPER_ORG_ID, 1),
+                descendantCounts);
+    }
+
+    @Test
+    public void testGetLowestCommonAncestor() throws Exception {
+
+        // Super -> org1 -> org2 -> org2_1
+        //       -> org3
+        String childOrganizationId = UUID.randomUUID().toString();
+        addOrganization(getOrganization(childOrganizationId, ORG2_1, ORG_DESCRIPTION, ORG2_ID,
+                TENANT.toString(), V0), ORG2_1);
+
+        Assert.assertEquals(organizationManagementDAO.getLowestCommonAncestor(childOrganizationId, ORG3_ID),
+                SUPER_ORG_ID);
+        Assert.assertEquals(organizationManagementDAO.getLowestCommonAncestor(ORG1_ID, childOrganizationId),
+                ORG1_ID);
+        Assert.assertNull(organizationManagementDAO.getLowestCommonAncestor(ORG1_ID, INVALID_ORG_ID));
+        Assert.assertEquals(organizationManager.getLowestCommonAncestor(childOrganizationId, ORG3_ID),
+                SUPER_ORG_ID);
+        Assert.assertEquals(organizationManager.getLowestCommonAncestor(childOrganizationId, ORG2_ID), ORG2_ID);
+
+        Assert.assertEquals(organizationManager.getLowestCommonAncestor(Arrays.asList(childOrganizationId, ORG2_ID,
+                ORG1_ID)), ORG1_ID);
+        Assert.assertEquals(organizationManager.getLowestCommonAncestor(Arrays.asList(childOrganizationId, ORG2_ID,
+                ORG3_ID)), SUPER_ORG_ID);
+        Assert.assertNull(organizationManager.getLowestCommonAncestor(Arrays.asList(ORG2_ID, INVALID_ORG_ID)));
+    }
+
+    @Test
+    public void testCheckOrganizationHierarchyConsistency() throws Exception {
+
+        Assert.assertTrue(organizationManager.checkOrganizationHierarchyConsistency(false).isConsistent());
+
+        // Super -> org1 -> org2, with a missing, a wrong depth and an extra hierarchy entry for org2.
+        try (Connection connection = TestUtils.getConnection()) {
+            PreparedStatement statement = connection.prepareStatement(
+                    "DELETE FROM UM_ORG_HIERARCHY WHERE UM_PARENT_ID = ? AND UM_ID = ?");
+            statement.setString(1, SUPER_ORG_ID);
+            statement.setString(2, ORG2_ID);
+            statement.execute();
+            statement = connection.prepareStatement(
+                    "UPDATE UM_ORG_HIERARCHY SET DEPTH = 3 WHERE UM_PARENT_ID = ? AND UM_ID = ?");
+            statement.setString(1, ORG1_ID);
+            statement.setString(2, ORG2_ID);
+            statement.execute();
+            statement = connection.prepareStatement(
+                    "INSERT INTO UM_ORG_HIERARCHY (UM_PARENT_ID, UM_ID, DEPTH) VALUES (?, ?, 1)");
+            statement.setString(1, ORG3_ID);
+            statement.setString(2, ORG2_ID);
+            statement.execute();
+        }
+
+        // A small chunk size makes the checker page through the organizations.
+        OrganizationHierarchyConsistencyChecker checker =
+                new OrganizationHierarchyConsistencyChecker(organizationManagementDAO, 2);
+        OrganizationHierarchyConsistencyReport report = checker.check(false);
+        Assert.assertFalse(report.isConsistent());
+        Assert.assertEquals(report.getCheckedOrganizationCount(), 4);
+        Assert.assertEquals(report.getMissingEntryCount(), 1);
+        Assert.assertEquals(report.getWrongDepthEntryCount(), 1);
+        Assert.assertEquals(report.getExtraEntryCount(), 1);
+        Assert.assertEquals(report.getRepairedEntryCount(), 0);
+        Assert.assertEquals(report.getInconsistentOrganizationIds(), Collections.singletonList(ORG2_ID));
+
+        report = checker.check(true);
+        Assert.assertEquals(report.getRepairedEntryCount(), 3);
+        Assert.assertTrue(checker.check(false).isConsistent());
+        Assert.assertEquals(organizationManagementDAO.getOrganizationDepthInHierarchy(ORG2_ID), 2);
+        Assert.assertFalse(organizationManagementDAO.isChildOfParent(ORG2_ID, ORG3_ID));
+        Assert.assertTrue(organizationManagementDAO.isChildOfParent(ORG2_ID, SUPER_ORG_ID));
+    }
+
+    @Test
+    public void testWarmUpOrganizationCaches() throws Exception {
+
+        mockedUtilities.when(() -> Utils.getTenantId(ORG1_HANDLE)).thenReturn(1);
+        mockedUtilities.when(() -> Utils.getTenantId(ORG2_HANDLE)).thenReturn(2);
+        mockedUtilities.when(() -> Utils.getTenantId(ORG3_HANDLE)).thenReturn(3);
+        try {
+            // The organization limit stops the warm-up before the last organization.
+            Assert.assertEquals(new OrganizationCacheWarmer(organizationManagementDAO, 2, 1).warmUp(), 2);
+            Assert.assertNull(TenantDomainCacheByOrgId.getInstance().getValueFromCache(
+                    new OrganizationIdCacheKey(ORG3_ID), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME));
+
+            Assert.assertEquals(new OrganizationCacheWarmer(organizationManagementDAO, 10, 2).warmUp(), 3);
+            Assert.assertEquals(TenantDomainCacheByOrgId.getInstance().getValueFromCache(
+                    new OrganizationIdCacheKey(ORG2_ID), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)
+                    .getTenantDomain(), ORG2_HANDLE);
+            Assert.assertEquals(OrganizationIdCacheByTenantDomain.getInstance().getValueFromCache(
+                    new TenantDomainCacheKey(ORG3_HANDLE), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)
+                    .getOrganizationId(), ORG3_ID);
+            OrganizationDetailsCacheEntry organizationDetails = OrganizationDetailsCacheByOrgId.getInstance()
+                    .getValueFromCache(new OrganizationIdCacheKey(ORG2_ID), ORG2_HANDLE);
+            Assert.assertEquals(organizationDetails.getOrgName(), ORG2_NAME);
+            Assert.assertEquals(organizationDetails.getAncestorOrganizationIds(),
+                    organizationManagementDAO.getAncestorOrganizationIds(ORG2_ID));
+            Assert.assertEquals(organizationDetails.getOrganizationDepthInHierarchy(),
+                    organizationManagementDAO.getOrganizationDepthInHierarchy(ORG2_ID));
+            Assert.assertEquals(MinimalOrganizationCacheByOrgId.getInstance().getValueFromCache(
+                    new OrganizationIdCacheKey(ORG1_ID), ORG1_HANDLE).getMinimalOrganization().getName(), ORG1_NAME);
+        } finally {
+            for (String tenantDomain : Arrays.asList(ORG1_HANDLE, ORG2_HANDLE, ORG3_HANDLE)) {
+                OrganizationDetailsCacheByOrgId.getInstance().clear(tenantDomain);
+                MinimalOrganizationCacheByOrgId.getInstance().clear(tenantDomain);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = OrganizationManagementClientException.class)
+    public void testGetChildOrganizationIdsWithInvalidMaxDepth() throws Exception {
+
+        organizationManager.getChildOrganizationsIds(SUPER_ORG_ID, 0);
+    }
+
     @Test()
     public void testAddOrganizationWithExistingOrganizationHandle() throws Exception {
 
@@ -1163,6 +1473,17 @@ public class OrganizationManagerImplTest {
         assertFalse(basicOrganization.hasChildren());
     }
 
+    @Test
+    public void testGetAncestorOrganizationIdsOfMultipleOrganizations() throws OrganizationManagementException {
+
+        Map<String, List<String>> ancestorOrganizationIds = organizationManager.getAncestorOrganizationIds(
+                Arrays.asList(ORG2_ID, ORG3_ID, INVALID_ORG_ID));
+        assertEquals(ancestorOrganizationIds.size(), 2);
+        assertEquals(ancestorOrganizationIds.get(ORG2_ID), Arrays.asList(ORG2_ID, ORG1_ID, SUPER_ORG_ID));
+        assertEquals(ancestorOrganizationIds.get(ORG3_ID), Arrays.asList(ORG3_ID, SUPER_ORG_ID));
+        assertTrue(organizationManager.getAncestorOrganizationIds(Collections.emptyList()).isEmpty());
+    }
+
     @Test
     void testOrganizationUserResidentResolverServiceImpl() throws Exception {
         OrganizationUserResidentResolverServiceImpl userResolver =
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.authz.dao;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.service.cache.CacheMetrics;
+import org.wso2.carbon.identity.organization.management.service.cache.CacheMetricsRegistry;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationAuthorizationCacheByUserId;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.util.TestUtils;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.SUPER_ORG_ID;
+
+public class CacheBackedOrganizationManagementAuthzDAOTest {
+
+    private static final String TEST_USER_ID = "4d1e5f8a-6b0c-4c2e-9f3a-7e1b2d8c5a90";
+    private static final String TEST_ORG_ID = "37b035d3-ca7b-4bcf-90c9-6adda2a08664";
+    private static final String VIEW_RESOURCE_ID = "/permission/admin/manage/identity/organizationmgt/view";
+    private static final String UPDATE_RESOURCE_ID = "/permission/admin/manage/identity/organizationmgt/update";
+
+    OrganizationManagementAuthzDAO organizationManagementAuthzDAO;
+    CacheBackedOrganizationManagementAuthzDAO cacheBackedOrganizationManagementAuthzDAO;
+
+    @BeforeClass
+    public void setup() {
+
+        TestUtils.mockCarbonContext(SUPER_ORG_ID);
+        organizationManagementAuthzDAO = mock(OrganizationManagementAuthzDAO.class);
+        cacheBackedOrganizationManagementAuthzDAO =
+                new CacheBackedOrganizationManagementAuthzDAO(organizationManagementAuthzDAO);
+    }
+
+    @BeforeMethod
+    public void init() {
+
+        reset(organizationManagementAuthzDAO);
+        OrganizationAuthorizationCacheByUserId.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    @Test
+    public void testAuthorizationDecisionsServedFromCache() throws OrganizationManagementException {
+
+        doReturn(true).when(organizationManagementAuthzDAO).isUserAuthorized(TEST_USER_ID, VIEW_RESOURCE_ID,
+                TEST_ORG_ID);
+        doReturn(false).when(organizationManagementAuthzDAO).isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID);
+        CacheMetrics operationMetrics = CacheMetricsRegistry.getOperationMetrics("isUserAuthorized");
+        long hitCount = operationMetrics.getHitCount();
+        long negativeHitCount = operationMetrics.getNegativeHitCount();
+        long loadCount = operationMetrics.getLoadCount();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(cacheBackedOrganizationManagementAuthzDAO.isUserAuthorized(TEST_USER_ID, VIEW_RESOURCE_ID,
+                    TEST_ORG_ID));
+            assertFalse(cacheBackedOrganizationManagementAuthzDAO.isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                    TEST_ORG_ID));
+        }
+
+        verify(organizationManagementAuthzDAO, times(1)).isUserAuthorized(TEST_USER_ID, VIEW_RESOURCE_ID,
+                TEST_ORG_ID);
+        verify(organizationManagementAuthzDAO, times(1)).isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID);
+        assertEquals(operationMetrics.getHitCount() - hitCount, 4);
+        assertEquals(operationMetrics.getNegativeHitCount() - negativeHitCount, 2);
+        assertEquals(operationMetrics.getLoadCount() - loadCount, 2);
+    }
+
+    @Test
+    public void testClearAuthorizationCache() throws OrganizationManagementException {
+
+        doReturn(false).when(organizationManagementAuthzDAO).isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID);
+        assertFalse(cacheBackedOrganizationManagementAuthzDAO.isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID));
+
+        // A permission granted to the user is picked up once the cached denial is cleared.
+        doReturn(true).when(organizationManagementAuthzDAO).isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID);
+        cacheBackedOrganizationManagementAuthzDAO.clearAuthorizationCache(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID);
+        assertTrue(cacheBackedOrganizationManagementAuthzDAO.isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID));
+
+        doReturn(false).when(organizationManagementAuthzDAO).isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID);
+        cacheBackedOrganizationManagementAuthzDAO.clearAuthorizationCache(SUPER_TENANT_DOMAIN_NAME);
+        assertFalse(cacheBackedOrganizationManagementAuthzDAO.isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID));
+        verify(organizationManagementAuthzDAO, times(3)).isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID);
+    }
+
+    @Test
+    public void testDenialLoadedBeforeClearIsNotCached() throws OrganizationManagementException {
+
+        // The permission is granted while the denial is being loaded, hence the loaded denial is outdated.
+        doAnswer(invocation -> {
+            cacheBackedOrganizationManagementAuthzDAO.clearAuthorizationCache(SUPER_TENANT_DOMAIN_NAME);
+            return false;
+        }).when(organizationManagementAuthzDAO).isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID, TEST_ORG_ID);
+        assertFalse(cacheBackedOrganizationManagementAuthzDAO.isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID));
+
+        doReturn(true).when(organizationManagementAuthzDAO).isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID);
+        assertTrue(cacheBackedOrganizationManagementAuthzDAO.isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID));
+        verify(organizationManagementAuthzDAO, times(2)).isUserAuthorized(TEST_USER_ID, UPDATE_RESOURCE_ID,
+                TEST_ORG_ID);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.service.model.MinimalOrganization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.SUPER_ORG_ID;
+
+public class CacheEntrySerializationTest {
+
+    private static final String ORG_ID = "37b035d3-ca7b-4bcf-90c9-6adda2a08664";
+    private static final String PARENT_ORG_ID = "2bb16581-c7ec-4a3b-a3c5-1f48b8028eec";
+
+    @Test
+    public void testOrganizationDetailsCacheEntrySerialization() throws Exception {
+
+        // IDs which are not canonical UUIDs are kept as they are.
+        List<String> ancestorOrganizationIds = Arrays.asList(ORG_ID, "Custom_org_id", PARENT_ORG_ID.toUpperCase(),
+                SUPER_ORG_ID);
+        OrganizationDetailsCacheEntry entry = new OrganizationDetailsCacheEntry.Builder()
+                .setOrgName("ABC Builders")
+                .setStatus("ACTIVE")
+                .setType("CUSTOM")
+                .setAncestorOrganizationIds(ancestorOrganizationIds)
+                .build();
+
+        OrganizationDetailsCacheEntry result = deserialize(serialize(entry));
+
+        assertEquals(result.getOrgName(), "ABC Builders");
+        assertEquals(result.getStatus(), "ACTIVE");
+        assertEquals(result.getType(), "CUSTOM");
+        assertEquals(result.getAncestorOrganizationIds(), ancestorOrganizationIds);
+        assertEquals(result.getAncestorPath().getRelativeDepth(SUPER_ORG_ID), 3);
+        assertEquals(result.getOrganizationDepthInHierarchy(), -1);
+    }
+
+    @Test
+    public void testMinimalOrganizationCacheEntrySerialization() throws Exception {
+
+        MinimalOrganization minimalOrganization = new MinimalOrganization.Builder()
+                .id(ORG_ID)
+                .name("ABC Builders")
+                .status("DISABLED")
+                .created("2026-01-01T00:00:00Z")
+                .organizationHandle("abc.com")
+                .parentOrganizationId(PARENT_ORG_ID)
+                .depth(300)
+                .build();
+
+        MinimalOrganization result = ((MinimalOrganizationCacheEntry) deserialize(serialize(
+                new MinimalOrganizationCacheEntry(minimalOrganization)))).getMinimalOrganization();
+
+        assertEquals(result.getId(), ORG_ID);
+        assertEquals(result.getName(), "ABC Builders");
+        assertEquals(result.getStatus(), "DISABLED");
+        assertEquals(result.getCreated(), "2026-01-01T00:00:00Z");
+        assertEquals(result.getOrganizationHandle(), "abc.com");
+        assertEquals(result.getParentOrganizationId(), PARENT_ORG_ID);
+        assertEquals(result.getDepth(), 300);
+    }
+
+    @Test
+    public void testNegativeCacheEntrySerialization() throws Exception {
+
+        TenantDomainCacheEntry entry = TenantDomainCacheEntry.createNegativeEntry();
+        entry.markAsNegative(Long.MAX_VALUE);
+
+        TenantDomainCacheEntry result = deserialize(serialize(entry));
+
+        assertTrue(result.isNegative());
+        assertNull(result.getTenantDomain());
+        assertEquals(((TenantDomainCacheEntry) deserialize(serialize(new TenantDomainCacheEntry("abc.com"))))
+                .getTenantDomain(), "abc.com");
+    }
+
+    @Test(expectedExceptions = InvalidObjectException.class)
+    public void testUnsupportedFormatVersionIsRejected() throws Exception {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeByte(CacheEntryCodec.FORMAT_VERSION + 1);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            new TenantDomainCacheEntry().readExternal(in);
+        }
+    }
+
+    private static byte[] serialize(CacheEntry entry) throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(entry);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends CacheEntry> T deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class CacheMetricsTest {
+
+    @Test
+    public void testLoadTimeHistogram() {
+
+        CacheMetrics cacheMetrics = new CacheMetrics();
+        for (int i = 0; i < 98; i++) {
+            cacheMetrics.recordLoad(TimeUnit.MICROSECONDS.toNanos(500), true);
+        }
+        cacheMetrics.recordLoad(TimeUnit.MILLISECONDS.toNanos(40), true);
+        cacheMetrics.recordLoad(TimeUnit.SECONDS.toNanos(10), false);
+
+        assertEquals(cacheMetrics.getLoadCount(), 99);
+        assertEquals(cacheMetrics.getLoadFailureCount(), 1);
+        long[] bucketCounts = cacheMetrics.getLoadTimeBucketCounts();
+        assertEquals(bucketCounts.length, cacheMetrics.getLoadTimeBucketUpperBoundsMillis().length + 1);
+        assertEquals(bucketCounts[0], 98);
+        assertEquals(bucketCounts[5], 1);
+        assertEquals(bucketCounts[bucketCounts.length - 1], 1);
+        assertEquals(cacheMetrics.getLoadTimeHistogram().getPercentileMillis(50), 1);
+        assertEquals(cacheMetrics.getLoadTime99thPercentileMillis(), 50);
+        assertEquals(cacheMetrics.getLoadTimeHistogram().getPercentileMillis(100), -1);
+    }
+
+    @Test
+    public void testOperationMetrics() {
+
+        String operationName = "testOperationMetrics";
+        CacheMetricsRegistry.recordOperationHit(operationName, false);
+        CacheMetricsRegistry.recordOperationHit(operationName, true);
+        CacheMetricsRegistry.recordOperationHit(operationName, false);
+        CacheMetricsRegistry.recordOperationMiss(operationName);
+        CacheMetricsRegistry.recordOperationLoad(operationName, TimeUnit.MILLISECONDS.toNanos(3), true);
+
+        CacheMetrics operationMetrics = CacheMetricsRegistry.getOperationMetrics(operationName);
+        assertEquals(operationMetrics.getHitCount(), 3);
+        assertEquals(operationMetrics.getNegativeHitCount(), 1);
+        assertEquals(operationMetrics.getMissCount(), 1);
+        assertEquals(operationMetrics.getLoadCount(), 1);
+        assertEquals(operationMetrics.getHitRatio(), 0.75);
+    }
+
+    @Test
+    public void testOperationHitTime() {
+
+        String operationName = "testOperationHitTime";
+        for (int i = 0; i < 99; i++) {
+            CacheMetricsRegistry.recordOperationHit(operationName, false, TimeUnit.MICROSECONDS.toNanos(20));
+        }
+        CacheMetricsRegistry.recordOperationHit(operationName, true, TimeUnit.MILLISECONDS.toNanos(3));
+
+        CacheMetrics operationMetrics = CacheMetricsRegistry.getOperationMetrics(operationName);
+        assertEquals(operationMetrics.getHitCount(), 100);
+        assertEquals(operationMetrics.getNegativeHitCount(), 1);
+        assertEquals(operationMetrics.getHitTime99thPercentileMillis(), 1);
+        assertTrue(operationMetrics.getAverageHitTimeMillis() > 0);
+        assertEquals(operationMetrics.getAverageLoadTimeMillis(), 0.0);
+    }
+
+    @Test
+    public void testNearCacheEvictionsAreRecorded() {
+
+        CacheMetrics cacheMetrics = new CacheMetrics();
+        NearCache<String, String> nearCache = new NearCache<>(1, 60, cacheMetrics);
+        nearCache.put("carbon.super", "key1", "value1");
+        nearCache.put("carbon.super", "key2", "value2");
+
+        assertEquals(cacheMetrics.getEvictionCount(), 1);
+    }
+
+    @Test
+    public void testMetricsPublishedOverJmx() throws Exception {
+
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        JmxCacheMetricsPublisher publisher = new JmxCacheMetricsPublisher(mBeanServer);
+        String operationName = "testMetricsPublishedOverJmx";
+        CacheMetrics operationMetrics = CacheMetricsRegistry.getOperationMetrics(operationName);
+        ObjectName objectName = JmxCacheMetricsPublisher.getObjectName(CacheMetricsRegistry.TYPE_CACHE_OPERATION,
+                operationName);
+        try {
+            // Existing metrics are published when the publisher is added.
+            CacheMetricsRegistry.addPublisher(publisher);
+            assertTrue(mBeanServer.isRegistered(objectName));
+            CacheMetricsRegistry.recordOperationHit(operationName, false);
+            assertEquals(mBeanServer.getAttribute(objectName, "HitCount"), 1L);
+
+            // Metrics created afterwards are published too.
+            String newOperationName = "testMetricsPublishedOverJmxNewOperation";
+            assertSame(CacheMetricsRegistry.getOperationMetrics(newOperationName),
+                    CacheMetricsRegistry.getOperationMetrics(newOperationName));
+            assertTrue(mBeanServer.isRegistered(JmxCacheMetricsPublisher.getObjectName(
+                    CacheMetricsRegistry.TYPE_CACHE_OPERATION, newOperationName)));
+            assertEquals(operationMetrics.getHitCount(), 1);
+        } finally {
+            CacheMetricsRegistry.removePublisher(publisher);
+        }
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
+}
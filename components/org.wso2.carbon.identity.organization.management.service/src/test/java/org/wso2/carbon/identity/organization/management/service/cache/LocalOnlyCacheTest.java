@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementConfigUtil;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class LocalOnlyCacheTest {
+
+    private static final String CACHE_NAME = "LocalOnlyTestCache";
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String OTHER_TENANT_DOMAIN = "sub.com";
+
+    @Test
+    public void testLocalOnlyCacheIsScopedByTenantWithoutTenantFlows() {
+
+        OrgMgtCacheConfig cacheConfig = new OrgMgtCacheConfig(
+                new OrgMgtCacheConfigKey("OrganizationManagementCacheManager", CACHE_NAME));
+        cacheConfig.setEnabled(true);
+        cacheConfig.setTimeout(60);
+        cacheConfig.setCapacity(10);
+        cacheConfig.setLocalOnly(true);
+
+        try (MockedStatic<OrganizationManagementConfigUtil> configUtil =
+                     mockStatic(OrganizationManagementConfigUtil.class);
+             MockedStatic<PrivilegedCarbonContext> carbonContext = mockStatic(PrivilegedCarbonContext.class)) {
+            configUtil.when(() -> OrganizationManagementConfigUtil.getOrgMgtCacheConfig(anyString(), anyString()))
+                    .thenReturn(cacheConfig);
+            LocalOnlyTestCache cache = new LocalOnlyTestCache();
+            assertTrue(cache.isLocalOnly());
+
+            cache.addToCache("key", new TenantDomainCacheEntry(TENANT_DOMAIN), TENANT_DOMAIN);
+            cache.addToCacheOnRead("key", new TenantDomainCacheEntry(OTHER_TENANT_DOMAIN), OTHER_TENANT_DOMAIN);
+            assertEquals(cache.getValueFromCache("key", TENANT_DOMAIN).getTenantDomain(), TENANT_DOMAIN);
+            assertEquals(cache.getValueFromCache("key", OTHER_TENANT_DOMAIN).getTenantDomain(),
+                    OTHER_TENANT_DOMAIN);
+
+            Map<String, TenantDomainCacheEntry> entries =
+                    cache.getAll(new HashSet<>(Arrays.asList("key", "missingKey")), TENANT_DOMAIN);
+            assertEquals(entries.size(), 1);
+            assertEquals(entries.get("key").getTenantDomain(), TENANT_DOMAIN);
+
+            cache.clear(TENANT_DOMAIN);
+            assertNull(cache.getValueFromCache("key", TENANT_DOMAIN));
+            assertEquals(cache.getValueFromCache("key", OTHER_TENANT_DOMAIN).getTenantDomain(),
+                    OTHER_TENANT_DOMAIN);
+
+            cache.clearCacheEntry("key", OTHER_TENANT_DOMAIN);
+            assertNull(cache.getValueFromCache("key", OTHER_TENANT_DOMAIN));
+
+            carbonContext.verify(PrivilegedCarbonContext::startTenantFlow, never());
+        }
+    }
+
+    private static class LocalOnlyTestCache extends BaseCache<String, TenantDomainCacheEntry> {
+
+        LocalOnlyTestCache() {
+
+            super(CACHE_NAME);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class NearCacheTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String OTHER_TENANT_DOMAIN = "sub.com";
+
+    @Test
+    public void testGetAndRemove() {
+
+        NearCache<String, String> nearCache = new NearCache<>(10, 60);
+        nearCache.put(TENANT_DOMAIN, "key", "value");
+        nearCache.put(OTHER_TENANT_DOMAIN, "key", "otherValue");
+
+        assertEquals(nearCache.get(TENANT_DOMAIN, "key"), "value");
+        assertEquals(nearCache.get(OTHER_TENANT_DOMAIN, "key"), "otherValue");
+
+        nearCache.remove(TENANT_DOMAIN, "key");
+        assertNull(nearCache.get(TENANT_DOMAIN, "key"));
+        assertEquals(nearCache.get(OTHER_TENANT_DOMAIN, "key"), "otherValue");
+    }
+
+    @Test
+    public void testClearTenantEntries() {
+
+        NearCache<String, String> nearCache = new NearCache<>(10, 60);
+        nearCache.put(TENANT_DOMAIN, "key1", "value1");
+        nearCache.put(TENANT_DOMAIN, "key2", "value2");
+        nearCache.put(OTHER_TENANT_DOMAIN, "key1", "otherValue");
+
+        nearCache.clear(TENANT_DOMAIN);
+        assertNull(nearCache.get(TENANT_DOMAIN, "key1"));
+        assertNull(nearCache.get(TENANT_DOMAIN, "key2"));
+        assertEquals(nearCache.get(OTHER_TENANT_DOMAIN, "key1"), "otherValue");
+    }
+
+    @Test
+    public void testExpiredEntryIsNotReturned() {
+
+        NearCache<String, String> nearCache = new NearCache<>(10, 0);
+        nearCache.put(TENANT_DOMAIN, "key", "value");
+
+        assertNull(nearCache.get(TENANT_DOMAIN, "key"));
+        assertEquals(nearCache.size(), 0);
+    }
+
+    @Test
+    public void testFrequentlyAccessedEntryIsRetained() {
+
+        NearCache<String, String> nearCache = new NearCache<>(2, 60);
+        nearCache.put(TENANT_DOMAIN, "frequent", "value1");
+        nearCache.put(TENANT_DOMAIN, "rare", "value2");
+        for (int i = 0; i < 5; i++) {
+            nearCache.get(TENANT_DOMAIN, "frequent");
+        }
+        nearCache.put(TENANT_DOMAIN, "new", "value3");
+
+        assertEquals(nearCache.size(), 2);
+        assertEquals(nearCache.get(TENANT_DOMAIN, "frequent"), "value1");
+        assertNull(nearCache.get(TENANT_DOMAIN, "rare"));
+        assertEquals(nearCache.get(TENANT_DOMAIN, "new"), "value3");
+    }
+
+    @Test
+    public void testValueReadBeforeInvalidationIsNotCached() {
+
+        NearCache<String, String> nearCache = new NearCache<>(10, 60);
+        long invalidationStamp = nearCache.getInvalidationStamp();
+        nearCache.remove(TENANT_DOMAIN, "key");
+        nearCache.put(TENANT_DOMAIN, "key", "staleValue", invalidationStamp);
+
+        assertNull(nearCache.get(TENANT_DOMAIN, "key"));
+    }
+}
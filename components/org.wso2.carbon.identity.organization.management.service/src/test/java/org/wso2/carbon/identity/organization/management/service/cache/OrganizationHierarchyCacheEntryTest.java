@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class OrganizationHierarchyCacheEntryTest {
+
+    private static final String ROOT_ORG_ID = "root";
+
+    @Test
+    public void testLabelling() {
+
+        Map<String, String> organizationParentIds = new LinkedHashMap<>();
+        organizationParentIds.put("a", ROOT_ORG_ID);
+        organizationParentIds.put("b", ROOT_ORG_ID);
+        organizationParentIds.put("a1", "a");
+        organizationParentIds.put("a2", "a");
+        organizationParentIds.put("a11", "a1");
+        OrganizationHierarchyCacheEntry organizationHierarchy = new OrganizationHierarchyCacheEntry(ROOT_ORG_ID);
+        organizationHierarchy.addOrganizations(organizationParentIds);
+
+        assertTrue(organizationHierarchy.isChildOfParent("a11", "a"));
+        assertTrue(organizationHierarchy.isChildOfParent("a11", ROOT_ORG_ID));
+        assertTrue(organizationHierarchy.isChildOfParent("a", "a"));
+        assertFalse(organizationHierarchy.isChildOfParent("a11", "a2"));
+        assertFalse(organizationHierarchy.isChildOfParent("a", "a1"));
+        assertFalse(organizationHierarchy.isChildOfParent("b", "a"));
+        assertEquals(organizationHierarchy.getRelativeDepth("a11"), 3);
+        assertEquals(organizationHierarchy.getLowestCommonAncestor("a11", "a2"), "a");
+        assertEquals(organizationHierarchy.getLowestCommonAncestor("a11", "b"), ROOT_ORG_ID);
+        assertEquals(organizationHierarchy.getChildOrganizationIds("a", true), Arrays.asList("a1", "a2", "a11"));
+        assertHierarchyLabels(organizationHierarchy, organizationParentIds);
+    }
+
+    @Test
+    public void testCountDescendants() {
+
+        Map<String, String> organizationParentIds = new LinkedHashMap<>();
+        organizationParentIds.put("a", ROOT_ORG_ID);
+        organizationParentIds.put("b", ROOT_ORG_ID);
+        organizationParentIds.put("a1", "a");
+        organizationParentIds.put("a2", "a");
+        organizationParentIds.put("a11", "a1");
+        organizationParentIds.put("a111", "a11");
+        OrganizationHierarchyCacheEntry organizationHierarchy = new OrganizationHierarchyCacheEntry(ROOT_ORG_ID);
+        organizationHierarchy.addOrganizations(organizationParentIds);
+
+        assertEquals(organizationHierarchy.countDescendants(ROOT_ORG_ID, Integer.MAX_VALUE), 6);
+        assertEquals(organizationHierarchy.countDescendants(ROOT_ORG_ID, 1), 2);
+        assertEquals(organizationHierarchy.countDescendants("a", 2), 3);
+        assertEquals(organizationHierarchy.countDescendants("a", 0), 0);
+        assertEquals(organizationHierarchy.countDescendants("b", Integer.MAX_VALUE), 0);
+        assertEquals(organizationHierarchy.countDescendants("unknown", Integer.MAX_VALUE), 0);
+        Map<String, Integer> descendantCounts =
+                organizationHierarchy.countDescendantsOfChildOrganizations(ROOT_ORG_ID, 2);
+        assertEquals(descendantCounts.get("a"), Integer.valueOf(3));
+        assertEquals(descendantCounts.get("b"), Integer.valueOf(0));
+    }
+
+    @Test
+    public void testSiblingAdditionsUnderWideParent() {
+
+        Map<String, String> organizationParentIds = new LinkedHashMap<>();
+        organizationParentIds.put("parent", ROOT_ORG_ID);
+        OrganizationHierarchyCacheEntry organizationHierarchy = new OrganizationHierarchyCacheEntry(ROOT_ORG_ID);
+        organizationHierarchy.addOrganizations(organizationParentIds);
+
+        String previousChildId = null;
+        for (int i = 0; i < 10000; i++) {
+            String childId = "child" + i;
+            assertTrue(organizationHierarchy.addOrganization(childId, "parent"));
+            assertTrue(organizationHierarchy.isChildOfParent(childId, "parent"));
+            if (previousChildId != null) {
+                assertFalse(organizationHierarchy.isChildOfParent(childId, previousChildId));
+                assertFalse(organizationHierarchy.isChildOfParent(previousChildId, childId));
+            }
+            previousChildId = childId;
+        }
+        assertEquals(organizationHierarchy.countDescendants("parent", Integer.MAX_VALUE), 10000);
+    }
+
+    @Test
+    public void testRelabelWhenGapIsExhausted() {
+
+        OrganizationHierarchyCacheEntry organizationHierarchy = new OrganizationHierarchyCacheEntry(ROOT_ORG_ID);
+        Map<String, String> organizationParentIds = new LinkedHashMap<>();
+        // Each organization in the chain is added under the previous one, narrowing the interval at every level
+        // until the subtree has to be relabelled.
+        String parentId = ROOT_ORG_ID;
+        for (int i = 0; i < 40; i++) {
+            String organizationId = "chain" + i;
+            assertTrue(organizationHierarchy.addOrganization(organizationId, parentId));
+            organizationParentIds.put(organizationId, parentId);
+            parentId = organizationId;
+        }
+        // Siblings added under a deep organization exhaust the gap left within its interval.
+        for (int i = 0; i < 200; i++) {
+            String organizationId = "leaf" + i;
+            assertTrue(organizationHierarchy.addOrganization(organizationId, "chain20"));
+            organizationParentIds.put(organizationId, "chain20");
+        }
+        assertHierarchyLabels(organizationHierarchy, organizationParentIds);
+    }
+
+    @Test
+    public void testRelabelAfterRandomAdditionsAndMoves() {
+
+        Random random = new Random(42);
+        OrganizationHierarchyCacheEntry organizationHierarchy = new OrganizationHierarchyCacheEntry(ROOT_ORG_ID);
+        Map<String, String> organizationParentIds = new LinkedHashMap<>();
+        List<String> organizationIds = new ArrayList<>();
+        organizationIds.add(ROOT_ORG_ID);
+        for (int i = 0; i < 300; i++) {
+            String organizationId = "org" + i;
+            String parentId = organizationIds.get(random.nextInt(organizationIds.size()));
+            assertTrue(organizationHierarchy.addOrganization(organizationId, parentId));
+            organizationParentIds.put(organizationId, parentId);
+            organizationIds.add(organizationId);
+        }
+        for (int i = 0; i < 50; i++) {
+            String organizationId = organizationIds.get(1 + random.nextInt(organizationIds.size() - 1));
+            String newParentId = organizationIds.get(random.nextInt(organizationIds.size()));
+            boolean moved = organizationHierarchy.moveOrganization(organizationId, newParentId);
+            assertEquals(moved, !isAncestor(organizationParentIds, organizationId, newParentId));
+            if (moved) {
+                organizationParentIds.put(organizationId, newParentId);
+            }
+        }
+        assertHierarchyLabels(organizationHierarchy, organizationParentIds);
+    }
+
+    private void assertHierarchyLabels(OrganizationHierarchyCacheEntry organizationHierarchy,
+                                       Map<String, String> organizationParentIds) {
+
+        List<String> organizationIds = new ArrayList<>(organizationParentIds.keySet());
+        organizationIds.add(ROOT_ORG_ID);
+        Map<String, Integer> depths = new HashMap<>();
+        for (String organizationId : organizationIds) {
+            int depth = 0;
+            for (String ancestorId = organizationParentIds.get(organizationId); ancestorId != null;
+                 ancestorId = organizationParentIds.get(ancestorId)) {
+                depth++;
+            }
+            depths.put(organizationId, depth);
+        }
+        for (String organizationId : organizationIds) {
+            assertEquals(organizationHierarchy.getRelativeDepth(organizationId), (int) depths.get(organizationId));
+            for (String parentId : organizationIds) {
+                assertEquals(organizationHierarchy.isChildOfParent(organizationId, parentId),
+                        isAncestor(organizationParentIds, parentId, organizationId),
+                        organizationId + " in the subtree of " + parentId);
+            }
+        }
+    }
+
+    private boolean isAncestor(Map<String, String> organizationParentIds, String ancestorId, String organizationId) {
+
+        for (String id = organizationId; id != null; id = organizationParentIds.get(id)) {
+            if (id.equals(ancestorId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class RefreshAheadSchedulerTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String OTHER_TENANT_DOMAIN = "sub.com";
+    private static final long REFRESH_AFTER_MILLIS = 1000;
+
+    @Test
+    public void testIsDueForRefresh() {
+
+        RefreshAheadScheduler<String> scheduler = new RefreshAheadScheduler<>(REFRESH_AFTER_MILLIS, Runnable::run);
+        TenantDomainCacheEntry entry = new TenantDomainCacheEntry(OTHER_TENANT_DOMAIN);
+        assertFalse(scheduler.isDueForRefresh(entry, System.currentTimeMillis()));
+
+        long loadTime = System.currentTimeMillis();
+        entry.markAsLoaded(loadTime);
+        assertFalse(scheduler.isDueForRefresh(entry, loadTime + REFRESH_AFTER_MILLIS - 1));
+        assertTrue(scheduler.isDueForRefresh(entry, loadTime + REFRESH_AFTER_MILLIS));
+
+        TenantDomainCacheEntry negativeEntry = TenantDomainCacheEntry.createNegativeEntry();
+        negativeEntry.markAsNegative(loadTime + 2 * REFRESH_AFTER_MILLIS);
+        negativeEntry.markAsLoaded(loadTime);
+        assertFalse(scheduler.isDueForRefresh(negativeEntry, loadTime + REFRESH_AFTER_MILLIS));
+    }
+
+    @Test
+    public void testSingleRefreshInFlightPerKey() {
+
+        List<Runnable> queuedRefreshes = new ArrayList<>();
+        RefreshAheadScheduler<String> scheduler = new RefreshAheadScheduler<>(REFRESH_AFTER_MILLIS,
+                queuedRefreshes::add);
+        AtomicInteger refreshCount = new AtomicInteger();
+
+        assertTrue(scheduler.scheduleRefresh(TENANT_DOMAIN, "key", refreshCount::incrementAndGet));
+        assertFalse(scheduler.scheduleRefresh(TENANT_DOMAIN, "key", refreshCount::incrementAndGet));
+        assertTrue(scheduler.scheduleRefresh(OTHER_TENANT_DOMAIN, "key", refreshCount::incrementAndGet));
+        assertEquals(scheduler.getInFlightRefreshCount(), 2);
+
+        queuedRefreshes.forEach(Runnable::run);
+        assertEquals(refreshCount.get(), 2);
+        assertEquals(scheduler.getInFlightRefreshCount(), 0);
+        assertTrue(scheduler.scheduleRefresh(TENANT_DOMAIN, "key", refreshCount::incrementAndGet));
+    }
+
+    @Test
+    public void testRejectedRefreshIsDropped() {
+
+        RefreshAheadScheduler<String> scheduler = new RefreshAheadScheduler<>(REFRESH_AFTER_MILLIS, refresh -> {
+            throw new RejectedExecutionException();
+        });
+
+        assertFalse(scheduler.scheduleRefresh(TENANT_DOMAIN, "key", () -> { }));
+        assertEquals(scheduler.getInFlightRefreshCount(), 0);
+    }
+
+    @Test
+    public void testFailedRefreshIsCleared() {
+
+        RefreshAheadScheduler<String> scheduler = new RefreshAheadScheduler<>(REFRESH_AFTER_MILLIS, Runnable::run);
+
+        try {
+            scheduler.scheduleRefresh(TENANT_DOMAIN, "key", () -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException e) {
+            // The refresh failure is propagated by the caller-runs executor.
+        }
+        assertEquals(scheduler.getInFlightRefreshCount(), 0);
+    }
+}
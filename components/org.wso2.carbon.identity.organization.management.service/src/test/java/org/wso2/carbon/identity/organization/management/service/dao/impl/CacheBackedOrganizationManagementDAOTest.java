@@ -23,37 +23,72 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.service.cache.BasicOrganizationCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.CacheMetricsRegistry;
+import org.wso2.carbon.identity.organization.management.service.cache.ChildOrganizationListingCacheByOrgId;
 import org.wso2.carbon.identity.organization.management.service.cache.MinimalOrganizationCacheByOrgId;
 import org.wso2.carbon.identity.organization.management.service.cache.MinimalOrganizationCacheEntry;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationDetailsCacheByOrgId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationHierarchyCacheByRootOrgId;
 import org.wso2.carbon.identity.organization.management.service.cache.OrganizationIdCacheByTenantDomain;
 import org.wso2.carbon.identity.organization.management.service.cache.OrganizationIdCacheEntry;
 import org.wso2.carbon.identity.organization.management.service.cache.OrganizationIdCacheKey;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationPermissionCacheByUserId;
+import org.wso2.carbon.identity.organization.management.service.cache.OrganizationSubtreeGenerationCache;
+import org.wso2.carbon.identity.organization.management.service.cache.TenantDomainCacheByOrgId;
 import org.wso2.carbon.identity.organization.management.service.cache.TenantDomainCacheKey;
 import org.wso2.carbon.identity.organization.management.service.dao.OrganizationManagementDAO;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.MinimalOrganization;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationAttribute;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
+import org.wso2.carbon.identity.organization.management.service.model.ParentOrganizationDO;
+import org.wso2.carbon.identity.organization.management.service.model.PatchOperation;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
 import org.wso2.carbon.identity.organization.management.util.TestUtils;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_ID;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ALL_ORGANIZATION_PERMISSIONS;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PATCH_OP_REPLACE;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PATCH_PATH_ORG_DESCRIPTION;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PATCH_PATH_ORG_STATUS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.SUPER_ORG_ID;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.VIEW_ORGANIZATION_PERMISSION;
 
 public class CacheBackedOrganizationManagementDAOTest {
 
@@ -65,6 +100,7 @@ public class CacheBackedOrganizationManagementDAOTest {
     private static final int TEST_ORG_DEPTH = 1;
 
     private static final String TEST_PARENT_ORG_ID = "2bb16581-c7ec-4a3b-a3c5-1f48b8028eec";
+    private static final String TEST_CHILD_ORG_ID = "8d4f7a0e-5b2c-4f11-9c6e-3a9d2e71b5c0";
 
     OrganizationManagementDAO organizationManagementDAO;
     CacheBackedOrganizationManagementDAO cacheBackedOrganizationManagementDAO;
@@ -82,6 +118,7 @@ public class CacheBackedOrganizationManagementDAOTest {
         utils = mockStatic(Utils.class);
         utils.when(() -> Utils.getTenantId(SUPER_TENANT_DOMAIN_NAME)).thenReturn(SUPER_TENANT_ID);
         utils.when(() -> Utils.getTenantId(TEST_ORG_TENANT_DOMAIN)).thenReturn(2);
+        utils.when(Utils::getSubOrgStartLevel).thenReturn(2);
 
         minimalOrganization = new MinimalOrganization.Builder()
                 .id(TEST_ORG_ID)
@@ -106,6 +143,14 @@ public class CacheBackedOrganizationManagementDAOTest {
         reset(organizationManagementDAO);
         minimalOrganizationCache.clear(TEST_ORG_TENANT_DOMAIN);
         OrganizationIdCacheByTenantDomain.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        OrganizationDetailsCacheByOrgId.getInstance().clear(TEST_ORG_TENANT_DOMAIN);
+        OrganizationCacheByOrgId.getInstance().clear(TEST_ORG_TENANT_DOMAIN);
+        OrganizationPermissionCacheByUserId.getInstance().clear(TEST_ORG_TENANT_DOMAIN);
+        OrganizationHierarchyCacheByRootOrgId.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        BasicOrganizationCacheByOrgId.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        OrganizationSubtreeGenerationCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        ChildOrganizationListingCacheByOrgId.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        TenantDomainCacheByOrgId.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
         doReturn(TEST_ORG_TENANT_DOMAIN).when(organizationManagementDAO).resolveTenantDomain(TEST_ORG_ID);
     }
 
@@ -272,10 +317,499 @@ public class CacheBackedOrganizationManagementDAOTest {
         assertEquals(result, Optional.empty());
         verify(organizationManagementDAO).resolveOrganizationId(TEST_ORG_TENANT_DOMAIN);
 
-        // Cache should not have entry when organization is not found
+        // A negative entry is cached when the organization is not found.
         OrganizationIdCacheByTenantDomain organizationIdCache = OrganizationIdCacheByTenantDomain.getInstance();
         OrganizationIdCacheEntry cachedOrgId = organizationIdCache.getValueFromCache(
                 new TenantDomainCacheKey(TEST_ORG_TENANT_DOMAIN), SUPER_TENANT_DOMAIN_NAME);
-        assertNull(cachedOrgId);
+        assertNotNull(cachedOrgId);
+        assertTrue(cachedOrgId.isNegative());
+        assertNull(cachedOrgId.getOrganizationId());
+    }
+
+    @Test
+    public void testNegativeEntriesServedAndClearedOnAddOrganization() throws OrganizationManagementException {
+
+        doReturn(Optional.empty()).when(organizationManagementDAO).resolveOrganizationId(TEST_ORG_TENANT_DOMAIN);
+        doReturn(null).when(organizationManagementDAO).resolveTenantDomain(TEST_ORG_ID);
+        doReturn(null).when(organizationManagementDAO).getMinimalOrganization(TEST_ORG_ID, TEST_ORG_TENANT_DOMAIN);
+        long negativeHitCount = OrganizationIdCacheByTenantDomain.getInstance().getCacheMetrics()
+                .getNegativeHitCount();
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(cacheBackedOrganizationManagementDAO.resolveOrganizationId(TEST_ORG_TENANT_DOMAIN)
+                    .isPresent());
+            assertNull(cacheBackedOrganizationManagementDAO.resolveTenantDomain(TEST_ORG_ID));
+            assertNull(cacheBackedOrganizationManagementDAO.getMinimalOrganization(TEST_ORG_ID,
+                    TEST_ORG_TENANT_DOMAIN));
+        }
+        verify(organizationManagementDAO, times(1)).resolveOrganizationId(TEST_ORG_TENANT_DOMAIN);
+        verify(organizationManagementDAO, times(1)).resolveTenantDomain(TEST_ORG_ID);
+        verify(organizationManagementDAO, times(1)).getMinimalOrganization(TEST_ORG_ID, TEST_ORG_TENANT_DOMAIN);
+        verify(organizationManagementDAO, never()).isOrganizationExistById(TEST_ORG_ID);
+        assertEquals(OrganizationIdCacheByTenantDomain.getInstance().getCacheMetrics().getNegativeHitCount(),
+                negativeHitCount + 2);
+
+        // Adding the organization clears the negative entries.
+        Organization organization = new Organization();
+        organization.setId(TEST_ORG_ID);
+        organization.setOrganizationHandle(TEST_ORG_TENANT_DOMAIN);
+        cacheBackedOrganizationManagementDAO.addOrganization(organization);
+        doReturn(Optional.of(TEST_ORG_ID)).when(organizationManagementDAO)
+                .resolveOrganizationId(TEST_ORG_TENANT_DOMAIN);
+        doReturn(TEST_ORG_TENANT_DOMAIN).when(organizationManagementDAO).resolveTenantDomain(TEST_ORG_ID);
+        doReturn(minimalOrganization).when(organizationManagementDAO).getMinimalOrganization(TEST_ORG_ID,
+                TEST_ORG_TENANT_DOMAIN);
+
+        assertEquals(cacheBackedOrganizationManagementDAO.resolveOrganizationId(TEST_ORG_TENANT_DOMAIN).get(),
+                TEST_ORG_ID);
+        assertEquals(cacheBackedOrganizationManagementDAO.resolveTenantDomain(TEST_ORG_ID), TEST_ORG_TENANT_DOMAIN);
+        assertNotNull(cacheBackedOrganizationManagementDAO.getMinimalOrganization(TEST_ORG_ID,
+                TEST_ORG_TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testHierarchyChecksServedFromHierarchyCache() throws OrganizationManagementException {
+
+        mockOrganizationHierarchy();
+        doReturn(TEST_ORG_TENANT_DOMAIN).when(organizationManagementDAO).resolveTenantDomain(TEST_PARENT_ORG_ID);
+        long childOfParentHits = CacheMetricsRegistry.getOperationMetrics("isChildOfParent").getHitCount();
+        long immediateChildOfParentHits =
+                CacheMetricsRegistry.getOperationMetrics("isImmediateChildOfParent").getHitCount();
+        long relativeDepthHits = CacheMetricsRegistry.getOperationMetrics(
+                "getRelativeDepthBetweenOrganizationsInSameBranch").getHitCount();
+        long childOrganizationIdsHits =
+                CacheMetricsRegistry.getOperationMetrics("getChildOrganizationIds").getHitCount();
+
+        assertTrue(cacheBackedOrganizationManagementDAO.isChildOfParent(TEST_ORG_ID, TEST_PARENT_ORG_ID));
+        assertTrue(cacheBackedOrganizationManagementDAO.isImmediateChildOfParent(TEST_ORG_ID, TEST_PARENT_ORG_ID));
+        assertFalse(cacheBackedOrganizationManagementDAO.isChildOfParent(TEST_PARENT_ORG_ID, TEST_ORG_ID));
+        assertEquals(cacheBackedOrganizationManagementDAO.getRelativeDepthBetweenOrganizationsInSameBranch(
+                TEST_PARENT_ORG_ID, TEST_ORG_ID), 1);
+        assertEquals(cacheBackedOrganizationManagementDAO.getAnAncestorOrganizationIdInGivenDepth(TEST_ORG_ID, 1),
+                TEST_PARENT_ORG_ID);
+        assertEquals(cacheBackedOrganizationManagementDAO.getChildOrganizationIds(TEST_PARENT_ORG_ID, true),
+                Collections.singletonList(TEST_ORG_ID));
+        assertEquals(cacheBackedOrganizationManagementDAO.getChildOrganizationIds(TEST_PARENT_ORG_ID, false),
+                Collections.singletonList(TEST_ORG_ID));
+
+        // The first check loads the hierarchy, and the other checks are answered by it.
+        assertEquals(CacheMetricsRegistry.getOperationMetrics("isChildOfParent").getHitCount(), childOfParentHits + 1);
+        assertEquals(CacheMetricsRegistry.getOperationMetrics("isImmediateChildOfParent").getHitCount(),
+                immediateChildOfParentHits + 1);
+        assertEquals(CacheMetricsRegistry.getOperationMetrics("getRelativeDepthBetweenOrganizationsInSameBranch")
+                .getHitCount(), relativeDepthHits + 1);
+        assertEquals(CacheMetricsRegistry.getOperationMetrics("getChildOrganizationIds").getHitCount(),
+                childOrganizationIdsHits + 2);
+        verify(organizationManagementDAO, times(1)).getDescendantOrganizationParentIds(TEST_PARENT_ORG_ID);
+        verify(organizationManagementDAO, never()).isChildOfParent(any(), any());
+        verify(organizationManagementDAO, never()).isImmediateChildOfParent(any(), any());
+        verify(organizationManagementDAO, never()).getRelativeDepthBetweenOrganizationsInSameBranch(any(), any());
+        verify(organizationManagementDAO, never()).getChildOrganizationIds(any(), anyBoolean());
+    }
+
+    @Test
+    public void testHierarchyCacheUpdatedOnAddAndDeleteOrganization() throws OrganizationManagementException {
+
+        mockOrganizationHierarchy();
+        assertEquals(cacheBackedOrganizationManagementDAO.getChildOrganizationIds(TEST_PARENT_ORG_ID, false),
+                Collections.singletonList(TEST_ORG_ID));
+
+        Organization childOrganization = new Organization();
+        childOrganization.setId(TEST_CHILD_ORG_ID);
+        ParentOrganizationDO parentOrganization = new ParentOrganizationDO();
+        parentOrganization.setId(TEST_ORG_ID);
+        childOrganization.setParent(parentOrganization);
+        cacheBackedOrganizationManagementDAO.addOrganization(childOrganization);
+
+        // The added organization is added to the cached hierarchy, which is not reloaded.
+        List<String> childOrganizationIds =
+                cacheBackedOrganizationManagementDAO.getChildOrganizationIds(TEST_PARENT_ORG_ID, true);
+        assertEquals(childOrganizationIds, Arrays.asList(TEST_ORG_ID, TEST_CHILD_ORG_ID));
+        assertEquals(cacheBackedOrganizationManagementDAO.getChildOrganizationIds(TEST_PARENT_ORG_ID, false),
+                Collections.singletonList(TEST_ORG_ID));
+
+        doReturn(Arrays.asList(TEST_CHILD_ORG_ID, TEST_ORG_ID, TEST_PARENT_ORG_ID, SUPER_ORG_ID))
+                .when(organizationManagementDAO).getAncestorOrganizationIds(TEST_CHILD_ORG_ID);
+        cacheBackedOrganizationManagementDAO.deleteOrganization(TEST_CHILD_ORG_ID);
+
+        // The deleted organization is removed from the cached hierarchy, which is not reloaded.
+        assertEquals(cacheBackedOrganizationManagementDAO.getChildOrganizationIds(TEST_ORG_ID, true),
+                Collections.emptyList());
+        assertEquals(cacheBackedOrganizationManagementDAO.countDescendants(TEST_PARENT_ORG_ID, Integer.MAX_VALUE), 1);
+        verify(organizationManagementDAO, times(1)).getDescendantOrganizationParentIds(TEST_PARENT_ORG_ID);
+        verify(organizationManagementDAO, never()).getChildOrganizationIds(any(), anyBoolean());
+        verify(organizationManagementDAO, never()).countDescendants(any(), anyInt());
+    }
+
+    @Test
+    public void testHierarchyCacheUpdatedOnMoveOrganization() throws OrganizationManagementException {
+
+        mockOrganizationHierarchy();
+        Organization childOrganization = new Organization();
+        childOrganization.setId(TEST_CHILD_ORG_ID);
+        ParentOrganizationDO parentOrganization = new ParentOrganizationDO();
+        parentOrganization.setId(TEST_ORG_ID);
+        childOrganization.setParent(parentOrganization);
+        assertEquals(cacheBackedOrganizationManagementDAO.getChildOrganizationIds(TEST_PARENT_ORG_ID, false),
+                Collections.singletonList(TEST_ORG_ID));
+        cacheBackedOrganizationManagementDAO.addOrganization(childOrganization);
+
+        doReturn(TEST_ORG_TENANT_DOMAIN).when(organizationManagementDAO).resolveTenantDomain(TEST_CHILD_ORG_ID);
+        doReturn(Arrays.asList(TEST_CHILD_ORG_ID, TEST_ORG_ID, TEST_PARENT_ORG_ID, SUPER_ORG_ID))
+                .when(organizationManagementDAO).getAncestorOrganizationIds(TEST_CHILD_ORG_ID);
+        doReturn(Collections.singletonMap(TEST_CHILD_ORG_ID, TEST_ORG_TENANT_DOMAIN)).when(organizationManagementDAO)
+                .getTenantDomainsOfSubtreeOrganizations(TEST_CHILD_ORG_ID);
+        assertTrue(cacheBackedOrganizationManagementDAO.isChildOfParent(TEST_CHILD_ORG_ID, TEST_ORG_ID));
+        cacheBackedOrganizationManagementDAO.moveOrganization(TEST_CHILD_ORG_ID, TEST_PARENT_ORG_ID, Instant.now());
+        doReturn(Arrays.asList(TEST_CHILD_ORG_ID, TEST_PARENT_ORG_ID, SUPER_ORG_ID))
+                .when(organizationManagementDAO).getAncestorOrganizationIds(TEST_CHILD_ORG_ID);
+
+        assertTrue(cacheBackedOrganizationManagementDAO.isImmediateChildOfParent(TEST_CHILD_ORG_ID,
+                TEST_PARENT_ORG_ID));
+        assertFalse(cacheBackedOrganizationManagementDAO.isChildOfParent(TEST_CHILD_ORG_ID, TEST_ORG_ID));
+        // The moved organization is moved within the cached hierarchy, which is not reloaded.
+        assertEquals(cacheBackedOrganizationManagementDAO.getChildOrganizationIds(TEST_PARENT_ORG_ID, false),
+                Arrays.asList(TEST_ORG_ID, TEST_CHILD_ORG_ID));
+        assertEquals(cacheBackedOrganizationManagementDAO.getChildOrganizationIds(TEST_ORG_ID, true),
+                Collections.emptyList());
+        verify(organizationManagementDAO, times(1)).moveOrganization(any(), any(), any());
+        verify(organizationManagementDAO, times(1)).getDescendantOrganizationParentIds(TEST_PARENT_ORG_ID);
+        verify(organizationManagementDAO, never()).isChildOfParent(any(), any());
+    }
+
+    @Test
+    public void testHierarchyLoadedBeforeWriteIsNotCached() throws OrganizationManagementException {
+
+        mockOrganizationHierarchy();
+        Organization childOrganization = new Organization();
+        childOrganization.setId(TEST_CHILD_ORG_ID);
+        ParentOrganizationDO parentOrganization = new ParentOrganizationDO();
+        parentOrganization.setId(TEST_ORG_ID);
+        childOrganization.setParent(parentOrganization);
+        Map<String, String> descendantOrganizationParentIds = new LinkedHashMap<>();
+        descendantOrganizationParentIds.put(TEST_ORG_ID, TEST_PARENT_ORG_ID);
+        // The child organization is added while the hierarchy without it is being loaded.
+        doAnswer(invocation -> {
+            cacheBackedOrganizationManagementDAO.addOrganization(childOrganization);
+            return descendantOrganizationParentIds;
+        }).doReturn(descendantOrganizationParentIds).when(organizationManagementDAO)
+                .getDescendantOrganizationParentIds(TEST_PARENT_ORG_ID);
+
+        assertEquals(cacheBackedOrganizationManagementDAO.getChildOrganizationIds(TEST_PARENT_ORG_ID, false),
+                Collections.singletonList(TEST_ORG_ID));
+        assertEquals(cacheBackedOrganizationManagementDAO.getChildOrganizationIds(TEST_PARENT_ORG_ID, false),
+                Collections.singletonList(TEST_ORG_ID));
+        verify(organizationManagementDAO, times(2)).getDescendantOrganizationParentIds(TEST_PARENT_ORG_ID);
+    }
+
+    @Test
+    public void testGetAncestorOrganizationIdsOfMultipleOrganizations() throws OrganizationManagementException {
+
+        List<String> ancestorsOfOrg = Arrays.asList(TEST_ORG_ID, TEST_PARENT_ORG_ID, SUPER_ORG_ID);
+        List<String> ancestorsOfChildOrg = Arrays.asList(TEST_CHILD_ORG_ID, TEST_ORG_ID, TEST_PARENT_ORG_ID,
+                SUPER_ORG_ID);
+        doReturn(Collections.singletonMap(TEST_CHILD_ORG_ID, TEST_ORG_TENANT_DOMAIN)).when(organizationManagementDAO)
+                .resolveTenantDomains(eq(Collections.singleton(TEST_CHILD_ORG_ID)));
+        doReturn(ancestorsOfOrg).when(organizationManagementDAO).getAncestorOrganizationIds(TEST_ORG_ID);
+        Map<String, List<String>> fetchedAncestors = new HashMap<>();
+        fetchedAncestors.put(TEST_CHILD_ORG_ID, ancestorsOfChildOrg);
+        doReturn(fetchedAncestors).when(organizationManagementDAO)
+                .getAncestorOrganizationIds(eq(Collections.singleton(TEST_CHILD_ORG_ID)));
+
+        // Ancestors of the first organization are already cached, hence only the second organization is fetched.
+        cacheBackedOrganizationManagementDAO.getAncestorOrganizationIds(TEST_ORG_ID);
+        Map<String, List<String>> ancestors = cacheBackedOrganizationManagementDAO.getAncestorOrganizationIds(
+                Arrays.asList(TEST_ORG_ID, TEST_CHILD_ORG_ID, TEST_ORG_ID));
+        assertEquals(ancestors.size(), 2);
+        assertEquals(ancestors.get(TEST_ORG_ID), ancestorsOfOrg);
+        assertEquals(ancestors.get(TEST_CHILD_ORG_ID), ancestorsOfChildOrg);
+
+        // Fetched ancestors are back-filled to the cache.
+        ancestors = cacheBackedOrganizationManagementDAO.getAncestorOrganizationIds(
+                Arrays.asList(TEST_ORG_ID, TEST_CHILD_ORG_ID));
+        assertEquals(ancestors.get(TEST_CHILD_ORG_ID), ancestorsOfChildOrg);
+        assertEquals(cacheBackedOrganizationManagementDAO.getAncestorOrganizationIds(TEST_CHILD_ORG_ID),
+                ancestorsOfChildOrg);
+        verify(organizationManagementDAO, times(1)).getAncestorOrganizationIds(anyCollection());
+        verify(organizationManagementDAO, never()).getAncestorOrganizationIds(TEST_CHILD_ORG_ID);
+        // The tenant domain of the missed organization is resolved in a single batch and cached afterwards.
+        verify(organizationManagementDAO, times(1)).resolveTenantDomains(anyCollection());
+        verify(organizationManagementDAO, never()).resolveTenantDomain(TEST_CHILD_ORG_ID);
+    }
+
+    @Test
+    public void testOrganizationTypeCachedAlongWithStatus() throws OrganizationManagementException {
+
+        doReturn(TEST_ORG_STATUS).when(organizationManagementDAO).getOrganizationStatus(TEST_ORG_ID);
+        doReturn("TENANT").when(organizationManagementDAO).getOrganizationType(TEST_ORG_ID);
+
+        assertEquals(cacheBackedOrganizationManagementDAO.getOrganizationStatus(TEST_ORG_ID), TEST_ORG_STATUS);
+        assertEquals(cacheBackedOrganizationManagementDAO.getOrganizationType(TEST_ORG_ID), "TENANT");
+        assertEquals(cacheBackedOrganizationManagementDAO.getOrganizationType(TEST_ORG_ID), "TENANT");
+        assertEquals(cacheBackedOrganizationManagementDAO.getOrganizationStatus(TEST_ORG_ID), TEST_ORG_STATUS);
+        verify(organizationManagementDAO, times(1)).getOrganizationStatus(TEST_ORG_ID);
+        verify(organizationManagementDAO, times(1)).getOrganizationType(TEST_ORG_ID);
+    }
+
+    @Test
+    public void testSubtreePredicatesReadFromDatabase() throws OrganizationManagementException {
+
+        mockOrganizationHierarchy();
+        doReturn(TEST_ORG_TENANT_DOMAIN).when(organizationManagementDAO).resolveTenantDomain(TEST_PARENT_ORG_ID);
+        doReturn(false).when(organizationManagementDAO).hasChildOrganizations(TEST_ORG_ID);
+        doReturn(true).when(organizationManagementDAO).hasActiveChildOrganizations(TEST_PARENT_ORG_ID);
+        doReturn(false).when(organizationManagementDAO).isParentOrganizationDisabled(TEST_ORG_ID);
+
+        // The predicates guard deletes and status changes, hence they are not served from a cache.
+        for (int i = 0; i < 3; i++) {
+            assertFalse(cacheBackedOrganizationManagementDAO.hasChildOrganizations(TEST_ORG_ID));
+            assertTrue(cacheBackedOrganizationManagementDAO.hasActiveChildOrganizations(TEST_PARENT_ORG_ID));
+            assertFalse(cacheBackedOrganizationManagementDAO.isParentOrganizationDisabled(TEST_ORG_ID));
+        }
+        verify(organizationManagementDAO, times(3)).hasChildOrganizations(TEST_ORG_ID);
+        verify(organizationManagementDAO, times(3)).hasActiveChildOrganizations(TEST_PARENT_ORG_ID);
+        verify(organizationManagementDAO, times(3)).isParentOrganizationDisabled(TEST_ORG_ID);
+    }
+
+    @Test
+    public void testOrganizationServedFromCacheAsCopies() throws OrganizationManagementException {
+
+        Organization organization = new Organization();
+        organization.setId(TEST_ORG_ID);
+        organization.setName(TEST_ORG_NAME);
+        organization.setStatus(TEST_ORG_STATUS);
+        organization.setVersion("v1.0.0");
+        organization.getParent().setId(TEST_PARENT_ORG_ID);
+        organization.getAttributes().add(new OrganizationAttribute("country", "Sri Lanka"));
+        doReturn(organization).when(organizationManagementDAO).getOrganization(TEST_ORG_ID);
+
+        Organization result = cacheBackedOrganizationManagementDAO.getOrganization(TEST_ORG_ID);
+        result.setName("Modified");
+        result.getAttributes().clear();
+
+        // The organization modified by a caller is not served to the other callers.
+        Organization cachedResult = cacheBackedOrganizationManagementDAO.getOrganization(TEST_ORG_ID);
+        assertEquals(cachedResult.getName(), TEST_ORG_NAME);
+        assertEquals(cachedResult.getVersion(), "v1.0.0");
+        assertEquals(cachedResult.getParent().getId(), TEST_PARENT_ORG_ID);
+        assertEquals(cachedResult.getAttributes().size(), 1);
+        assertEquals(cachedResult.getAttributes().get(0).getValue(), "Sri Lanka");
+        verify(organizationManagementDAO, times(1)).getOrganization(TEST_ORG_ID);
+
+        // Patching the organization clears the cached organization.
+        cacheBackedOrganizationManagementDAO.patchOrganization(TEST_ORG_ID, Instant.now(),
+                Collections.singletonList(new PatchOperation(PATCH_OP_REPLACE, "/name", "Updated")));
+        cacheBackedOrganizationManagementDAO.getOrganization(TEST_ORG_ID);
+        verify(organizationManagementDAO, times(2)).getOrganization(TEST_ORG_ID);
+
+        // Updating the organization clears the cached organization.
+        cacheBackedOrganizationManagementDAO.updateOrganization(TEST_ORG_ID, organization);
+        cacheBackedOrganizationManagementDAO.getOrganization(TEST_ORG_ID);
+        verify(organizationManagementDAO, times(3)).getOrganization(TEST_ORG_ID);
+    }
+
+    @Test
+    public void testChildOrganizationListingsServedFromCacheUntilSubtreeChanges()
+            throws OrganizationManagementException {
+
+        mockOrganizationHierarchy();
+        BasicOrganization childOrganization = new BasicOrganization();
+        childOrganization.setId(TEST_ORG_ID);
+        childOrganization.setName(TEST_ORG_NAME);
+        childOrganization.setStatus(TEST_ORG_STATUS);
+        doReturn(Collections.singletonList(childOrganization)).when(organizationManagementDAO)
+                .getChildOrganizations(TEST_PARENT_ORG_ID, false);
+        OrganizationNode childOrganizationNode = new OrganizationNode(TEST_ORG_ID, TEST_ORG_NAME,
+                TEST_ORG_CREATED_TIME, TEST_ORG_TENANT_DOMAIN, TEST_PARENT_ORG_ID);
+        childOrganizationNode.addChild(new OrganizationNode(TEST_CHILD_ORG_ID, "CHILD", TEST_ORG_CREATED_TIME,
+                "child.com", TEST_ORG_ID));
+        doReturn(Collections.singletonList(childOrganizationNode)).when(organizationManagementDAO)
+                .getChildOrganizationGraph(TEST_PARENT_ORG_ID, true);
+
+        List<BasicOrganization> childOrganizations =
+                cacheBackedOrganizationManagementDAO.getChildOrganizations(TEST_PARENT_ORG_ID, false);
+        childOrganizations.get(0).setName("Modified");
+        List<OrganizationNode> childOrganizationGraph =
+                cacheBackedOrganizationManagementDAO.getChildOrganizationGraph(TEST_PARENT_ORG_ID, true);
+        childOrganizationGraph.get(0).getChildren().clear();
+
+        // The listings modified by a caller are not served to the other callers.
+        childOrganizations = cacheBackedOrganizationManagementDAO.getChildOrganizations(TEST_PARENT_ORG_ID, false);
+        assertEquals(childOrganizations.size(), 1);
+        assertEquals(childOrganizations.get(0).getName(), TEST_ORG_NAME);
+        assertEquals(childOrganizations.get(0).getStatus(), TEST_ORG_STATUS);
+        childOrganizationGraph = cacheBackedOrganizationManagementDAO.getChildOrganizationGraph(TEST_PARENT_ORG_ID,
+                true);
+        assertEquals(childOrganizationGraph.size(), 1);
+        assertEquals(childOrganizationGraph.get(0).getChildren().size(), 1);
+        assertEquals(childOrganizationGraph.get(0).getChildren().get(0).getId(), TEST_CHILD_ORG_ID);
+        assertEquals(childOrganizationGraph.get(0).getChildren().get(0).getParentId(), TEST_ORG_ID);
+        verify(organizationManagementDAO, times(1)).getChildOrganizations(TEST_PARENT_ORG_ID, false);
+        verify(organizationManagementDAO, times(1)).getChildOrganizationGraph(TEST_PARENT_ORG_ID, true);
+
+        // Patching the fields which are not listed keeps the listings of the subtree.
+        cacheBackedOrganizationManagementDAO.patchOrganization(TEST_ORG_ID, Instant.now(), Collections.singletonList(
+                new PatchOperation(PATCH_OP_REPLACE, PATCH_PATH_ORG_DESCRIPTION, "Updated")));
+        cacheBackedOrganizationManagementDAO.getChildOrganizations(TEST_PARENT_ORG_ID, false);
+        verify(organizationManagementDAO, times(1)).getChildOrganizations(TEST_PARENT_ORG_ID, false);
+
+        // Updating an organization in the subtree invalidates all the listings of the subtree.
+        Organization updatedOrganization = new Organization();
+        updatedOrganization.setName(TEST_ORG_NAME);
+        updatedOrganization.setStatus(TEST_ORG_STATUS);
+        updatedOrganization.setDescription("Updated");
+        cacheBackedOrganizationManagementDAO.updateOrganization(TEST_ORG_ID, updatedOrganization);
+        cacheBackedOrganizationManagementDAO.getChildOrganizations(TEST_PARENT_ORG_ID, false);
+        verify(organizationManagementDAO, times(2)).getChildOrganizations(TEST_PARENT_ORG_ID, false);
+
+        // Changing the status of an organization in the subtree invalidates all the listings of the subtree.
+        cacheBackedOrganizationManagementDAO.patchOrganization(TEST_ORG_ID, Instant.now(),
+                Collections.singletonList(new PatchOperation(PATCH_OP_REPLACE, PATCH_PATH_ORG_STATUS, "DISABLED")));
+        cacheBackedOrganizationManagementDAO.getChildOrganizations(TEST_PARENT_ORG_ID, false);
+        cacheBackedOrganizationManagementDAO.getChildOrganizationGraph(TEST_PARENT_ORG_ID, true);
+        verify(organizationManagementDAO, times(3)).getChildOrganizations(TEST_PARENT_ORG_ID, false);
+        verify(organizationManagementDAO, times(2)).getChildOrganizationGraph(TEST_PARENT_ORG_ID, true);
+
+        // Adding an organization to the subtree invalidates all the listings of the subtree.
+        Organization organization = new Organization();
+        organization.setId(TEST_CHILD_ORG_ID);
+        organization.getParent().setId(TEST_ORG_ID);
+        cacheBackedOrganizationManagementDAO.addOrganization(organization);
+        cacheBackedOrganizationManagementDAO.getChildOrganizations(TEST_PARENT_ORG_ID, false);
+        cacheBackedOrganizationManagementDAO.getChildOrganizations(TEST_PARENT_ORG_ID, false);
+        verify(organizationManagementDAO, times(4)).getChildOrganizations(TEST_PARENT_ORG_ID, false);
+    }
+
+    @Test
+    public void testAncestorChecksServedFromCachedAncestorPath() throws OrganizationManagementException {
+
+        mockOrganizationHierarchy();
+        doReturn(TEST_ORG_TENANT_DOMAIN).when(organizationManagementDAO).resolveTenantDomain(TEST_PARENT_ORG_ID);
+        doReturn(TEST_ORG_TENANT_DOMAIN).when(organizationManagementDAO).resolveTenantDomain(TEST_CHILD_ORG_ID);
+        doReturn(Arrays.asList(TEST_CHILD_ORG_ID, TEST_ORG_ID, TEST_PARENT_ORG_ID, SUPER_ORG_ID))
+                .when(organizationManagementDAO).getAncestorOrganizationIds(TEST_CHILD_ORG_ID);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(cacheBackedOrganizationManagementDAO.isChildOfParent(TEST_CHILD_ORG_ID, SUPER_ORG_ID));
+            assertTrue(cacheBackedOrganizationManagementDAO.isChildOfParent(TEST_CHILD_ORG_ID, TEST_CHILD_ORG_ID));
+            assertFalse(cacheBackedOrganizationManagementDAO.isChildOfParent(TEST_ORG_ID, TEST_CHILD_ORG_ID));
+            assertTrue(cacheBackedOrganizationManagementDAO.isImmediateChildOfParent(TEST_CHILD_ORG_ID, TEST_ORG_ID));
+            assertFalse(cacheBackedOrganizationManagementDAO.isImmediateChildOfParent(TEST_CHILD_ORG_ID,
+                    TEST_PARENT_ORG_ID));
+            assertEquals(cacheBackedOrganizationManagementDAO.getAnAncestorOrganizationIdInGivenDepth(
+                    TEST_CHILD_ORG_ID, 2), TEST_PARENT_ORG_ID);
+            assertNull(cacheBackedOrganizationManagementDAO.getAnAncestorOrganizationIdInGivenDepth(
+                    TEST_CHILD_ORG_ID, 4));
+            assertEquals(cacheBackedOrganizationManagementDAO.getRelativeDepthBetweenOrganizationsInSameBranch(
+                    TEST_CHILD_ORG_ID, TEST_PARENT_ORG_ID), 2);
+            assertEquals(cacheBackedOrganizationManagementDAO.getRelativeDepthBetweenOrganizationsInSameBranch(
+                    SUPER_ORG_ID, TEST_CHILD_ORG_ID), 3);
+        }
+
+        // The ancestors of each organization are loaded once, and no check is answered by the database afterwards.
+        // The child organization is not in the loaded hierarchy, hence its checks are answered by its ancestor path.
+        verify(organizationManagementDAO, times(1)).getAncestorOrganizationIds(TEST_CHILD_ORG_ID);
+        verify(organizationManagementDAO, times(1)).getAncestorOrganizationIds(TEST_ORG_ID);
+        verify(organizationManagementDAO, times(1)).getDescendantOrganizationParentIds(TEST_PARENT_ORG_ID);
+        verify(organizationManagementDAO, never()).isChildOfParent(any(), any());
+        verify(organizationManagementDAO, never()).isImmediateChildOfParent(any(), any());
+        verify(organizationManagementDAO, never()).getAnAncestorOrganizationIdInGivenDepth(any(), anyInt());
+        verify(organizationManagementDAO, never()).getRelativeDepthBetweenOrganizationsInSameBranch(any(), any());
+    }
+
+    @Test
+    public void testOrganizationPermissionsServedFromCacheUntilCleared() throws OrganizationManagementException {
+
+        String userId = "4e1a9c2d-7b3f-4a85-b6d0-2f8e5c1a9d37";
+        String otherUserId = "9b7c3e1f-2d4a-4c68-8e5b-0a6f1d3c7e92";
+        doReturn(new ArrayList<>(ALL_ORGANIZATION_PERMISSIONS)).when(organizationManagementDAO)
+                .getOrganizationPermissions(TEST_ORG_ID, userId);
+        doReturn(Arrays.asList(VIEW_ORGANIZATION_PERMISSION, VIEW_ORGANIZATION_PERMISSION)).when(
+                organizationManagementDAO).getOrganizationPermissions(TEST_ORG_ID, otherUserId);
+
+        for (int i = 0; i < 3; i++) {
+            // Holding all the organization permissions is served as the shared permission list.
+            assertSame(cacheBackedOrganizationManagementDAO.getOrganizationPermissions(TEST_ORG_ID, userId),
+                    ALL_ORGANIZATION_PERMISSIONS);
+            assertEquals(cacheBackedOrganizationManagementDAO.getOrganizationPermissions(TEST_ORG_ID, otherUserId),
+                    Collections.singletonList(VIEW_ORGANIZATION_PERMISSION));
+        }
+        verify(organizationManagementDAO, times(1)).getOrganizationPermissions(TEST_ORG_ID, userId);
+        verify(organizationManagementDAO, times(1)).getOrganizationPermissions(TEST_ORG_ID, otherUserId);
+
+        // Clearing the permissions of a user does not clear the permissions of the other users.
+        cacheBackedOrganizationManagementDAO.clearOrganizationPermissionCache(TEST_ORG_ID, userId);
+        cacheBackedOrganizationManagementDAO.getOrganizationPermissions(TEST_ORG_ID, userId);
+        cacheBackedOrganizationManagementDAO.getOrganizationPermissions(TEST_ORG_ID, otherUserId);
+        verify(organizationManagementDAO, times(2)).getOrganizationPermissions(TEST_ORG_ID, userId);
+        verify(organizationManagementDAO, times(1)).getOrganizationPermissions(TEST_ORG_ID, otherUserId);
+
+        // Clearing the permissions of the organization clears the permissions of all the users.
+        cacheBackedOrganizationManagementDAO.clearOrganizationPermissionCache(TEST_ORG_ID);
+        cacheBackedOrganizationManagementDAO.getOrganizationPermissions(TEST_ORG_ID, userId);
+        cacheBackedOrganizationManagementDAO.getOrganizationPermissions(TEST_ORG_ID, otherUserId);
+        verify(organizationManagementDAO, times(3)).getOrganizationPermissions(TEST_ORG_ID, userId);
+        verify(organizationManagementDAO, times(2)).getOrganizationPermissions(TEST_ORG_ID, otherUserId);
+    }
+
+    @Test
+    public void testBasicOrganizationDetailsLoadedOnlyForCacheMisses() throws OrganizationManagementException {
+
+        // The parent organization does not have a tenant yet, hence it is not cached.
+        doReturn(getBasicOrganizations(TEST_ORG_ID, TEST_PARENT_ORG_ID)).when(organizationManagementDAO)
+                .getBasicOrganizationDetailsByOrgIDs(Arrays.asList(TEST_ORG_ID, TEST_PARENT_ORG_ID));
+        doReturn(getBasicOrganizations(TEST_CHILD_ORG_ID, TEST_PARENT_ORG_ID)).when(organizationManagementDAO)
+                .getBasicOrganizationDetailsByOrgIDs(Arrays.asList(TEST_PARENT_ORG_ID, TEST_CHILD_ORG_ID));
+
+        Map<String, BasicOrganization> result = cacheBackedOrganizationManagementDAO
+                .getBasicOrganizationDetailsByOrgIDs(Arrays.asList(TEST_ORG_ID, TEST_PARENT_ORG_ID));
+        assertEquals(result.keySet(), new HashSet<>(Arrays.asList(TEST_ORG_ID, TEST_PARENT_ORG_ID)));
+
+        result = cacheBackedOrganizationManagementDAO.getBasicOrganizationDetailsByOrgIDs(
+                Arrays.asList(TEST_ORG_ID, TEST_PARENT_ORG_ID, TEST_CHILD_ORG_ID));
+        assertEquals(result.size(), 3);
+        assertEquals(result.get(TEST_ORG_ID).getName(), TEST_ORG_NAME);
+        assertEquals(result.get(TEST_ORG_ID).getOrganizationHandle(), TEST_ORG_TENANT_DOMAIN);
+        assertNull(result.get(TEST_PARENT_ORG_ID).getOrganizationHandle());
+        verify(organizationManagementDAO, times(1)).getBasicOrganizationDetailsByOrgIDs(
+                Arrays.asList(TEST_PARENT_ORG_ID, TEST_CHILD_ORG_ID));
+
+        // Modifying a returned organization does not modify the cached organization.
+        result.get(TEST_ORG_ID).setName("Modified");
+        result = cacheBackedOrganizationManagementDAO.getBasicOrganizationDetailsByOrgIDs(
+                Arrays.asList(TEST_ORG_ID, TEST_CHILD_ORG_ID));
+        assertEquals(result.get(TEST_ORG_ID).getName(), TEST_ORG_NAME);
+        verify(organizationManagementDAO, times(2)).getBasicOrganizationDetailsByOrgIDs(any());
+    }
+
+    private Map<String, BasicOrganization> getBasicOrganizations(String organizationId,
+                                                                 String organizationIdWithoutTenant) {
+
+        Map<String, BasicOrganization> basicOrganizations = new HashMap<>();
+        BasicOrganization basicOrganization = new BasicOrganization();
+        basicOrganization.setId(organizationId);
+        basicOrganization.setName(organizationId.equals(TEST_ORG_ID) ? TEST_ORG_NAME : organizationId);
+        basicOrganization.setStatus(TEST_ORG_STATUS);
+        basicOrganization.setCreated(TEST_ORG_CREATED_TIME);
+        basicOrganization.setOrganizationHandle(organizationId.equals(TEST_ORG_ID) ? TEST_ORG_TENANT_DOMAIN :
+                organizationId + ".com");
+        basicOrganizations.put(organizationId, basicOrganization);
+        BasicOrganization basicOrganizationWithoutTenant = new BasicOrganization();
+        basicOrganizationWithoutTenant.setId(organizationIdWithoutTenant);
+        basicOrganizationWithoutTenant.setName(organizationIdWithoutTenant);
+        basicOrganizations.put(organizationIdWithoutTenant, basicOrganizationWithoutTenant);
+        return basicOrganizations;
+    }
+
+    private void mockOrganizationHierarchy() throws OrganizationManagementException {
+
+        doReturn(Arrays.asList(TEST_ORG_ID, TEST_PARENT_ORG_ID, SUPER_ORG_ID)).when(organizationManagementDAO)
+                .getAncestorOrganizationIds(TEST_ORG_ID);
+        doReturn(Arrays.asList(TEST_PARENT_ORG_ID, SUPER_ORG_ID)).when(organizationManagementDAO)
+                .getAncestorOrganizationIds(TEST_PARENT_ORG_ID);
+        Map<String, String> descendantOrganizationParentIds = new LinkedHashMap<>();
+        descendantOrganizationParentIds.put(TEST_ORG_ID, TEST_PARENT_ORG_ID);
+        doReturn(descendantOrganizationParentIds).when(organizationManagementDAO)
+                .getDescendantOrganizationParentIds(TEST_PARENT_ORG_ID);
     }
- }
+}
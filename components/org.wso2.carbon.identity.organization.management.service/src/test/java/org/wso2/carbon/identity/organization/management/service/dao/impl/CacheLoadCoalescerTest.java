@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.service.dao.impl;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class CacheLoadCoalescerTest {
+
+    private static final String LOAD_NAME = "resolveTenantDomain";
+    private static final String KEY = "37b035d3-ca7b-4bcf-90c9-6adda2a08664";
+    private static final long MAX_WAIT_TIME = 10000;
+    private static final int CONCURRENT_CALLER_COUNT = 5;
+
+    @Test
+    public void testConcurrentLoadsShareResult() throws Exception {
+
+        CacheLoadCoalescer coalescer = new CacheLoadCoalescer();
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLER_COUNT + 1);
+        try {
+            Future<String> leader = executor.submit(() -> coalescer.load(LOAD_NAME, KEY, MAX_WAIT_TIME, () -> {
+                loadCount.incrementAndGet();
+                loadStarted.countDown();
+                releaseLoad.await();
+                return "sub.com";
+            }));
+            assertTrue(loadStarted.await(MAX_WAIT_TIME, TimeUnit.MILLISECONDS));
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CALLER_COUNT; i++) {
+                followers.add(executor.submit(() -> coalescer.load(LOAD_NAME, KEY, MAX_WAIT_TIME, () -> {
+                    loadCount.incrementAndGet();
+                    return "other.com";
+                })));
+            }
+            // Give the followers time to join the in-flight load before it completes.
+            Thread.sleep(200);
+            releaseLoad.countDown();
+
+            assertEquals(leader.get(), "sub.com");
+            for (Future<String> follower : followers) {
+                assertEquals(follower.get(), "sub.com");
+            }
+            assertEquals(loadCount.get(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentLoadsShareFailure() throws Exception {
+
+        CacheLoadCoalescer coalescer = new CacheLoadCoalescer();
+        OrganizationManagementServerException failure = new OrganizationManagementServerException("error");
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> coalescer.load(LOAD_NAME, KEY, MAX_WAIT_TIME, () -> {
+                loadStarted.countDown();
+                releaseLoad.await();
+                throw failure;
+            }));
+            assertTrue(loadStarted.await(MAX_WAIT_TIME, TimeUnit.MILLISECONDS));
+            Future<String> follower = executor.submit(() -> coalescer.load(LOAD_NAME, KEY, MAX_WAIT_TIME,
+                    () -> "sub.com"));
+            Thread.sleep(200);
+            releaseLoad.countDown();
+
+            assertSame(getFailure(leader), failure);
+            assertSame(getFailure(follower), failure);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLoadWithoutWaitingAfterTimeout() throws Exception {
+
+        CacheLoadCoalescer coalescer = new CacheLoadCoalescer();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> coalescer.load(LOAD_NAME, KEY, MAX_WAIT_TIME, () -> {
+                loadStarted.countDown();
+                releaseLoad.await();
+                return "sub.com";
+            }));
+            assertTrue(loadStarted.await(MAX_WAIT_TIME, TimeUnit.MILLISECONDS));
+
+            assertEquals(coalescer.load(LOAD_NAME, KEY, 10, () -> "other.com"), "other.com");
+            releaseLoad.countDown();
+            assertEquals(leader.get(), "sub.com");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvalidatedLoadIsNotShared() throws Exception {
+
+        CacheLoadCoalescer coalescer = new CacheLoadCoalescer();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> coalescer.load(LOAD_NAME, KEY, MAX_WAIT_TIME, () -> {
+                loadStarted.countDown();
+                releaseLoad.await();
+                return "stale.com";
+            }));
+            assertTrue(loadStarted.await(MAX_WAIT_TIME, TimeUnit.MILLISECONDS));
+
+            coalescer.invalidate(KEY);
+            assertEquals(coalescer.load(LOAD_NAME, KEY, MAX_WAIT_TIME, () -> "sub.com"), "sub.com");
+            releaseLoad.countDown();
+            assertEquals(leader.get(), "stale.com");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Throwable getFailure(Future<String> load) throws InterruptedException {
+
+        try {
+            load.get();
+            fail("The load is expected to fail.");
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        return null;
+    }
+}